@@ -0,0 +1,43 @@
+package net.spatula.dspatula.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Execution context which divides up a Discrete-Time Signal Sequence into one chunk per core, counting the calling thread as a
+ * core, and runs one of the chunks on the calling thread.
+ *
+ * The ordinary DiscreteSystemParallelExecutor hands every chunk to the pool and then parks the calling thread until they're all
+ * done, which leaves one core's worth of time on the table. Here the calling thread does its share of the work instead of waiting,
+ * and once it's done it waits only for whatever the pool hasn't finished yet.
+ *
+ * The contract is the same as for the DiscreteSystemParallelExecutor: sequence[0] is the accumulator, sequences of the same length
+ * are chunked alike, and shorter sequences are passed through whole. Sequences too short to be worth dividing are run entirely on
+ * the calling thread, as they always have been.
+ *
+ * @author spatula
+ *
+ */
+public class CallerRunsDiscreteSystemParallelExecutor extends DiscreteSystemParallelExecutor {
+
+    protected CallerRunsDiscreteSystemParallelExecutor(CoreAwareParallelExecutor executor, int minimumDivisionSize) {
+        super(executor, minimumDivisionSize);
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.CALLER_RUNS;
+    }
+
+    @Override
+    protected int getChunkCount() {
+        return executor.getCoreCount() + 1;
+    }
+
+    @Override
+    protected <V> List<Future<V>> invokeAll(List<Callable<V>> callables) throws InterruptedException {
+        return executor.invokeAllCallerRuns(callables);
+    }
+
+}
@@ -0,0 +1,48 @@
+package net.spatula.dspatula.concurrent;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Execution context which divides a summation into one range of points per core, counting the calling thread as a core, and runs
+ * one of the ranges on the calling thread rather than leaving it parked while the pool does all the work.
+ *
+ * Summations whose total work (the number of points times the number of terms in each point's sum) is too small to be worth
+ * dividing aren't divided at all; they run as a single range on the calling thread and never touch the pool.
+ *
+ * @author spatula
+ *
+ */
+public class CallerRunsSummationParallelExecutor extends SummationParallelExecutor {
+
+    private static final int MINIMUM_DIVISION_WORK = 1 << 16;
+
+    protected CallerRunsSummationParallelExecutor(CoreAwareParallelExecutor executor) {
+        super(executor);
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.CALLER_RUNS;
+    }
+
+    @Override
+    protected int getChunkCount() {
+        return executor.getCoreCount() + 1;
+    }
+
+    @Override
+    protected int getChunkSize(int summationLength, int inputLength) {
+        if ((long) summationLength * (long) inputLength < MINIMUM_DIVISION_WORK) {
+            return Math.max(1, summationLength);
+        }
+        return super.getChunkSize(summationLength, inputLength);
+    }
+
+    @Override
+    protected List<Future<Void>> invokeAll(List<Callable<Void>> callables) throws InterruptedException {
+        return executor.invokeAllCallerRuns(callables);
+    }
+
+}
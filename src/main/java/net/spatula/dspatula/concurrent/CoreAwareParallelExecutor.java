@@ -1,13 +1,23 @@
 package net.spatula.dspatula.concurrent;
 
 import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,6 +32,7 @@ public class CoreAwareParallelExecutor {
 
     protected final int cores;
     protected ExecutorService threadPool;
+    private ForkJoinPool forkJoinPool;
     private static CoreAwareParallelExecutor instance;
 
     private static final Logger LOG = LoggerFactory.getLogger(CoreAwareParallelExecutor.class);
@@ -53,6 +64,19 @@ public class CoreAwareParallelExecutor {
         }
     }
 
+    private static final class CustomForkJoinWorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+        private static final Logger LOG = LoggerFactory.getLogger(CustomForkJoinWorkerThreadFactory.class);
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("CoreAwareParallelExecutor-forkJoinPool-" + threadNumber.getAndIncrement());
+            LOG.trace("Created thread {}", thread.getName());
+            return thread;
+        }
+    }
+
     protected CoreAwareParallelExecutor(int cores) {
         this.cores = cores;
 
@@ -78,8 +102,84 @@ public class CoreAwareParallelExecutor {
         return threadPool.invokeAll(tasks);
     }
 
+    /**
+     * Execute all of the tasks, running the first one on the calling thread while the rest run on the pool, and wait for all of
+     * them to finish. Like invokeAll, the Futures returned are all done, and any exceptions are found by calling get() on them.
+     *
+     * @param tasks
+     * @return
+     * @throws InterruptedException
+     *             if interrupted while waiting, in which case unfinished tasks are cancelled
+     */
+    public <T> List<Future<T>> invokeAllCallerRuns(List<? extends Callable<T>> tasks) throws InterruptedException {
+        final List<Future<T>> futures = new ArrayList<>(tasks.size());
+        if (tasks.isEmpty()) {
+            return futures;
+        }
+
+        final FutureTask<T> callerTask = new FutureTask<>(tasks.get(0));
+        futures.add(callerTask);
+        boolean done = false;
+        try {
+            for (int index = 1; index < tasks.size(); index++) {
+                futures.add(threadPool.submit(tasks.get(index)));
+            }
+            callerTask.run();
+            for (final Future<T> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException | CancellationException e) {
+                    // The caller will find these when it inspects the futures.
+                }
+            }
+            done = true;
+            return futures;
+        } finally {
+            if (!done) {
+                for (final Future<T> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Run the task on the pool without waiting for it.
+     *
+     * @param task
+     * @return a future which completes on a pool thread when the task is done
+     */
+    public CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, threadPool);
+    }
+
+    /**
+     * Run the supplier on the pool without waiting for it.
+     *
+     * @param supplier
+     * @return a future which completes on a pool thread with the supplier's result
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, threadPool);
+    }
+
     public int getCoreCount() {
         return cores;
     }
 
+    /**
+     * Return a work-stealing ForkJoinPool with the same number of threads as our fixed pool. It's created the first time it's asked
+     * for, since most callers never need it.
+     *
+     * @return
+     */
+    public synchronized ForkJoinPool getForkJoinPool() {
+        if (forkJoinPool == null) {
+            forkJoinPool = new ForkJoinPool(cores, new CustomForkJoinWorkerThreadFactory(),
+                    new LoggingUncaughtExceptionHandler(LOG), false);
+            LOG.debug("Created a fork/join execution environment using {} threads", cores);
+        }
+        return forkJoinPool;
+    }
+
 }
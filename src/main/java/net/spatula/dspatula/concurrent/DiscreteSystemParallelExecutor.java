@@ -1,10 +1,18 @@
 package net.spatula.dspatula.concurrent;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -12,6 +20,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.LongSequence;
+import net.spatula.dspatula.time.sequence.MultiChannelSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
 import net.spatula.dspatula.time.sequence.Sequence;
 
 /**
@@ -20,21 +31,39 @@ import net.spatula.dspatula.time.sequence.Sequence;
  *
  * Very short sequences may be run on a single core to avoid the overhead of division.
  *
+ * The default instance divides the work into one chunk per core. Other ExecutionModes may be selected when obtaining the instance.
+ *
+ * The length below which a sequence isn't divided can be set per worker class through getDivisionSizes(), and measured with a
+ * DivisionSizeCalibrator. If the system property dspatula.divisionSizes names a file of stored DivisionSizes, the default
+ * instances load it when they're created.
+ *
+ * LongSequences, which may be longer than an int can count, are chunked using their long starts and ends.
+ *
+ * executeAsync is the non-blocking counterpart of execute. The chunks run on the CoreAwareParallelExecutor's pool and nothing
+ * waits for them; the future completes when the last one is done.
+ *
+ * MultiChannelSequences get a worker run over every channel in a single call, with the work divided into channel × chunk tiles, so
+ * that a bank of channels too short to divide individually still spreads across the cores.
+ *
+ * reduce runs a ReducingWorker over the sequences, divided the same way, and combines the partial results of the chunks.
+ *
  * @author spatula
  *
  */
 public class DiscreteSystemParallelExecutor {
 
-    protected final int minimumDivisionSize;
+    protected final DivisionSizes divisionSizes;
     protected CoreAwareParallelExecutor executor;
-    private static DiscreteSystemParallelExecutor instance;
+    private static final Map<ExecutionMode, DiscreteSystemParallelExecutor> instances = new EnumMap<>(ExecutionMode.class);
 
     private static final Logger LOG = LoggerFactory.getLogger(DiscreteSystemParallelExecutor.class);
 
     private static final int DEFAULT_MIN_DIVISION_SIZE = 8820; // Magic number found empirically to be ~8500
 
+    public static final String DIVISION_SIZES_PROPERTY = "dspatula.divisionSizes";
+
     protected DiscreteSystemParallelExecutor(CoreAwareParallelExecutor executor, int minimumDivisionSize) {
-        this.minimumDivisionSize = minimumDivisionSize;
+        this.divisionSizes = new DivisionSizes(minimumDivisionSize);
         this.executor = executor;
     }
 
@@ -43,23 +72,84 @@ public class DiscreteSystemParallelExecutor {
      *
      * @return a singleton DiscreteSystemParallelExecutor
      */
-    public synchronized static DiscreteSystemParallelExecutor getDefaultInstance() {
+    public static DiscreteSystemParallelExecutor getDefaultInstance() {
+        return getDefaultInstance(ExecutionMode.FIXED_CHUNKS);
+    }
+
+    /**
+     * Create a DiscreteSystemParallelExecutor using the given ExecutionMode, with the number of parallel threads equal to the
+     * number of available cores minus one.
+     *
+     * @param mode
+     * @return a singleton DiscreteSystemParallelExecutor for that mode
+     */
+    public synchronized static DiscreteSystemParallelExecutor getDefaultInstance(ExecutionMode mode) {
+        final DiscreteSystemParallelExecutor instance = instances.get(mode);
         if (instance != null) {
             return instance;
         }
-        instance = new DiscreteSystemParallelExecutor(CoreAwareParallelExecutor.getInstance(), DEFAULT_MIN_DIVISION_SIZE);
+        final DiscreteSystemParallelExecutor newInstance = create(mode, CoreAwareParallelExecutor.getInstance(),
+                DEFAULT_MIN_DIVISION_SIZE);
+        loadStoredDivisionSizes(newInstance);
+        instances.put(mode, newInstance);
 
-        return instance;
+        return newInstance;
     }
 
     protected synchronized static DiscreteSystemParallelExecutor getInstance(CoreAwareParallelExecutor executor) {
+        final DiscreteSystemParallelExecutor instance = instances.get(ExecutionMode.FIXED_CHUNKS);
         if (instance != null) {
             return instance;
         }
 
-        instance = new DiscreteSystemParallelExecutor(executor, DEFAULT_MIN_DIVISION_SIZE);
+        final DiscreteSystemParallelExecutor newInstance = new DiscreteSystemParallelExecutor(executor, DEFAULT_MIN_DIVISION_SIZE);
+        instances.put(ExecutionMode.FIXED_CHUNKS, newInstance);
+
+        return newInstance;
+    }
+
+    protected static DiscreteSystemParallelExecutor create(ExecutionMode mode, CoreAwareParallelExecutor executor,
+            int minimumDivisionSize) {
+        switch (mode) {
+        case FORK_JOIN:
+            return new ForkJoinDiscreteSystemParallelExecutor(executor, minimumDivisionSize);
+        case CALLER_RUNS:
+            return new CallerRunsDiscreteSystemParallelExecutor(executor, minimumDivisionSize);
+        case FIXED_CHUNKS:
+        default:
+            return new DiscreteSystemParallelExecutor(executor, minimumDivisionSize);
+        }
+    }
+
+    private static void loadStoredDivisionSizes(DiscreteSystemParallelExecutor instance) {
+        final String fileName = System.getProperty(DIVISION_SIZES_PROPERTY);
+        if (fileName == null) {
+            return;
+        }
+        final Path path = Paths.get(fileName);
+        if (!Files.isReadable(path)) {
+            LOG.warn("Cannot read division sizes from {}; using defaults", path);
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            instance.getDivisionSizes().load(inputStream);
+            LOG.debug("Loaded division sizes from {}", path);
+        } catch (final IOException e) {
+            LOG.warn("Failed to load division sizes from {}; using defaults", path, e);
+        }
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.FIXED_CHUNKS;
+    }
 
-        return instance;
+    /**
+     * Return the minimum sequence lengths worth dividing, which may be changed at any time.
+     *
+     * @return
+     */
+    public DivisionSizes getDivisionSizes() {
+        return divisionSizes;
     }
 
     private static class WorkerSequenceCallable<T extends Sequence<T>> implements Callable<Void> {
@@ -103,36 +193,200 @@ public class DiscreteSystemParallelExecutor {
      */
     public <T extends Sequence<T>> void execute(final DiscreteSystemWorker<T> discreteSystemWorker,
             @SuppressWarnings("unchecked") T... sequences) throws ProcessingException {
-        final int firstSequenceStart = sequences[0].getStart();
-        final int firstSequenceLength = sequences[0].getLength();
-        final int firstSequenceEnd = sequences[0].getEnd();
+        final long firstSequenceLength = lengthOf(sequences[0]);
 
-        if (firstSequenceLength < minimumDivisionSize) {
+        if (firstSequenceLength < divisionSizes.get(discreteSystemWorker.getClass())) {
             discreteSystemWorker.operate(Collections.unmodifiableList(Arrays.asList(sequences)));
             return;
         }
 
-        final int chunkSize = (int) Math.ceil((double) sequences[0].getLength() / (double) executor.getCoreCount());
+        executeParallel(discreteSystemWorker, sequences);
+    }
 
-        final List<Callable<Void>> callables = new ArrayList<>(executor.getCoreCount());
-        for (int start = firstSequenceStart; start <= firstSequenceEnd; start += chunkSize) {
-            final int end = Math.min(start + chunkSize - 1, firstSequenceEnd);
+    /**
+     * Perform the same work as execute, but without blocking the calling thread.
+     *
+     * Since nothing blocks, this may safely be called from a pool thread, for example from a stage of another future's chain.
+     *
+     * @param discreteSystemWorker
+     * @param sequences
+     * @return a future which completes when the work is done, or fails with a ProcessingException
+     */
+    public <T extends Sequence<T>> CompletableFuture<Void> executeAsync(final DiscreteSystemWorker<T> discreteSystemWorker,
+            @SuppressWarnings("unchecked") T... sequences) {
+        final long firstSequenceLength = lengthOf(sequences[0]);
 
-            final List<T> subsequences = new ArrayList<>(sequences.length);
+        if (firstSequenceLength < divisionSizes.get(discreteSystemWorker.getClass())) {
+            final List<T> wholeSequences = Collections.unmodifiableList(Arrays.asList(sequences));
+            return ProcessingFutures.withProcessingException(executor.runAsync(() -> discreteSystemWorker.operate(wholeSequences)));
+        }
 
-            for (int seqNum = 0; seqNum < sequences.length; seqNum++) {
-                if (sequences[seqNum].getLength() < firstSequenceLength) {
-                    subsequences.add(seqNum, sequences[seqNum]);
-                } else {
-                    subsequences.add(seqNum, sequences[seqNum].subsequence(start, end));
+        return executeParallelAsync(discreteSystemWorker, sequences);
+    }
+
+    /**
+     * Reduce the Sequence(s) to a result with a ReducingWorker, dividing them up exactly as execute would. Each chunk is accumulated
+     * separately, in parallel, and the accumulators are then combined in chunk order.
+     *
+     * @param reducingWorker
+     * @param sequences
+     * @return the accumulator holding the result
+     * @throws ProcessingException
+     *             If errors occur while running the job
+     */
+    public <T extends Sequence<T>, A> A reduce(final ReducingWorker<T, A> reducingWorker,
+            @SuppressWarnings("unchecked") T... sequences) throws ProcessingException {
+        final long firstSequenceLength = lengthOf(sequences[0]);
+
+        if (firstSequenceLength < divisionSizes.get(reducingWorker.getClass())) {
+            final A accumulator = reducingWorker.createAccumulator();
+            reducingWorker.accumulate(accumulator, Collections.unmodifiableList(Arrays.asList(sequences)));
+            return accumulator;
+        }
+
+        return reduceParallel(reducingWorker, sequences);
+    }
+
+    /**
+     * Perform the parallel part of reduce, once it has been decided that the sequences are long enough to be worth dividing.
+     *
+     * @param reducingWorker
+     * @param sequences
+     * @return the accumulator holding the result
+     * @throws ProcessingException
+     *             If errors occur while running the job
+     */
+    protected <T extends Sequence<T>, A> A reduceParallel(final ReducingWorker<T, A> reducingWorker, T[] sequences)
+            throws ProcessingException {
+        final List<List<T>> chunks = chunks(sequences);
+        final List<Callable<A>> callables = new ArrayList<>(chunks.size());
+        for (final List<T> chunkSequences : chunks) {
+            callables.add(() -> {
+                final A accumulator = reducingWorker.createAccumulator();
+                reducingWorker.accumulate(accumulator, chunkSequences);
+                return accumulator;
+            });
+        }
+
+        try {
+            A result = null;
+            for (final Future<A> future : invokeAll(callables)) {
+                try {
+                    final A accumulator = future.get();
+                    if (result == null) {
+                        result = accumulator;
+                    } else {
+                        reducingWorker.combine(result, accumulator);
+                    }
+                } catch (final ExecutionException e) {
+                    LOG.error("Exception during execution", e);
+                    throw new ProcessingException("Internal error", e);
                 }
             }
+            return result;
+        } catch (final InterruptedException e) {
+            throw new ProcessingException("Interrupted", e);
+        }
+    }
+
+    /**
+     * Perform a parallel execution of a DiscreteSystemWorker over every channel of the MultiChannelSequence(s), which must all have
+     * the same number of channels. The worker is handed channel c of each sequence together, just as execute hands it the
+     * sequences; sequences[0] holds the result, and channels shorter than those of sequences[0] are passed through whole.
+     *
+     * Each tile is one chunk of one channel. Channels long enough to be worth dividing are divided so that there are at least
+     * getChunkCount() tiles in all; shorter channels are a tile each. If all the channels together aren't worth dividing, they're
+     * all done on the calling thread.
+     *
+     * @param discreteSystemWorker
+     * @param sequences
+     * @throws ProcessingException
+     *             If errors occur while running the job
+     */
+    public void execute(final DiscreteSystemWorker<RealSequence> discreteSystemWorker, MultiChannelSequence... sequences)
+            throws ProcessingException {
+        final int channels = sequences[0].getChannelCount();
+        for (final MultiChannelSequence sequence : sequences) {
+            if (sequence.getChannelCount() != channels) {
+                throw new IllegalArgumentException(
+                        "Expected " + channels + " channels but found " + sequence.getChannelCount());
+            }
+        }
 
-            callables.add(new WorkerSequenceCallable<T>(discreteSystemWorker, Collections.unmodifiableList(subsequences)));
+        final long frames = sequences[0].getFrameCount();
+        final long minimumDivisionSize = divisionSizes.get(discreteSystemWorker.getClass());
+        final int chunkCount = getChunkCount();
+        final int chunksPerChannel = (frames < minimumDivisionSize) ? 1 : (chunkCount + channels - 1) / channels;
+        final long chunkSize = (frames + chunksPerChannel - 1) / chunksPerChannel;
+
+        final List<List<RealSequence>> tiles = new ArrayList<>(channels * chunksPerChannel);
+        for (int channel = 0; channel < channels; channel++) {
+            final RealSequence[] channelSequences = new RealSequence[sequences.length];
+            for (int seqNum = 0; seqNum < sequences.length; seqNum++) {
+                channelSequences[seqNum] = sequences[seqNum].getChannel(channel);
+            }
+            for (long start = 0; start < frames; start += chunkSize) {
+                tiles.add(subsequences(channelSequences, start, Math.min(start + chunkSize - 1, frames - 1)));
+            }
+        }
+
+        if (frames * channels < minimumDivisionSize) {
+            for (final List<RealSequence> tile : tiles) {
+                discreteSystemWorker.operate(tile);
+            }
+            return;
+        }
+
+        runChunks(discreteSystemWorker, tiles);
+    }
+
+    /**
+     * Perform the parallel part of executeAsync, once it has been decided that the sequences are long enough to be worth dividing.
+     *
+     * @param discreteSystemWorker
+     * @param sequences
+     * @return
+     */
+    protected <T extends Sequence<T>> CompletableFuture<Void> executeParallelAsync(final DiscreteSystemWorker<T> discreteSystemWorker,
+            T[] sequences) {
+        final List<List<T>> chunks = chunks(sequences);
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks.size()];
+        for (int chunk = 0; chunk < futures.length; chunk++) {
+            final List<T> chunkSequences = chunks.get(chunk);
+            futures[chunk] = executor.runAsync(() -> discreteSystemWorker.operate(chunkSequences));
+        }
+
+        return ProcessingFutures.withProcessingException(CompletableFuture.allOf(futures));
+    }
+
+    /**
+     * Perform the parallel part of execute, once it has been decided that the sequences are long enough to be worth dividing.
+     *
+     * @param discreteSystemWorker
+     * @param sequences
+     * @throws ProcessingException
+     */
+    protected <T extends Sequence<T>> void executeParallel(final DiscreteSystemWorker<T> discreteSystemWorker, T[] sequences)
+            throws ProcessingException {
+        runChunks(discreteSystemWorker, chunks(sequences));
+    }
+
+    /**
+     * Run the worker over each chunk in parallel, and wait for them all to finish.
+     *
+     * @param discreteSystemWorker
+     * @param chunks
+     * @throws ProcessingException
+     */
+    protected <T extends Sequence<T>> void runChunks(final DiscreteSystemWorker<T> discreteSystemWorker, List<List<T>> chunks)
+            throws ProcessingException {
+        final List<Callable<Void>> callables = new ArrayList<>(chunks.size());
+        for (final List<T> chunkSequences : chunks) {
+            callables.add(new WorkerSequenceCallable<T>(discreteSystemWorker, chunkSequences));
         }
 
         try {
-            final List<Future<Void>> futures = executor.invokeAll(callables);
+            final List<Future<Void>> futures = invokeAll(callables);
             for (final Future<Void> future : futures) {
                 try {
                     future.get();
@@ -147,4 +401,86 @@ public class DiscreteSystemParallelExecutor {
         }
     }
 
+    /**
+     * Divide the sequences into getChunkCount() chunks of (nearly) equal size.
+     *
+     * @param sequences
+     * @return the subsequences for each chunk
+     */
+    protected <T extends Sequence<T>> List<List<T>> chunks(T[] sequences) {
+        final long firstSequenceStart = startOf(sequences[0]);
+        final long firstSequenceEnd = endOf(sequences[0]);
+        final int chunkCount = getChunkCount();
+        final long chunkSize = (lengthOf(sequences[0]) + chunkCount - 1) / chunkCount;
+
+        final List<List<T>> chunks = new ArrayList<>(chunkCount);
+        for (long start = firstSequenceStart; start <= firstSequenceEnd; start += chunkSize) {
+            final long end = Math.min(start + chunkSize - 1, firstSequenceEnd);
+            chunks.add(subsequences(sequences, start, end));
+        }
+        return chunks;
+    }
+
+    /**
+     * @return the number of chunks into which to divide the work
+     */
+    protected int getChunkCount() {
+        return executor.getCoreCount();
+    }
+
+    /**
+     * Run all the chunks and wait for them to finish.
+     *
+     * @param callables
+     * @return
+     * @throws InterruptedException
+     */
+    protected <V> List<Future<V>> invokeAll(List<Callable<V>> callables) throws InterruptedException {
+        return executor.invokeAll(callables);
+    }
+
+    /**
+     * Chunk the sequences for one unit of work. Sequences of the same length as sequence[0] are cut down to the range from start to
+     * end; shorter sequences are passed through whole.
+     *
+     * @param sequences
+     * @param start
+     * @param end
+     * @return
+     */
+    protected static <T extends Sequence<T>> List<T> subsequences(T[] sequences, long start, long end) {
+        final long firstSequenceLength = lengthOf(sequences[0]);
+        final List<T> subsequences = new ArrayList<>(sequences.length);
+
+        for (int seqNum = 0; seqNum < sequences.length; seqNum++) {
+            if (lengthOf(sequences[seqNum]) < firstSequenceLength) {
+                subsequences.add(seqNum, sequences[seqNum]);
+            } else {
+                subsequences.add(seqNum, subsequence(sequences[seqNum], start, end));
+            }
+        }
+
+        return Collections.unmodifiableList(subsequences);
+    }
+
+    protected static long startOf(Sequence<?> sequence) {
+        return (sequence instanceof LongSequence) ? ((LongSequence<?>) sequence).getLongStart() : sequence.getStart();
+    }
+
+    protected static long endOf(Sequence<?> sequence) {
+        return (sequence instanceof LongSequence) ? ((LongSequence<?>) sequence).getLongEnd() : sequence.getEnd();
+    }
+
+    protected static long lengthOf(Sequence<?> sequence) {
+        return (sequence instanceof LongSequence) ? ((LongSequence<?>) sequence).getLongLength() : sequence.getLength();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Sequence<T>> T subsequence(T sequence, long start, long end) {
+        if (sequence instanceof LongSequence) {
+            return (T) ((LongSequence<?>) sequence).subsequence(start, end);
+        }
+        return sequence.subsequence((int) start, (int) end);
+    }
+
 }
@@ -0,0 +1,165 @@
+package net.spatula.dspatula.concurrent;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.Sequence;
+
+/**
+ * Measures, for a particular DiscreteSystemWorker on this particular machine, the Sequence length at which running in parallel
+ * starts to beat running on a single core, and records it in the DivisionSizes of a DiscreteSystemParallelExecutor.
+ *
+ * The default division size of 8820 was found empirically on one 8-core desktop. On a 64-core server, or in a 4-CPU container, the
+ * answer is quite different, and it's different again for a worker that does a lot of work per sample (like the SineWaveWorker)
+ * compared to one that does very little (like the Adder).
+ *
+ * Starting at the smallest size, we double the length until the parallel execution is faster than the serial one, timing the best
+ * of several trials of each after a few rounds of warm-up to give Hotspot a chance to compile things. One lucky timing shouldn't
+ * set the threshold for good, so a win only counts if parallel also wins at the next size up (or, at the largest size, wins a
+ * second time over).
+ *
+ * @author spatula
+ *
+ */
+public class DivisionSizeCalibrator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DivisionSizeCalibrator.class);
+
+    private static final int DEFAULT_SMALLEST_SIZE = 256;
+    private static final int DEFAULT_LARGEST_SIZE = 1 << 20;
+    private static final int DEFAULT_TRIALS = 7;
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final DiscreteSystemParallelExecutor executor;
+    private final int smallestSize;
+    private final int largestSize;
+    private final int trials;
+
+    public DivisionSizeCalibrator(DiscreteSystemParallelExecutor executor) {
+        this(executor, DEFAULT_SMALLEST_SIZE, DEFAULT_LARGEST_SIZE, DEFAULT_TRIALS);
+    }
+
+    /**
+     * @param executor
+     *            the executor whose division sizes will be calibrated
+     * @param smallestSize
+     *            the shortest Sequence length to try
+     * @param largestSize
+     *            the longest Sequence length to try
+     * @param trials
+     *            the number of timed trials at each length; the fastest is used
+     */
+    public DivisionSizeCalibrator(DiscreteSystemParallelExecutor executor, int smallestSize, int largestSize, int trials) {
+        this.executor = executor;
+        this.smallestSize = smallestSize;
+        this.largestSize = largestSize;
+        this.trials = trials;
+    }
+
+    /**
+     * Calibrate a worker which operates on RealSequences.
+     *
+     * @param worker
+     *            a representative instance of the worker
+     * @param sequenceCount
+     *            how many sequences the worker expects (e.g., 1 for a SineWaveWorker, 2 for an Adder)
+     * @return the division size chosen, which has also been set on the executor for the worker's class
+     * @throws ProcessingException
+     */
+    public int calibrate(DiscreteSystemWorker<RealSequence> worker, int sequenceCount) throws ProcessingException {
+        return calibrate(worker, RealSequence::new, sequenceCount);
+    }
+
+    /**
+     * Calibrate a worker.
+     *
+     * @param worker
+     *            a representative instance of the worker
+     * @param sequenceFactory
+     *            creates a new Sequence of the given length
+     * @param sequenceCount
+     *            how many sequences the worker expects
+     * @return the division size chosen, which has also been set on the executor for the worker's class
+     * @throws ProcessingException
+     */
+    public <T extends Sequence<T>> int calibrate(DiscreteSystemWorker<T> worker, IntFunction<T> sequenceFactory, int sequenceCount)
+            throws ProcessingException {
+        // If parallel never wins, effectively never divide.
+        int chosenSize = (largestSize > Integer.MAX_VALUE / 2) ? Integer.MAX_VALUE : largestSize * 2;
+        int candidate = 0; // the smallest size at which parallel has won every time since
+        for (long size = smallestSize; size <= largestSize; size *= 2) {
+            final T[] sequences = createSequences(sequenceFactory, sequenceCount, (int) size);
+            if (!parallelWins(worker, sequences)) {
+                candidate = 0;
+                continue;
+            }
+            if (candidate == 0) {
+                candidate = (int) size;
+                if (size * 2 <= largestSize || !parallelWins(worker, sequences)) {
+                    // Either we can confirm the win at the next size up, or we couldn't even confirm it at this one.
+                    continue;
+                }
+            }
+            chosenSize = candidate;
+            break;
+        }
+
+        LOG.info("Calibrated minimum division size for {} to {}", worker.getClass().getName(), chosenSize);
+        executor.getDivisionSizes().set(worker.getClass(), chosenSize);
+        return chosenSize;
+    }
+
+    /**
+     * Time the worker serially and in parallel over the given sequences, after warming up.
+     *
+     * @param worker
+     * @param sequences
+     * @return true if the best parallel time beat the best serial time
+     * @throws ProcessingException
+     */
+    protected <T extends Sequence<T>> boolean parallelWins(DiscreteSystemWorker<T> worker, T[] sequences)
+            throws ProcessingException {
+        final List<T> sequenceList = Collections.unmodifiableList(Arrays.asList(sequences));
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            worker.operate(sequenceList);
+            executor.executeParallel(worker, sequences);
+        }
+
+        long bestSerial = Long.MAX_VALUE;
+        long bestParallel = Long.MAX_VALUE;
+        for (int trial = 0; trial < trials; trial++) {
+            final long serialStart = System.nanoTime();
+            worker.operate(sequenceList);
+            bestSerial = Math.min(bestSerial, System.nanoTime() - serialStart);
+
+            final long parallelStart = System.nanoTime();
+            executor.executeParallel(worker, sequences);
+            bestParallel = Math.min(bestParallel, System.nanoTime() - parallelStart);
+        }
+
+        LOG.debug("{} at {} samples: serial {}ns, parallel {}ns", worker.getClass().getName(), sequences[0].getLength(),
+                bestSerial, bestParallel);
+        return bestParallel < bestSerial;
+    }
+
+    private static <T extends Sequence<T>> T[] createSequences(IntFunction<T> sequenceFactory, int sequenceCount, int size) {
+        final T first = sequenceFactory.apply(size);
+        @SuppressWarnings("unchecked")
+        final T[] sequences = (T[]) Array.newInstance(first.getClass(), sequenceCount);
+        sequences[0] = first;
+        for (int index = 1; index < sequenceCount; index++) {
+            sequences[index] = sequenceFactory.apply(size);
+        }
+        return sequences;
+    }
+
+}
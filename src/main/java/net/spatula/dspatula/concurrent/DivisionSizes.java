@@ -0,0 +1,99 @@
+package net.spatula.dspatula.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The minimum Sequence lengths at which it's worth dividing work up between cores, with a default and optional sizes for particular
+ * DiscreteSystemWorker classes.
+ *
+ * Where exactly that line falls depends on the machine, the number of cores, and how much work the worker does per sample, so the
+ * sizes can be measured with a DivisionSizeCalibrator, and then stored and loaded as Properties (keyed by worker class name) so
+ * that subsequent runs don't need to measure them again.
+ *
+ * @author spatula
+ *
+ */
+public class DivisionSizes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DivisionSizes.class);
+
+    private static final String DEFAULT_KEY = "default";
+
+    private volatile int defaultSize;
+    private final ConcurrentMap<String, Integer> sizes = new ConcurrentHashMap<>();
+
+    public DivisionSizes(int defaultSize) {
+        this.defaultSize = defaultSize;
+    }
+
+    public int getDefault() {
+        return defaultSize;
+    }
+
+    public void setDefault(int defaultSize) {
+        this.defaultSize = defaultSize;
+    }
+
+    /**
+     * @param workerClass
+     * @return the minimum division size for the given worker class, or the default if none has been set
+     */
+    public int get(Class<?> workerClass) {
+        final Integer size = sizes.get(workerClass.getName());
+        return size == null ? defaultSize : size;
+    }
+
+    public void set(Class<?> workerClass, int size) {
+        sizes.put(workerClass.getName(), size);
+    }
+
+    /**
+     * Read sizes from a Properties stream, as written by store. Entries which aren't numbers are logged and skipped.
+     *
+     * @param inputStream
+     * @throws IOException
+     */
+    public void load(InputStream inputStream) throws IOException {
+        final Properties properties = new Properties();
+        properties.load(inputStream);
+        for (final String key : properties.stringPropertyNames()) {
+            final int size;
+            try {
+                size = Integer.parseInt(properties.getProperty(key).trim());
+            } catch (final NumberFormatException e) {
+                LOG.warn("Ignoring division size {} for {}", properties.getProperty(key), key);
+                continue;
+            }
+            if (DEFAULT_KEY.equals(key)) {
+                defaultSize = size;
+            } else {
+                sizes.put(key, size);
+            }
+        }
+    }
+
+    /**
+     * Write the default and all per-class sizes as Properties.
+     *
+     * @param outputStream
+     * @throws IOException
+     */
+    public void store(OutputStream outputStream) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(DEFAULT_KEY, Integer.toString(defaultSize));
+        for (final Map.Entry<String, Integer> entry : sizes.entrySet()) {
+            properties.setProperty(entry.getKey(), entry.getValue().toString());
+        }
+        properties.store(outputStream, "Minimum sequence lengths for parallel division");
+    }
+
+}
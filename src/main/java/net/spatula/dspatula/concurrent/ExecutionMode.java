@@ -0,0 +1,28 @@
+package net.spatula.dspatula.concurrent;
+
+/**
+ * The ways in which a parallel executor can farm out its work.
+ *
+ * @author spatula
+ *
+ */
+public enum ExecutionMode {
+
+    /**
+     * Divide the work into one equal chunk per core, hand the chunks to a fixed thread pool, and wait for all of them.
+     */
+    FIXED_CHUNKS,
+
+    /**
+     * Recursively split the work in half down to a threshold and let a ForkJoinPool run the pieces, so that threads which finish
+     * early can steal work from threads which are running behind.
+     */
+    FORK_JOIN,
+
+    /**
+     * Divide the work into one equal chunk per core, including the calling thread, which runs one of the chunks itself rather than
+     * sitting idle waiting for the pool. Jobs too small to be worth dividing never leave the calling thread at all.
+     */
+    CALLER_RUNS
+
+}
@@ -0,0 +1,206 @@
+package net.spatula.dspatula.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.Sequence;
+
+/**
+ * Execution context which divides up a Discrete-Time Signal Sequence recursively, in halves, until the pieces are no longer than a
+ * threshold, and lets a work-stealing ForkJoinPool run the pieces.
+ *
+ * With one equal chunk per core, one slow chunk (thanks to garbage collection, a noisy neighbor, or a worker that does more work on
+ * some samples than others) leaves the other cores sitting idle waiting for it. Here there are several pieces per core, and a
+ * thread that finishes early steals pieces that haven't been started yet from the threads that are running behind.
+ *
+ * The contract is the same as for the DiscreteSystemParallelExecutor: sequence[0] is the accumulator, sequences of the same length
+ * are chunked alike, and shorter sequences are passed through whole. Reductions are split the same way: each piece gets its own
+ * accumulator, and each pair of halves is combined, earlier into later, as soon as both are done. Chunks that were divided up
+ * ahead of time, such as the tiles of a multi-channel execution, are run on the same pool, split in halves until each is alone.
+ *
+ * @author spatula
+ *
+ */
+public class ForkJoinDiscreteSystemParallelExecutor extends DiscreteSystemParallelExecutor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ForkJoinDiscreteSystemParallelExecutor.class);
+
+    private static final int MINIMUM_LEAF_SIZE = 1024;
+    private static final int LEAVES_PER_CORE = 4;
+
+    protected ForkJoinDiscreteSystemParallelExecutor(CoreAwareParallelExecutor executor, int minimumDivisionSize) {
+        super(executor, minimumDivisionSize);
+    }
+
+    private static final class SubsequenceAction<T extends Sequence<T>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DiscreteSystemWorker<T> discreteSystemWorker;
+        private final T[] sequences;
+        private final long start;
+        private final long end;
+        private final long leafSize;
+
+        private SubsequenceAction(DiscreteSystemWorker<T> discreteSystemWorker, T[] sequences, long start, long end,
+                long leafSize) {
+            this.discreteSystemWorker = discreteSystemWorker;
+            this.sequences = sequences;
+            this.start = start;
+            this.end = end;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start + 1 <= leafSize) {
+                discreteSystemWorker.operate(subsequences(sequences, start, end));
+                return;
+            }
+
+            final long middle = start + (end - start) / 2;
+            invokeAll(new SubsequenceAction<T>(discreteSystemWorker, sequences, start, middle, leafSize),
+                    new SubsequenceAction<T>(discreteSystemWorker, sequences, middle + 1, end, leafSize));
+        }
+    }
+
+    private static final class ChunkListAction<T extends Sequence<T>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DiscreteSystemWorker<T> discreteSystemWorker;
+        private final List<List<T>> chunks;
+        private final int from;
+        private final int to;
+
+        private ChunkListAction(DiscreteSystemWorker<T> discreteSystemWorker, List<List<T>> chunks, int from, int to) {
+            this.discreteSystemWorker = discreteSystemWorker;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                discreteSystemWorker.operate(chunks.get(from));
+                return;
+            }
+
+            final int middle = from + (to - from) / 2;
+            invokeAll(new ChunkListAction<T>(discreteSystemWorker, chunks, from, middle),
+                    new ChunkListAction<T>(discreteSystemWorker, chunks, middle, to));
+        }
+    }
+
+    private static final class ReducingTask<T extends Sequence<T>, A> extends RecursiveTask<A> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ReducingWorker<T, A> reducingWorker;
+        private final T[] sequences;
+        private final long start;
+        private final long end;
+        private final long leafSize;
+
+        private ReducingTask(ReducingWorker<T, A> reducingWorker, T[] sequences, long start, long end, long leafSize) {
+            this.reducingWorker = reducingWorker;
+            this.sequences = sequences;
+            this.start = start;
+            this.end = end;
+            this.leafSize = leafSize;
+        }
+
+        @Override
+        protected A compute() {
+            if (end - start + 1 <= leafSize) {
+                final A accumulator = reducingWorker.createAccumulator();
+                reducingWorker.accumulate(accumulator, subsequences(sequences, start, end));
+                return accumulator;
+            }
+
+            final long middle = start + (end - start) / 2;
+            final ReducingTask<T, A> later = new ReducingTask<T, A>(reducingWorker, sequences, middle + 1, end, leafSize);
+            later.fork();
+            final A result = new ReducingTask<T, A>(reducingWorker, sequences, start, middle, leafSize).compute();
+            reducingWorker.combine(result, later.join());
+            return result;
+        }
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.FORK_JOIN;
+    }
+
+    /**
+     * @param length
+     *            the length of sequence[0]
+     * @return the size below which we stop splitting
+     */
+    protected long getLeafSize(long length) {
+        final int leavesWanted = executor.getCoreCount() * LEAVES_PER_CORE;
+        return Math.max(MINIMUM_LEAF_SIZE, (length + leavesWanted - 1) / leavesWanted);
+    }
+
+    @Override
+    protected <T extends Sequence<T>> CompletableFuture<Void> executeParallelAsync(
+            final DiscreteSystemWorker<T> discreteSystemWorker, T[] sequences) {
+        final long leafSize = getLeafSize(lengthOf(sequences[0]));
+        final ForkJoinPool forkJoinPool = executor.getForkJoinPool();
+        final SubsequenceAction<T> action = new SubsequenceAction<T>(discreteSystemWorker, sequences, startOf(sequences[0]),
+                endOf(sequences[0]), leafSize);
+
+        // Invoked from a thread of the same pool, the action runs right there, forking pieces for the others to steal.
+        return ProcessingFutures.withProcessingException(CompletableFuture.runAsync(action::invoke, forkJoinPool));
+    }
+
+    @Override
+    protected <T extends Sequence<T>> void executeParallel(final DiscreteSystemWorker<T> discreteSystemWorker, T[] sequences)
+            throws ProcessingException {
+        final long leafSize = getLeafSize(lengthOf(sequences[0]));
+        try {
+            executor.getForkJoinPool().invoke(new SubsequenceAction<T>(discreteSystemWorker, sequences, startOf(sequences[0]),
+                    endOf(sequences[0]), leafSize));
+        } catch (final RuntimeException e) {
+            LOG.error("Exception during execution", e);
+            throw new ProcessingException("Internal error", e);
+        }
+    }
+
+    @Override
+    protected <T extends Sequence<T>> void runChunks(final DiscreteSystemWorker<T> discreteSystemWorker, List<List<T>> chunks)
+            throws ProcessingException {
+        if (chunks.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.getForkJoinPool().invoke(new ChunkListAction<T>(discreteSystemWorker, chunks, 0, chunks.size()));
+        } catch (final RuntimeException e) {
+            LOG.error("Exception during execution", e);
+            throw new ProcessingException("Internal error", e);
+        }
+    }
+
+    @Override
+    protected <T extends Sequence<T>, A> A reduceParallel(final ReducingWorker<T, A> reducingWorker, T[] sequences)
+            throws ProcessingException {
+        final long leafSize = getLeafSize(lengthOf(sequences[0]));
+        try {
+            return executor.getForkJoinPool().invoke(new ReducingTask<T, A>(reducingWorker, sequences, startOf(sequences[0]),
+                    endOf(sequences[0]), leafSize));
+        } catch (final RuntimeException e) {
+            LOG.error("Exception during execution", e);
+            throw new ProcessingException("Internal error", e);
+        }
+    }
+
+}
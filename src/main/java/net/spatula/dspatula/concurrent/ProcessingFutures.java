@@ -0,0 +1,83 @@
+package net.spatula.dspatula.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.spatula.dspatula.exception.ProcessingException;
+
+/**
+ * Helpers for the asynchronous counterparts of the blocking executors and transforms.
+ *
+ * Whatever goes wrong inside an asynchronous job, the future it hands back fails with a ProcessingException, just as the blocking
+ * version would have thrown one. As usual with CompletableFuture, get() reports it as the cause of an ExecutionException and
+ * join() as the cause of a CompletionException; getProcessingResult() unwraps it again for callers who'd rather block after all.
+ *
+ * @author spatula
+ *
+ */
+public final class ProcessingFutures {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProcessingFutures.class);
+
+    private ProcessingFutures() {
+    }
+
+    /**
+     * Return a future which completes the same way as the given one, except that a failure is always a ProcessingException.
+     *
+     * @param future
+     * @return
+     */
+    public static <T> CompletableFuture<T> withProcessingException(CompletableFuture<T> future) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, throwable) -> {
+            if (throwable == null) {
+                result.complete(value);
+                return;
+            }
+            final Throwable cause = unwrap(throwable);
+            if (cause instanceof ProcessingException) {
+                result.completeExceptionally(cause);
+            } else {
+                LOG.error("Exception during execution", cause);
+                result.completeExceptionally(new ProcessingException("Internal error", cause));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Wait for the future and return its result, throwing the ProcessingException that it failed with, if any.
+     *
+     * @param future
+     * @return
+     * @throws ProcessingException
+     */
+    public static <T> T getProcessingResult(CompletableFuture<T> future) throws ProcessingException {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException("Interrupted", e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = unwrap(e);
+            if (cause instanceof ProcessingException) {
+                throw (ProcessingException) cause;
+            }
+            throw new ProcessingException("Internal error", cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+}
@@ -0,0 +1,51 @@
+package net.spatula.dspatula.concurrent;
+
+import java.util.List;
+
+import net.spatula.dspatula.time.sequence.Sequence;
+
+/**
+ * Interface to be implemented by a class which boils a Discrete-Time Signal Sequence (or Sequences) down to a result, such as a sum
+ * or a peak, rather than changing it in place.
+ *
+ * The DiscreteSystemParallelExecutor divides the sequences exactly as it would for a DiscreteSystemWorker, gives each chunk its own
+ * accumulator from createAccumulator, has accumulate fold the chunk into it, and then combines the accumulators, in chunk order,
+ * into the first one. Accumulators are plain mutable objects with primitive fields, so there's one object per chunk and no boxing
+ * per sample.
+ *
+ * As with the DiscreteSystemWorker, the sequences handed to accumulate may be subsequences of much larger ones, and the same worker
+ * will be used on multiple threads at once; the accumulators, on the other hand, are only ever touched by one thread at a time.
+ *
+ * @author spatula
+ *
+ * @param <T>
+ *            the type of sequence reduced
+ * @param <A>
+ *            the type of accumulator, which is also the result
+ */
+public interface ReducingWorker<T extends Sequence<T>, A> {
+
+    /**
+     * @return a new, empty accumulator
+     */
+    A createAccumulator();
+
+    /**
+     * Fold the values of the sequences from their start to their end into the accumulator.
+     *
+     * @param accumulator
+     * @param sequences
+     */
+    void accumulate(A accumulator, List<T> sequences);
+
+    /**
+     * Fold the contents of one accumulator into another.
+     *
+     * @param into
+     *            the accumulator to combine into; the one for the earlier chunk
+     * @param from
+     *            the accumulator to combine from; the one for the later chunk
+     */
+    void combine(A into, A from);
+
+}
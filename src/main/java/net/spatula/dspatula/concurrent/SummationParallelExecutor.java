@@ -2,8 +2,12 @@ package net.spatula.dspatula.concurrent;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -19,13 +23,19 @@ import net.spatula.dspatula.time.sequence.Sequence;
  *
  * Very short sequences may be run on a single core to avoid the overhead of division.
  *
+ * The default instance divides the work into one range of points per core. ExecutionMode.CALLER_RUNS may be selected when
+ * obtaining the instance, in which case the calling thread takes a range of its own.
+ *
+ * executeForwardAsync and executeInverseAsync are the non-blocking counterparts of executeForward and executeInverse; the ranges
+ * run on the CoreAwareParallelExecutor's pool and nothing waits for them.
+ *
  * @author spatula
  *
  */
 public class SummationParallelExecutor {
 
     protected CoreAwareParallelExecutor executor;
-    private static SummationParallelExecutor instance;
+    private static final Map<ExecutionMode, SummationParallelExecutor> instances = new EnumMap<>(ExecutionMode.class);
 
     private static final Logger LOG = LoggerFactory.getLogger(SummationParallelExecutor.class);
 
@@ -38,23 +48,53 @@ public class SummationParallelExecutor {
      *
      * @return a singleton SummationParallelExecutor
      */
-    public synchronized static SummationParallelExecutor getDefaultInstance() {
+    public static SummationParallelExecutor getDefaultInstance() {
+        return getDefaultInstance(ExecutionMode.FIXED_CHUNKS);
+    }
+
+    /**
+     * Create a SummationParallelExecutor using the given ExecutionMode. Summations are evenly divisible work, so there's nothing
+     * to steal, and ExecutionMode.FORK_JOIN is not supported.
+     *
+     * @param mode
+     * @return a singleton SummationParallelExecutor for that mode
+     */
+    public synchronized static SummationParallelExecutor getDefaultInstance(ExecutionMode mode) {
+        final SummationParallelExecutor instance = instances.get(mode);
         if (instance != null) {
             return instance;
         }
-        instance = new SummationParallelExecutor(CoreAwareParallelExecutor.getInstance());
 
-        return instance;
+        final SummationParallelExecutor newInstance;
+        switch (mode) {
+        case FIXED_CHUNKS:
+            newInstance = new SummationParallelExecutor(CoreAwareParallelExecutor.getInstance());
+            break;
+        case CALLER_RUNS:
+            newInstance = new CallerRunsSummationParallelExecutor(CoreAwareParallelExecutor.getInstance());
+            break;
+        default:
+            throw new IllegalArgumentException("Summations do not support " + mode);
+        }
+        instances.put(mode, newInstance);
+
+        return newInstance;
     }
 
     protected synchronized static SummationParallelExecutor getInstance(CoreAwareParallelExecutor executor) {
+        final SummationParallelExecutor instance = instances.get(ExecutionMode.FIXED_CHUNKS);
         if (instance != null) {
             return instance;
         }
 
-        instance = new SummationParallelExecutor(executor);
+        final SummationParallelExecutor newInstance = new SummationParallelExecutor(executor);
+        instances.put(ExecutionMode.FIXED_CHUNKS, newInstance);
+
+        return newInstance;
+    }
 
-        return instance;
+    public ExecutionMode getExecutionMode() {
+        return ExecutionMode.FIXED_CHUNKS;
     }
 
     private static class WorkerForwardSummationCallable<T extends Sequence<T>, V extends Sequence<V>> implements Callable<Void> {
@@ -62,19 +102,21 @@ public class SummationParallelExecutor {
         private final SummationWorker<T, V> discreteSystemWorker;
         private final List<T> inputSequences;
         private final V outputSequence;
-        private final int point;
+        private final int fromPoint;
+        private final int toPoint;
 
-        private WorkerForwardSummationCallable(int point, SummationWorker<T, V> discreteSystemWorker, List<T> inputSequences,
-                V outputSequence) {
+        private WorkerForwardSummationCallable(int fromPoint, int toPoint, SummationWorker<T, V> discreteSystemWorker,
+                List<T> inputSequences, V outputSequence) {
             this.inputSequences = inputSequences;
             this.outputSequence = outputSequence;
             this.discreteSystemWorker = discreteSystemWorker;
-            this.point = point;
+            this.fromPoint = fromPoint;
+            this.toPoint = toPoint;
         }
 
         @Override
         public Void call() throws Exception {
-            discreteSystemWorker.forward(point, inputSequences, outputSequence);
+            discreteSystemWorker.forwardRange(fromPoint, toPoint, inputSequences, outputSequence);
             return null;
         }
 
@@ -85,19 +127,21 @@ public class SummationParallelExecutor {
         private final SummationWorker<T, V> discreteSystemWorker;
         private final List<V> inputSequences;
         private final T outputSequence;
-        private final int point;
+        private final int fromPoint;
+        private final int toPoint;
 
-        private WorkerInverseSummationCallable(int point, SummationWorker<T, V> discreteSystemWorker, List<V> inputSequences,
-                T outputSequence) {
+        private WorkerInverseSummationCallable(int fromPoint, int toPoint, SummationWorker<T, V> discreteSystemWorker,
+                List<V> inputSequences, T outputSequence) {
             this.inputSequences = inputSequences;
             this.outputSequence = outputSequence;
             this.discreteSystemWorker = discreteSystemWorker;
-            this.point = point;
+            this.fromPoint = fromPoint;
+            this.toPoint = toPoint;
         }
 
         @Override
         public Void call() throws Exception {
-            discreteSystemWorker.inverse(point, inputSequences, outputSequence);
+            discreteSystemWorker.inverseRange(fromPoint, toPoint, inputSequences, outputSequence);
             return null;
         }
 
@@ -106,8 +150,9 @@ public class SummationParallelExecutor {
     /**
      * Perform a parallel summation using the input sequences and output sequence.
      *
-     * As many summations will be performed in parallel as cores are available on the machine. Care must be taken to ensure that
-     * workers write only to their alotted location in the output sequence.
+     * As many summations will be performed in parallel as cores are available on the machine. Each core is handed one
+     * contiguous range of points, rather than one task per point, so that there's no per-point allocation or queueing. Care must
+     * be taken to ensure that workers write only to their alotted locations in the output sequence.
      *
      * (In actual practice, the internals of the sequence are never isolated/copied for the sake of performance; only the point
      * indicating which summation to perform is updated. Because of this, in reality, each thread of the discreteSystemWorker *can*
@@ -120,16 +165,36 @@ public class SummationParallelExecutor {
      */
     public <T extends Sequence<T>, V extends Sequence<V>> void executeForward(final SummationWorker<T, V> summationWorker,
             List<T> inputSequences, V outputSequence) throws ProcessingException {
+        waitForCompletion(forwardCallables(summationWorker, inputSequences, outputSequence));
+    }
 
-        final int summationLength = outputSequence.getLength();
-        final List<Callable<Void>> callables = new ArrayList<>(summationLength);
+    /**
+     * Perform the same work as executeForward, but without blocking the calling thread.
+     *
+     * @param summationWorker
+     * @param inputSequences
+     * @param outputSequence
+     * @return a future which completes when every point has been summed, or fails with a ProcessingException
+     */
+    public <T extends Sequence<T>, V extends Sequence<V>> CompletableFuture<Void> executeForwardAsync(
+            final SummationWorker<T, V> summationWorker, List<T> inputSequences, V outputSequence) {
+        return completeAsync(forwardCallables(summationWorker, inputSequences, outputSequence));
+    }
 
-        for (int point = 0; point < summationLength; point++) {
-            callables.add(new WorkerForwardSummationCallable<T, V>(point, summationWorker,
-                    Collections.unmodifiableList(inputSequences), outputSequence));
+    private <T extends Sequence<T>, V extends Sequence<V>> List<Callable<Void>> forwardCallables(
+            final SummationWorker<T, V> summationWorker, List<T> inputSequences, V outputSequence) {
+        final int summationLength = outputSequence.getLength();
+        final int chunkSize = getChunkSize(summationLength, inputSequences.get(0).getLength());
+        final List<T> unmodifiableInputSequences = Collections.unmodifiableList(inputSequences);
+        final List<Callable<Void>> callables = new ArrayList<>(getChunkCount());
+
+        for (int fromPoint = 0; fromPoint < summationLength; fromPoint += chunkSize) {
+            final int toPoint = Math.min(fromPoint + chunkSize, summationLength) - 1;
+            callables.add(new WorkerForwardSummationCallable<T, V>(fromPoint, toPoint, summationWorker,
+                    unmodifiableInputSequences, outputSequence));
         }
 
-        waitForCompletion(callables);
+        return callables;
     }
 
     /**
@@ -143,21 +208,70 @@ public class SummationParallelExecutor {
      */
     public <T extends Sequence<T>, V extends Sequence<V>> void executeInverse(final SummationWorker<T, V> summationWorker,
             List<V> inputSequences, T outputSequence) throws ProcessingException {
+        waitForCompletion(inverseCallables(summationWorker, inputSequences, outputSequence));
+    }
 
-        final int summationLength = outputSequence.getLength();
-        final List<Callable<Void>> callables = new ArrayList<>(summationLength);
+    /**
+     * Perform the same work as executeInverse, but without blocking the calling thread.
+     *
+     * @param summationWorker
+     * @param inputSequences
+     * @param outputSequence
+     * @return a future which completes when every point has been summed, or fails with a ProcessingException
+     */
+    public <T extends Sequence<T>, V extends Sequence<V>> CompletableFuture<Void> executeInverseAsync(
+            final SummationWorker<T, V> summationWorker, List<V> inputSequences, T outputSequence) {
+        return completeAsync(inverseCallables(summationWorker, inputSequences, outputSequence));
+    }
 
-        for (int point = 0; point < summationLength; point++) {
-            callables.add(new WorkerInverseSummationCallable<T, V>(point, summationWorker,
-                    Collections.unmodifiableList(inputSequences), outputSequence));
+    private <T extends Sequence<T>, V extends Sequence<V>> List<Callable<Void>> inverseCallables(
+            final SummationWorker<T, V> summationWorker, List<V> inputSequences, T outputSequence) {
+        final int summationLength = outputSequence.getLength();
+        final int chunkSize = getChunkSize(summationLength, inputSequences.get(0).getLength());
+        final List<V> unmodifiableInputSequences = Collections.unmodifiableList(inputSequences);
+        final List<Callable<Void>> callables = new ArrayList<>(getChunkCount());
+
+        for (int fromPoint = 0; fromPoint < summationLength; fromPoint += chunkSize) {
+            final int toPoint = Math.min(fromPoint + chunkSize, summationLength) - 1;
+            callables.add(new WorkerInverseSummationCallable<T, V>(fromPoint, toPoint, summationWorker,
+                    unmodifiableInputSequences, outputSequence));
         }
 
-        waitForCompletion(callables);
+        return callables;
+    }
+
+    /**
+     * @param summationLength
+     *            the number of points in the summation
+     * @param inputLength
+     *            the length of the (first) input sequence, which is the number of terms in each point's sum
+     * @return the number of points to hand each thread
+     */
+    protected int getChunkSize(int summationLength, int inputLength) {
+        return Math.max(1, (int) Math.ceil((double) summationLength / (double) getChunkCount()));
+    }
+
+    /**
+     * @return the number of ranges into which to divide the points
+     */
+    protected int getChunkCount() {
+        return executor.getCoreCount();
+    }
+
+    /**
+     * Run all the ranges and wait for them to finish.
+     *
+     * @param callables
+     * @return
+     * @throws InterruptedException
+     */
+    protected List<Future<Void>> invokeAll(List<Callable<Void>> callables) throws InterruptedException {
+        return executor.invokeAll(callables);
     }
 
     protected void waitForCompletion(final List<Callable<Void>> callables) throws ProcessingException {
         try {
-            final List<Future<Void>> futures = executor.invokeAll(callables);
+            final List<Future<Void>> futures = invokeAll(callables);
             for (final Future<Void> future : futures) {
                 try {
                     future.get();
@@ -171,4 +285,28 @@ public class SummationParallelExecutor {
         }
     }
 
+    /**
+     * Run all the ranges on the pool without waiting for them.
+     *
+     * @param callables
+     * @return a future which completes when they're all done
+     */
+    protected CompletableFuture<Void> completeAsync(final List<Callable<Void>> callables) {
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[callables.size()];
+        for (int index = 0; index < futures.length; index++) {
+            final Callable<Void> callable = callables.get(index);
+            futures[index] = executor.runAsync(() -> {
+                try {
+                    callable.call();
+                } catch (final RuntimeException e) {
+                    throw e;
+                } catch (final Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+
+        return ProcessingFutures.withProcessingException(CompletableFuture.allOf(futures));
+    }
+
 }
@@ -15,6 +15,10 @@ import net.spatula.dspatula.time.sequence.Sequence;
  *
  * Implementations must consider thread safety; the same class will be run in multiple threads and probably on multiple cores.
  *
+ * The SummationParallelExecutor hands each thread a contiguous range of points through the range methods. By default these simply
+ * call the single-point methods for each point in the range, but implementations can override them to do per-range setup once
+ * rather than once per point.
+ *
  * @author spatula
  *
  */
@@ -24,4 +28,32 @@ public interface SummationWorker<T extends Sequence<T>, V extends Sequence<V>> {
 
     void inverse(int index, List<V> inputSequences, T outputSequence);
 
+    /**
+     * Perform the forward summation for every point from fromIndex to toIndex, inclusive.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param inputSequences
+     * @param outputSequence
+     */
+    default void forwardRange(int fromIndex, int toIndex, List<T> inputSequences, V outputSequence) {
+        for (int index = fromIndex; index <= toIndex; index++) {
+            forward(index, inputSequences, outputSequence);
+        }
+    }
+
+    /**
+     * Perform the inverse summation for every point from fromIndex to toIndex, inclusive.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param inputSequences
+     * @param outputSequence
+     */
+    default void inverseRange(int fromIndex, int toIndex, List<V> inputSequences, T outputSequence) {
+        for (int index = fromIndex; index <= toIndex; index++) {
+            inverse(index, inputSequences, outputSequence);
+        }
+    }
+
 }
@@ -0,0 +1,15 @@
+package net.spatula.dspatula.signal.chirp;
+
+/**
+ * How a chirp gets from its start frequency to its end frequency: LINEAR sweeps the same number of Hertz every second, EXPONENTIAL
+ * the same number of octaves every second (which is what you want for measuring anything that's heard, since it spends as long
+ * in each octave as in every other).
+ *
+ * @author spatula
+ *
+ */
+public enum ChirpShape {
+
+    LINEAR, EXPONENTIAL;
+
+}
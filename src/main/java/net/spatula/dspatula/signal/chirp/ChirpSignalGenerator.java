@@ -0,0 +1,64 @@
+package net.spatula.dspatula.signal.chirp;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+/**
+ * Generates chirps, or swept sines, for measuring a system's response across a range of frequencies in one go. The sweep is
+ * divided among the cores like any other job; see ChirpWorker for the formulae.
+ *
+ * @author spatula
+ *
+ */
+public class ChirpSignalGenerator {
+
+    private final int sampleRate;
+
+    public ChirpSignalGenerator(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Generate a chirp.
+     *
+     * @param startFrequency
+     *            Frequency at the start of the chirp, in Hertz
+     * @param endFrequency
+     *            Frequency at the end of the chirp, in Hertz
+     * @param duration
+     *            Duration of the chirp, in seconds. The number of samples will be rounded up to the next full sample.
+     * @param amplitude
+     * @param phaseOffset
+     *            The phase offset, given in radians (0 - 2pi)
+     * @param shape
+     *            LINEAR or EXPONENTIAL
+     * @return the chirp
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public RealSequence generate(double startFrequency, double endFrequency, double duration, int amplitude, double phaseOffset,
+            ChirpShape shape) throws ProcessingException {
+        final int samples = sequenceLength(duration);
+        final RealSequence sequence = new RealSequence(samples);
+
+        final ChirpWorker discreteSystemWorker = new ChirpWorker(sampleRate, startFrequency, endFrequency, samples, amplitude,
+                phaseOffset, shape);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    private int sequenceLength(double duration) {
+        return BigDecimal.valueOf(duration).multiply(BigDecimal.valueOf(sampleRate)).setScale(0, RoundingMode.CEILING)
+                .intValue();
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.spatula.dspatula.signal.chirp;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+import net.spatula.dspatula.util.FastMath;
+
+/**
+ * Fills a RealSequence with a chirp: a sine wave whose frequency sweeps from startFrequency at sample 0 to endFrequency at sample
+ * sweepSamples. The phase at every sample has a closed form, so any chunk (or any single sample, as a SampleFunction) can be worked
+ * out without knowing anything about the samples before it.
+ *
+ * For a linear chirp the phase is 2 pi (f0 t + (f1 - f0) t^2 / 2T); for an exponential one it's 2 pi f0 T (k^(t/T) - 1) / ln k,
+ * where k = f1 / f0 and T is the length of the sweep.
+ *
+ * @author spatula
+ *
+ */
+public final class ChirpWorker implements DiscreteSystemWorker<RealSequence>, SampleFunction {
+
+    private final ChirpShape shape;
+    private final int amplitude;
+    private final double phaseOffset;
+    private final double linearTerm;
+    private final double curveTerm;
+
+    public ChirpWorker(int sampleRate, double startFrequency, double endFrequency, int sweepSamples, int amplitude,
+            double phaseOffset, ChirpShape shape) {
+        if (startFrequency < 0 || endFrequency < 0) {
+            throw new IllegalArgumentException("Frequencies must not be negative");
+        }
+        if (shape == ChirpShape.EXPONENTIAL && (startFrequency == 0 || endFrequency == 0)) {
+            throw new IllegalArgumentException("An exponential chirp can't start or end at 0 Hz");
+        }
+        if (sweepSamples < 1) {
+            throw new IllegalArgumentException("A chirp must sweep over at least one sample");
+        }
+
+        this.amplitude = amplitude;
+        this.phaseOffset = phaseOffset;
+
+        final double logRatio = Math.log(endFrequency / startFrequency);
+        if (shape == ChirpShape.EXPONENTIAL && logRatio != 0) {
+            this.shape = ChirpShape.EXPONENTIAL;
+            linearTerm = 2 * Math.PI * startFrequency * sweepSamples / (sampleRate * logRatio);
+            curveTerm = logRatio / sweepSamples;
+        } else {
+            // An exponential chirp from a frequency to itself is just a sine wave, which the linear formula handles fine.
+            this.shape = ChirpShape.LINEAR;
+            linearTerm = 2 * Math.PI * startFrequency / sampleRate;
+            curveTerm = Math.PI * (endFrequency - startFrequency) / ((double) sweepSamples * sampleRate);
+        }
+    }
+
+    @Override
+    public void operate(List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] sequenceValues = sequence.getRealValues();
+
+        for (int sampleNumber = sequence.getStart(); sampleNumber <= sequence.getEnd(); sampleNumber++) {
+            sequenceValues[sampleNumber] = valueAt(sampleNumber);
+        }
+    }
+
+    @Override
+    public int valueAt(int sampleNumber) {
+        return (int) (amplitude * FastMath.sin(phaseAt(sampleNumber)));
+    }
+
+    /**
+     * @param sampleNumber
+     * @return the phase of the chirp at the given sample, in radians
+     */
+    public double phaseAt(int sampleNumber) {
+        final double n = sampleNumber;
+        if (shape == ChirpShape.EXPONENTIAL) {
+            return linearTerm * (Math.exp(curveTerm * n) - 1) + phaseOffset;
+        }
+        return linearTerm * n + curveTerm * n * n + phaseOffset;
+    }
+
+}
@@ -0,0 +1,61 @@
+package net.spatula.dspatula.signal.noise;
+
+/**
+ * Random numbers that are a pure function of a seed, a stream and an index, so that a chunk of noise can be generated starting
+ * anywhere without generating everything before it. However the work is divided up, and whichever thread gets which chunk, the same
+ * seed gives the same noise.
+ *
+ * The mixing function is the one SplittableRandom uses, and for stream 0 the value at index i is exactly the (i + 1)th nextLong()
+ * of a SplittableRandom with the same seed; in effect, every index is a jump straight to that point in its sequence. Other streams
+ * start from a seed mixed from the stream number.
+ *
+ * @author spatula
+ *
+ */
+public final class CounterRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private final long seed;
+
+    public CounterRandom(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param stream
+     *            which of the independent streams to draw from
+     * @param index
+     * @return a uniformly distributed long
+     */
+    public long nextLong(long stream, long index) {
+        final long streamSeed = (stream == 0) ? seed : mix64(seed + stream * GOLDEN_GAMMA);
+        return mix64(streamSeed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * @return a uniformly distributed double in [0, 1)
+     */
+    public double nextDouble(long stream, long index) {
+        return (nextLong(stream, index) >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * @return a uniformly distributed double in [-1, 1)
+     */
+    public double nextSigned(long stream, long index) {
+        return (nextLong(stream, index) >> 10) * DOUBLE_UNIT;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,22 @@
+package net.spatula.dspatula.signal.noise;
+
+/**
+ * The kinds of noise the NoiseSignalGenerator can make.
+ *
+ * WHITE is uniformly distributed between -amplitude and amplitude, with the same power at every frequency.
+ *
+ * PINK has the same power in every octave, falling off at 3dB per octave. It's made the Voss way, by adding up a white noise
+ * source that changes every sample, another that changes every 2 samples, every 4, and so on, which unlike the usual filtered
+ * pink noise needs no state carried over from one sample to the next. It never goes beyond the amplitude, but spends most of its
+ * time well inside it.
+ *
+ * GAUSSIAN is normally distributed, with the amplitude as its standard deviation.
+ *
+ * @author spatula
+ *
+ */
+public enum NoiseColor {
+
+    WHITE, PINK, GAUSSIAN;
+
+}
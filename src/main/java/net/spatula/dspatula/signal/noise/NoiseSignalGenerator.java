@@ -0,0 +1,71 @@
+package net.spatula.dspatula.signal.noise;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+/**
+ * Generates white, pink or Gaussian noise, reproducibly: the same seed always gives the same noise, however many cores it was
+ * generated on.
+ *
+ * @author spatula
+ *
+ */
+public class NoiseSignalGenerator {
+
+    private final int sampleRate;
+    private final long seed;
+
+    public NoiseSignalGenerator(int sampleRate, long seed) {
+        this.sampleRate = sampleRate;
+        this.seed = seed;
+    }
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Generate noise.
+     *
+     * @param duration
+     *            Duration of the noise, in seconds. The number of samples will be rounded up to the next full sample.
+     * @param amplitude
+     *            the peak amplitude for WHITE and PINK noise, or the standard deviation for GAUSSIAN
+     * @param color
+     * @return the noise
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public RealSequence generate(double duration, int amplitude, NoiseColor color) throws ProcessingException {
+        final RealSequence sequence = new RealSequence(sequenceLength(duration));
+
+        final NoiseWorker discreteSystemWorker = new NoiseWorker(seed, amplitude, color);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    /**
+     * Describe noise without generating it; the samples are exactly those generate would produce.
+     *
+     * @see generate
+     */
+    public GeneratedSequence generateVirtual(double duration, int amplitude, NoiseColor color) {
+        return new GeneratedSequence(new NoiseWorker(seed, amplitude, color), sequenceLength(duration));
+    }
+
+    private int sequenceLength(double duration) {
+        return BigDecimal.valueOf(duration).multiply(BigDecimal.valueOf(sampleRate)).setScale(0, RoundingMode.CEILING)
+                .intValue();
+    }
+
+}
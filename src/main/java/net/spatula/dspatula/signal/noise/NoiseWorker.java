@@ -0,0 +1,72 @@
+package net.spatula.dspatula.signal.noise;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+
+/**
+ * Fills a RealSequence with noise. Every sample is computed from the seed and its own index with a CounterRandom, so the noise is
+ * the same no matter how the sequence is divided among the cores, and it can be read sample by sample as a SampleFunction too.
+ *
+ * @author spatula
+ *
+ */
+public final class NoiseWorker implements DiscreteSystemWorker<RealSequence>, SampleFunction {
+
+    static final int PINK_ROWS = 16;
+
+    private final CounterRandom random;
+    private final int amplitude;
+    private final NoiseColor color;
+
+    public NoiseWorker(long seed, int amplitude, NoiseColor color) {
+        this.random = new CounterRandom(seed);
+        this.amplitude = amplitude;
+        this.color = color;
+    }
+
+    @Override
+    public void operate(List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] sequenceValues = sequence.getRealValues();
+
+        for (int sampleNumber = sequence.getStart(); sampleNumber <= sequence.getEnd(); sampleNumber++) {
+            sequenceValues[sampleNumber] = valueAt(sampleNumber);
+        }
+    }
+
+    @Override
+    public int valueAt(int sampleNumber) {
+        switch (color) {
+        case PINK:
+            return (int) (amplitude * pink(sampleNumber));
+        case GAUSSIAN:
+            return (int) (amplitude * gaussian(sampleNumber));
+        default:
+            return (int) (amplitude * random.nextSigned(0, sampleNumber));
+        }
+    }
+
+    /**
+     * Row 0 changes every sample, row 1 every 2 samples, row k every 2^k samples; each row is its own stream, indexed by how many
+     * times it has changed.
+     */
+    private double pink(int sampleNumber) {
+        double sum = 0;
+        for (int row = 0; row <= PINK_ROWS; row++) {
+            sum += random.nextSigned(row, sampleNumber >>> row);
+        }
+        return sum / (PINK_ROWS + 1);
+    }
+
+    /**
+     * Box-Muller, keeping only the sine half of the pair so that each sample depends on nothing but its own index.
+     */
+    private double gaussian(int sampleNumber) {
+        final double radius = Math.sqrt(-2 * Math.log(1 - random.nextDouble(0, sampleNumber)));
+        return radius * Math.sin(2 * Math.PI * random.nextDouble(1, sampleNumber));
+    }
+
+}
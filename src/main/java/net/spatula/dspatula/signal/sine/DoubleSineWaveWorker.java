@@ -0,0 +1,39 @@
+package net.spatula.dspatula.signal.sine;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+
+/**
+ * The double counterpart of the SineWaveWorker, which doesn't truncate its samples to integers.
+ *
+ * @author spatula
+ *
+ */
+public final class DoubleSineWaveWorker implements DiscreteSystemWorker<DoubleSequence> {
+
+    private final SineWave wave;
+    private final double amplitude;
+
+    public DoubleSineWaveWorker(int sampleRate, double frequency, double amplitude, double phaseOffset) {
+        this(sampleRate, frequency, amplitude, phaseOffset, SineWaveMode.LOOKUP);
+    }
+
+    public DoubleSineWaveWorker(int sampleRate, double frequency, double amplitude, double phaseOffset, SineWaveMode mode) {
+        this.wave = new SineWave(sampleRate, frequency, phaseOffset, mode);
+        this.amplitude = amplitude;
+    }
+
+    @Override
+    public void operate(List<DoubleSequence> sequences) {
+        final DoubleSequence sequence = sequences.get(0);
+        final double[] sequenceValues = sequence.getRealValues();
+
+        final SineWave.Cursor cursor = wave.from(sequence.getStart());
+        for (int sampleNumber = sequence.getStart(); sampleNumber <= sequence.getEnd(); sampleNumber++) {
+            sequenceValues[sampleNumber] = (amplitude * cursor.next());
+        }
+    }
+
+}
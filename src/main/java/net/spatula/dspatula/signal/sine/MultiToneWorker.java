@@ -0,0 +1,62 @@
+package net.spatula.dspatula.signal.sine;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+
+/**
+ * Fills a RealSequence with the sum of several sine waves (a comb of tones, say) in a single pass. The sum is kept as a double and
+ * truncated once per sample, so it's a little more faithful than generating each tone separately and adding them, and it's
+ * clamped rather than wrapped if the tones add up to more than an int can hold.
+ *
+ * Each tone gets its own cursor for each chunk, so in SineWaveMode.OSCILLATOR each has its own SineOscillator.
+ *
+ * @author spatula
+ *
+ */
+public final class MultiToneWorker implements DiscreteSystemWorker<RealSequence>, SampleFunction {
+
+    private final SineWave[] waves;
+    private final int[] amplitudes;
+
+    public MultiToneWorker(int sampleRate, double[] frequencies, int[] amplitudes, double[] phaseOffsets, SineWaveMode mode) {
+        if (frequencies.length != amplitudes.length || frequencies.length != phaseOffsets.length) {
+            throw new IllegalArgumentException("Need the same number of frequencies, amplitudes and phase offsets");
+        }
+        this.waves = new SineWave[frequencies.length];
+        for (int tone = 0; tone < waves.length; tone++) {
+            waves[tone] = new SineWave(sampleRate, frequencies[tone], phaseOffsets[tone], mode);
+        }
+        this.amplitudes = amplitudes.clone();
+    }
+
+    @Override
+    public void operate(List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] sequenceValues = sequence.getRealValues();
+
+        final SineWave.Cursor[] cursors = new SineWave.Cursor[waves.length];
+        for (int tone = 0; tone < cursors.length; tone++) {
+            cursors[tone] = waves[tone].from(sequence.getStart());
+        }
+        for (int sampleNumber = sequence.getStart(); sampleNumber <= sequence.getEnd(); sampleNumber++) {
+            double sum = 0;
+            for (int tone = 0; tone < cursors.length; tone++) {
+                sum += amplitudes[tone] * cursors[tone].next();
+            }
+            sequenceValues[sampleNumber] = (int) sum;
+        }
+    }
+
+    @Override
+    public int valueAt(int sampleNumber) {
+        double sum = 0;
+        for (int tone = 0; tone < waves.length; tone++) {
+            sum += amplitudes[tone] * waves[tone].sineAt(sampleNumber);
+        }
+        return (int) sum;
+    }
+
+}
@@ -0,0 +1,62 @@
+package net.spatula.dspatula.signal.sine;
+
+/**
+ * A sine wave generated by rotating a phasor: with c = cos(phase) and s = sin(phase), the next sample's pair is
+ * (c cos w - s sin w, s cos w + c sin w), where w is the phase advanced per sample. The oscillator is seeded exactly at the sample
+ * it's started from, and again every RESEED_INTERVAL samples, so the error can't build up however long it runs, and every chunk of
+ * a parallel job starts out exact no matter where the chunk boundaries fall.
+ *
+ * @author spatula
+ *
+ */
+final class SineOscillator implements SineWave.Cursor {
+
+    static final int RESEED_INTERVAL = 1024;
+
+    private final int sampleRate;
+    private final double frequency;
+    private final double phaseOffset;
+    private final double cosStep;
+    private final double sinStep;
+
+    private int sampleNumber;
+    private int untilReseed;
+    private double cos;
+    private double sin;
+
+    SineOscillator(int sampleRate, double frequency, double phaseOffset, int startSample) {
+        this.sampleRate = sampleRate;
+        this.frequency = frequency;
+        this.phaseOffset = phaseOffset;
+
+        final double step = 2 * Math.PI * frequency / sampleRate;
+        cosStep = Math.cos(step);
+        sinStep = Math.sin(step);
+
+        sampleNumber = startSample;
+        seed();
+    }
+
+    @Override
+    public double next() {
+        if (untilReseed == 0) {
+            seed();
+        }
+        final double value = sin;
+        final double nextCos = cos * cosStep - sin * sinStep;
+        sin = sin * cosStep + cos * sinStep;
+        cos = nextCos;
+        sampleNumber++;
+        untilReseed--;
+        return value;
+    }
+
+    private void seed() {
+        // The same phase the lookup computes, so the two modes agree about where the wave is.
+        final double phase = 2 * Math.PI * frequency * sampleNumber / sampleRate + phaseOffset;
+        cos = Math.cos(phase);
+        sin = Math.sin(phase);
+        untilReseed = RESEED_INTERVAL;
+    }
+
+}
@@ -0,0 +1,72 @@
+package net.spatula.dspatula.signal.sine;
+
+import net.spatula.dspatula.util.FastMath;
+
+/**
+ * The part of a sine wave that all the sine wave workers share, whatever type of samples they write: its frequency and phase at a
+ * given sample rate, and the way its values are to be computed.
+ *
+ * sineAt gives the sine at any one sample, looked up with FastMath. A Cursor gives the sines of consecutive samples from a starting
+ * point, either by looking each of them up or, in SineWaveMode.OSCILLATOR, from a SineOscillator. The workers only have to scale
+ * and store what the cursor gives them.
+ *
+ * @author spatula
+ *
+ */
+final class SineWave {
+
+    /**
+     * The sines of consecutive samples.
+     */
+    interface Cursor {
+
+        /**
+         * @return the sine at the current sample, moving on to the next one
+         */
+        double next();
+
+    }
+
+    private final int sampleRate;
+    private final double frequency;
+    private final double phaseOffset;
+    private final SineWaveMode mode;
+
+    SineWave(int sampleRate, double frequency, double phaseOffset, SineWaveMode mode) {
+        this.sampleRate = sampleRate;
+        this.frequency = frequency;
+        this.phaseOffset = phaseOffset;
+        this.mode = mode;
+    }
+
+    double sineAt(int sampleNumber) {
+        return FastMath.sin(2 * Math.PI * frequency * sampleNumber / sampleRate + phaseOffset);
+    }
+
+    /**
+     * @param startSample
+     * @return a cursor positioned at the given sample
+     */
+    Cursor from(int startSample) {
+        if (mode == SineWaveMode.OSCILLATOR) {
+            return new SineOscillator(sampleRate, frequency, phaseOffset, startSample);
+        }
+        return new LookupCursor(startSample);
+    }
+
+    private final class LookupCursor implements Cursor {
+
+        private int sampleNumber;
+
+        private LookupCursor(int startSample) {
+            this.sampleNumber = startSample;
+        }
+
+        @Override
+        public double next() {
+            return sineAt(sampleNumber++);
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package net.spatula.dspatula.signal.sine;
+
+/**
+ * How the sine wave workers compute their samples.
+ *
+ * LOOKUP works out the phase of every sample and looks its sine up with FastMath, which is what they've always done.
+ *
+ * OSCILLATOR works out the sine and cosine of the first sample of each chunk exactly, and gets every sample after that by rotating
+ * them through one sample's worth of phase: four multiplies and two adds a sample, with no division and no table. Rounding error
+ * makes a rotating phasor wander off the unit circle, so it's seeded again from the exact phase every SineOscillator.RESEED_INTERVAL
+ * samples, which keeps its output within a unit (for integer samples) of what LOOKUP produces, and rather closer to the true sine.
+ *
+ * @author spatula
+ *
+ */
+public enum SineWaveMode {
+
+    LOOKUP, OSCILLATOR;
+
+}
@@ -2,23 +2,42 @@ package net.spatula.dspatula.signal.sine;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.concurrent.CompletableFuture;
 
 import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
 import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
 
 public class SineWaveSignalGenerator {
 
     private final int sampleRate;
+    private final SineWaveMode mode;
 
     public SineWaveSignalGenerator(int sampleRate) {
+        this(sampleRate, SineWaveMode.LOOKUP);
+    }
+
+    /**
+     * @param sampleRate
+     * @param mode
+     *            how samples are computed; OSCILLATOR is the faster of the two, LOOKUP the one the library has always used
+     */
+    public SineWaveSignalGenerator(int sampleRate, SineWaveMode mode) {
         this.sampleRate = sampleRate;
+        this.mode = mode;
     }
 
     public int getSampleRate() {
         return sampleRate;
     }
 
+    public SineWaveMode getMode() {
+        return mode;
+    }
+
     /**
      * Generate a sine wave.
      *
@@ -35,15 +54,129 @@ public class SineWaveSignalGenerator {
      *             If errors are encountered during execution
      */
     public RealSequence generate(double frequency, double duration, int amplitude, double phaseOffset) throws ProcessingException {
-        // Do this calculation with BigDecimal, to avoid float error values like 44100.0000000001 getting rounded up to 44101.
-        final int sequenceLength = BigDecimal.valueOf(duration).multiply(BigDecimal.valueOf(sampleRate))
-                .setScale(0, RoundingMode.CEILING).intValue();
-        final RealSequence sequence = new RealSequence(sequenceLength);
+        final RealSequence sequence = new RealSequence(sequenceLength(duration));
 
-        final SineWaveWorker discreteSystemWorker = new SineWaveWorker(sampleRate, frequency, amplitude, phaseOffset);
+        final SineWaveWorker discreteSystemWorker = new SineWaveWorker(sampleRate, frequency, amplitude, phaseOffset, mode);
         DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
 
         return sequence;
     }
 
+    /**
+     * Generate a sine wave into a sequence supplied by the caller (borrowed from a SequencePool, say), filling it from start to end.
+     * The wave is laid over the underlying array as a whole, so for a sequence that doesn't start at 0, the phase at its first
+     * sample is the phase the wave would have reached by then.
+     *
+     * @param frequency
+     *            Frequency of the sine wave, in Hertz
+     * @param amplitude
+     * @param phaseOffset
+     *            The phase offset, given in radians (0 - 2pi)
+     * @param sequence
+     *            The sequence to fill
+     * @return the sequence, for convenience
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public RealSequence generate(double frequency, int amplitude, double phaseOffset, RealSequence sequence)
+            throws ProcessingException {
+        final SineWaveWorker discreteSystemWorker = new SineWaveWorker(sampleRate, frequency, amplitude, phaseOffset, mode);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    /**
+     * Generate a sine wave without blocking the calling thread.
+     *
+     * @see generate
+     * @return a future which completes with the sine wave, or fails with a ProcessingException
+     */
+    public CompletableFuture<RealSequence> generateAsync(double frequency, double duration, int amplitude, double phaseOffset) {
+        final RealSequence sequence = new RealSequence(sequenceLength(duration));
+
+        final SineWaveWorker discreteSystemWorker = new SineWaveWorker(sampleRate, frequency, amplitude, phaseOffset, mode);
+        return DiscreteSystemParallelExecutor.getDefaultInstance().executeAsync(discreteSystemWorker, sequence)
+                .thenApply(ignored -> sequence);
+    }
+
+    /**
+     * Generate the sum of several sine waves in a single pass, rather than generating each one and adding them together.
+     *
+     * @param frequencies
+     *            Frequency of each tone, in Hertz
+     * @param amplitudes
+     *            Amplitude of each tone
+     * @param phaseOffsets
+     *            Phase offset of each tone, in radians (0 - 2pi)
+     * @param duration
+     *            Duration, in seconds
+     * @return the sum of the tones
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public RealSequence generateMultiTone(double[] frequencies, int[] amplitudes, double[] phaseOffsets, double duration)
+            throws ProcessingException {
+        final RealSequence sequence = new RealSequence(sequenceLength(duration));
+
+        final MultiToneWorker discreteSystemWorker = new MultiToneWorker(sampleRate, frequencies, amplitudes, phaseOffsets, mode);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    /**
+     * Describe a sine wave without generating it: the samples of the returned GeneratedSequence are computed only when something
+     * reads them, which for a congruent system like the Adder or Multiplier means inline in its loop. Handy for mixing in a carrier
+     * that would otherwise be written out in full just to be read once. Samples read one at a time can't be had from an oscillator,
+     * so they're always looked up: the values are exactly those generate would produce in LOOKUP mode.
+     *
+     * @see generate
+     */
+    public GeneratedSequence generateVirtual(double frequency, double duration, int amplitude, double phaseOffset) {
+        return new GeneratedSequence(new SineWaveWorker(sampleRate, frequency, amplitude, phaseOffset), sequenceLength(duration));
+    }
+
+    /**
+     * Generate a sine wave with double precision samples.
+     *
+     * @see generate
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public DoubleSequence generateDouble(double frequency, double duration, double amplitude, double phaseOffset)
+            throws ProcessingException {
+        final DoubleSequence sequence = new DoubleSequence(sequenceLength(duration));
+
+        final DoubleSineWaveWorker discreteSystemWorker = new DoubleSineWaveWorker(sampleRate, frequency, amplitude, phaseOffset,
+                mode);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    /**
+     * Generate a sine wave with single precision samples.
+     *
+     * @see generate
+     * @throws ProcessingException
+     *             If errors are encountered during execution
+     */
+    public FloatSequence generateFloat(double frequency, double duration, double amplitude, double phaseOffset)
+            throws ProcessingException {
+        final FloatSequence sequence = new FloatSequence(sequenceLength(duration));
+
+        final FloatSineWaveWorker discreteSystemWorker = new FloatSineWaveWorker(sampleRate, frequency, amplitude, phaseOffset,
+                mode);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(discreteSystemWorker, sequence);
+
+        return sequence;
+    }
+
+    private int sequenceLength(double duration) {
+        // Do this calculation with BigDecimal, to avoid float error values like 44100.0000000001 getting rounded up to 44101.
+        return BigDecimal.valueOf(duration).multiply(BigDecimal.valueOf(sampleRate)).setScale(0, RoundingMode.CEILING)
+                .intValue();
+    }
+
 }
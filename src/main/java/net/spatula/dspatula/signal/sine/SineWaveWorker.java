@@ -7,35 +7,52 @@ import org.slf4j.LoggerFactory;
 
 import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
 import net.spatula.dspatula.time.sequence.RealSequence;
-import net.spatula.dspatula.util.FastMath;
-
-public final class SineWaveWorker implements DiscreteSystemWorker<RealSequence> {
-
-    private final int sampleRate;
-    private final double phaseOffset;
-    private final double frequency;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+/**
+ * Fills a RealSequence with a sine wave. In SineWaveMode.OSCILLATOR, each chunk is generated by a SineOscillator seeded at the
+ * chunk's first sample; valueAt always looks its sample up, since it may be asked for any sample in any order. The RealSequence may
+ * be a StridedRealSequence, such as one channel of a MultiChannelSequence.
+ *
+ * @author spatula
+ *
+ */
+public final class SineWaveWorker implements DiscreteSystemWorker<RealSequence>, SampleFunction {
+
+    private final SineWave wave;
     private final int amplitude;
 
     private static final Logger LOG = LoggerFactory.getLogger(SineWaveWorker.class);
 
     public SineWaveWorker(int sampleRate, double frequency, int amplitude, double phaseOffset) {
-        this.frequency = frequency;
-        this.phaseOffset = phaseOffset;
-        this.sampleRate = sampleRate;
+        this(sampleRate, frequency, amplitude, phaseOffset, SineWaveMode.LOOKUP);
+    }
+
+    public SineWaveWorker(int sampleRate, double frequency, int amplitude, double phaseOffset, SineWaveMode mode) {
+        this.wave = new SineWave(sampleRate, frequency, phaseOffset, mode);
         this.amplitude = amplitude;
     }
 
     @Override
     public void operate(List<RealSequence> sequences) {
         final RealSequence sequence = sequences.get(0);
-        final int[] sequenceValues = sequence.getRealValues();
+        final int[] sequenceValues = StridedRealSequence.valuesOf(sequence);
+        final int stride = StridedRealSequence.strideOf(sequence);
 
         LOG.trace("Building sine wave from sample {} to {}", sequence.getStart(), sequence.getEnd());
 
+        final SineWave.Cursor cursor = wave.from(sequence.getStart());
+        int arrayIndex = StridedRealSequence.offsetOf(sequence) + stride * sequence.getStart();
         for (int sampleNumber = sequence.getStart(); sampleNumber <= sequence.getEnd(); sampleNumber++) {
-            sequenceValues[sampleNumber] = (int) (amplitude
-                    * FastMath.sin(2 * Math.PI * frequency * sampleNumber / sampleRate + phaseOffset));
+            sequenceValues[arrayIndex] = (int) (amplitude * cursor.next());
+            arrayIndex += stride;
         }
     }
 
+    @Override
+    public int valueAt(int sampleNumber) {
+        return (int) (amplitude * wave.sineAt(sampleNumber));
+    }
+
 }
@@ -0,0 +1,28 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Replace all values of a Sequence with their absolute values (full-wave rectification). Integer.MIN_VALUE, whose absolute value
+ * doesn't fit in an int, becomes Integer.MAX_VALUE.
+ *
+ * @author spatula
+ *
+ */
+public class Absolute extends AbstractElementwiseSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] = Math.abs(Math.max(-Integer.MAX_VALUE, values[index]));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] = Math.abs(Math.max(-Integer.MAX_VALUE, values[arrayIndex]));
+            arrayIndex += stride;
+        }
+    }
+
+}
@@ -3,7 +3,10 @@ package net.spatula.dspatula.system;
 import java.util.List;
 
 import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
 
 /**
  * Base class for Discrete Systems which take as inputs two signals of equal length.
@@ -11,6 +14,12 @@ import net.spatula.dspatula.time.sequence.RealSequence;
  * Note that the 'for' loop is not included in the 'operate' method for the sake of performance (to avoid a method call for every
  * iteration of the loop).
  *
+ * The second signal may be a GeneratedSequence, in which case its values are computed inline in the loop rather than read from an
+ * array (unless something has already asked it for its array, in which case the array is read like any other).
+ *
+ * Either signal may be a StridedRealSequence (a decimated, de-interleaved, reversed or shifted view), in which case the loop steps
+ * through the underlying arrays by the views' strides instead of by one. Plain sequences take the plain loop, as before.
+ *
  * @author spatula
  *
  */
@@ -20,8 +29,29 @@ public abstract class AbstractCongruentSystem implements DiscreteSystemWorker<Re
     public void operate(List<RealSequence> sequences) {
         final RealSequence first = sequences.get(0);
         final RealSequence second = sequences.get(1);
-        final int start = first.getStart();
-        final int end = first.getEnd();
+        operate(first, second, first.getStart(), first.getEnd());
+    }
+
+    /**
+     * Operate on part of a pair of sequences, from start to end, without making subsequences for it.
+     *
+     * @param first
+     * @param second
+     * @param start
+     * @param end
+     */
+    final void operate(final RealSequence first, final RealSequence second, final int start, final int end) {
+        if (second instanceof GeneratedSequence && !((GeneratedSequence) second).isMaterialized()) {
+            operate(start, end, StridedRealSequence.valuesOf(first), StridedRealSequence.offsetOf(first),
+                    StridedRealSequence.strideOf(first), ((GeneratedSequence) second).getFunction());
+            return;
+        }
+        if (first instanceof StridedRealSequence || second instanceof StridedRealSequence) {
+            operate(start, end, StridedRealSequence.valuesOf(first), StridedRealSequence.offsetOf(first),
+                    StridedRealSequence.strideOf(first), StridedRealSequence.valuesOf(second), StridedRealSequence.offsetOf(second),
+                    StridedRealSequence.strideOf(second));
+            return;
+        }
 
         final int[] destinationValues = first.getRealValues();
         final int[] addValues = second.getRealValues();
@@ -30,4 +60,59 @@ public abstract class AbstractCongruentSystem implements DiscreteSystemWorker<Re
 
     protected abstract void operate(final int start, final int end, final int[] destinationValues, final int[] operandValues);
 
+    /**
+     * The sample at index i of each signal lives at offset + stride * i of its array.
+     *
+     * By default, the samples are gathered into a pair of temporary arrays for the array version of operate, and the results copied
+     * back; systems which can step through the strides themselves should override this.
+     */
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final int[] operandValues, final int operandOffset, final int operandStride) {
+        final int length = (end - start) + 1;
+        final int[] destination = new int[length];
+        final int[] operand = new int[length];
+        int destinationIndex = destinationOffset + destinationStride * start;
+        int operandIndex = operandOffset + operandStride * start;
+        for (int index = 0; index < length; index++) {
+            destination[index] = destinationValues[destinationIndex];
+            operand[index] = operandValues[operandIndex];
+            destinationIndex += destinationStride;
+            operandIndex += operandStride;
+        }
+
+        operate(0, length - 1, destination, operand);
+
+        destinationIndex = destinationOffset + destinationStride * start;
+        for (int index = 0; index < length; index++) {
+            destinationValues[destinationIndex] = destination[index];
+            destinationIndex += destinationStride;
+        }
+    }
+
+    /**
+     * The sample at index i of the destination lives at offset + stride * i of its array; the sample at index i of the operand is
+     * operand.valueAt(i).
+     *
+     * By default, the samples are gathered into a pair of temporary arrays for the array version of operate, and the results copied
+     * back; systems which can do without the copying should override this.
+     */
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final SampleFunction operand) {
+        final int length = (end - start) + 1;
+        final int[] destination = new int[length];
+        final int[] operandValues = new int[length];
+        for (int index = 0, arrayIndex = destinationOffset + destinationStride * start; index < length; index++) {
+            destination[index] = destinationValues[arrayIndex];
+            operandValues[index] = operand.valueAt(start + index);
+            arrayIndex += destinationStride;
+        }
+
+        operate(0, length - 1, destination, operandValues);
+
+        for (int index = 0, arrayIndex = destinationOffset + destinationStride * start; index < length; index++) {
+            destinationValues[arrayIndex] = destination[index];
+            arrayIndex += destinationStride;
+        }
+    }
+
 }
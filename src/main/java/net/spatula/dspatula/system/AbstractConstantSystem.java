@@ -1,17 +1,16 @@
 package net.spatula.dspatula.system;
 
-import java.util.List;
-
-import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
-import net.spatula.dspatula.time.sequence.RealSequence;
-
 /**
  * Base class for Discrete Systems which apply a constant value to all elements of a Sequence.
  *
+ * The value is held boxed, so implementations should unbox it into a local before their loops. Systems whose constant is an int,
+ * a long or a double are better off extending AbstractIntConstantSystem, AbstractLongConstantSystem or AbstractDoubleConstantSystem,
+ * which hold it as a primitive in the first place.
+ *
  * @author spatula
  *
  */
-public abstract class AbstractConstantSystem<T> implements DiscreteSystemWorker<RealSequence> {
+public abstract class AbstractConstantSystem<T> extends AbstractElementwiseSystem {
 
     protected final T value;
 
@@ -19,16 +18,4 @@ public abstract class AbstractConstantSystem<T> implements DiscreteSystemWorker<
         this.value = value;
     }
 
-    @Override
-    public void operate(List<RealSequence> sequences) {
-        final RealSequence sequence = sequences.get(0);
-        final int start = sequence.getStart();
-        final int end = sequence.getEnd();
-        final int[] values = sequence.getRealValues();
-
-        operate(start, end, values);
-    }
-
-    protected abstract void operate(final int start, final int end, final int[] values);
-
 }
@@ -0,0 +1,22 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Base class for Discrete Systems which apply a constant double to all elements of a Sequence. The constant is held as a primitive, so
+ * there's nothing to unbox in the loop.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractDoubleConstantSystem extends AbstractElementwiseSystem {
+
+    protected final double value;
+
+    public AbstractDoubleConstantSystem(double value) {
+        this.value = value;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,68 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+/**
+ * Base class for Discrete Systems which replace each element of a Sequence with some function of that element alone.
+ *
+ * The Sequence may be a StridedRealSequence, in which case the loop steps through the underlying array by the view's stride.
+ *
+ * As with the congruent systems, the 'for' loop belongs in the implementations' operate methods, where the JIT can see the whole of
+ * it; that's what lets it turn the simple ones into vector instructions.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractElementwiseSystem implements DiscreteSystemWorker<RealSequence> {
+
+    @Override
+    public void operate(List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        operate(sequence, sequence.getStart(), sequence.getEnd());
+    }
+
+    /**
+     * Operate on part of a sequence, from start to end, without making a subsequence for it.
+     *
+     * @param sequence
+     * @param start
+     * @param end
+     */
+    final void operate(final RealSequence sequence, final int start, final int end) {
+        if (sequence instanceof StridedRealSequence) {
+            final StridedRealSequence view = (StridedRealSequence) sequence;
+            operate(start, end, view.getUnderlyingValues(), view.getOffset(), view.getStride());
+            return;
+        }
+        final int[] values = sequence.getRealValues();
+
+        operate(start, end, values);
+    }
+
+    protected abstract void operate(final int start, final int end, final int[] values);
+
+    /**
+     * The sample at index i lives at offset + stride * i of the array.
+     *
+     * By default, the samples are gathered into a temporary array for the array version of operate, and the results copied back;
+     * systems which can step through the stride themselves should override this.
+     */
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final int length = (end - start) + 1;
+        final int[] contiguous = new int[length];
+        for (int index = 0, arrayIndex = offset + stride * start; index < length; index++, arrayIndex += stride) {
+            contiguous[index] = values[arrayIndex];
+        }
+
+        operate(0, length - 1, contiguous);
+
+        for (int index = 0, arrayIndex = offset + stride * start; index < length; index++, arrayIndex += stride) {
+            values[arrayIndex] = contiguous[index];
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Base class for Discrete Systems which apply a constant int to all elements of a Sequence. The constant is held as a primitive, so
+ * there's nothing to unbox in the loop.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractIntConstantSystem extends AbstractElementwiseSystem {
+
+    protected final int value;
+
+    public AbstractIntConstantSystem(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+}
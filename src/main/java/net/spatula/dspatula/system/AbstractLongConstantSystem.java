@@ -0,0 +1,22 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Base class for Discrete Systems which apply a constant long to all elements of a Sequence. The constant is held as a primitive, so
+ * there's nothing to unbox in the loop.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractLongConstantSystem extends AbstractElementwiseSystem {
+
+    protected final long value;
+
+    public AbstractLongConstantSystem(long value) {
+        this.value = value;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+}
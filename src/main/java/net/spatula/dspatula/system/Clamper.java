@@ -0,0 +1,50 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Clamp all values of a Sequence to the range from minimum to maximum, inclusive.
+ *
+ * @author spatula
+ *
+ */
+public class Clamper extends AbstractElementwiseSystem {
+
+    private final int minimum;
+    private final int maximum;
+
+    public Clamper(int minimum, int maximum) {
+        if (minimum > maximum) {
+            throw new IllegalArgumentException("Minimum " + minimum + " is greater than maximum " + maximum);
+        }
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    public int getMinimum() {
+        return minimum;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        final int low = minimum;
+        final int high = maximum;
+        for (int index = start; index <= end; index++) {
+            values[index] = Math.min(high, Math.max(low, values[index]));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final int low = minimum;
+        final int high = maximum;
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] = Math.min(high, Math.max(low, values[arrayIndex]));
+            arrayIndex += stride;
+        }
+    }
+
+}
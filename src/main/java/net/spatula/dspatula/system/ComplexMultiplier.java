@@ -0,0 +1,63 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+
+/**
+ * Discrete System worker which multiplies the values of the first ComplexSequence by the values of the second, as complex numbers,
+ * storing the result in the first sequence.
+ *
+ * The products are calculated as longs, and results that won't fit back into an int are clamped to the nearest int rather than
+ * wrapped, like the fixed-point systems do.
+ *
+ * @author spatula
+ *
+ */
+public class ComplexMultiplier implements DiscreteSystemWorker<ComplexSequence> {
+
+    @Override
+    public void operate(List<ComplexSequence> sequences) {
+        final ComplexSequence first = sequences.get(0);
+        final ComplexSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+        final int[] destinationReal = first.getRealValues();
+        final int[] destinationImaginary = first.getImaginaryValues();
+        final int[] operandReal = second.getRealValues();
+        final int[] operandImaginary = second.getImaginaryValues();
+
+        for (int index = start; index <= end; index++) {
+            final long a = destinationReal[index];
+            final long b = destinationImaginary[index];
+            final long c = operandReal[index];
+            final long d = operandImaginary[index];
+            destinationReal[index] = saturatingSum(a * c, -(b * d));
+            destinationImaginary[index] = saturatingSum(a * d, b * c);
+        }
+    }
+
+    /**
+     * Add two products of ints, clamping the sum to the range of an int. Each product fits comfortably in a long, but their sum can
+     * just barely overflow one (when everything is Integer.MIN_VALUE), and then the sign tells us which way to clamp.
+     *
+     * @param x
+     * @param y
+     * @return
+     */
+    static int saturatingSum(long x, long y) {
+        final long sum = x + y;
+        if (((x ^ sum) & (y ^ sum)) < 0) {
+            return (x < 0) ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        }
+        if (sum > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        if (sum < Integer.MIN_VALUE) {
+            return Integer.MIN_VALUE;
+        }
+        return (int) sum;
+    }
+
+}
@@ -0,0 +1,39 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Add a constant offset to all values of a Sequence, such as to remove a DC offset. The offset is a long, so that any offset from
+ * one end of the int range to the other can be expressed, and results which don't fit in an int are clamped rather than wrapping.
+ *
+ * The offset is itself clamped to ±2^32 on the way in. Any larger offset clamps every int to the same end of the range anyway,
+ * and this way adding it to an int can't overflow the long.
+ *
+ * @author spatula
+ *
+ */
+public class ConstantAdder extends AbstractLongConstantSystem {
+
+    private static final long MAXIMUM_OFFSET = 1L << 32;
+
+    public ConstantAdder(long value) {
+        super(Math.max(-MAXIMUM_OFFSET, Math.min(MAXIMUM_OFFSET, value)));
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        final long offset = value;
+        for (int index = start; index <= end; index++) {
+            values[index] = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, values[index] + offset));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final long addend = value;
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, values[arrayIndex] + addend));
+            arrayIndex += stride;
+        }
+    }
+
+}
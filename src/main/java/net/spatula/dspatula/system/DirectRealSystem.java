@@ -0,0 +1,80 @@
+package net.spatula.dspatula.system;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.DirectRealSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+/**
+ * Runs a RealSequence system over DirectRealSequences, so that the same Adder, Multiplier, and so on work off the heap too.
+ *
+ * The DirectRealSequences are copied a block at a time into small on-heap RealSequences (one set per thread, reused from block to
+ * block), the wrapped system operates on those, and the first sequence, which holds the result, is copied back. That costs a copy
+ * in and out, but it keeps the heap small no matter how long the signal is, and the blocks are small enough to stay in cache while
+ * the system works on them.
+ *
+ * The wrapped system sees each block as a RealSequence starting at 0, so this only makes sense for systems which treat every
+ * sample alike, which is most of them; a Windower, for example, needs to know where it is in the whole sequence and can't be used
+ * this way. All of the sequences should be the same length.
+ *
+ * @author spatula
+ *
+ */
+public class DirectRealSystem implements DiscreteSystemWorker<DirectRealSequence> {
+
+    public static final int DEFAULT_BLOCK_SIZE = 16384;
+
+    private final DiscreteSystemWorker<RealSequence> system;
+    private final int blockSize;
+    private final ThreadLocal<RealSequence[]> staging = new ThreadLocal<>();
+
+    public DirectRealSystem(DiscreteSystemWorker<RealSequence> system) {
+        this(system, DEFAULT_BLOCK_SIZE);
+    }
+
+    public DirectRealSystem(DiscreteSystemWorker<RealSequence> system, int blockSize) {
+        this.system = system;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public void operate(List<DirectRealSequence> sequences) {
+        final DirectRealSequence first = sequences.get(0);
+        final long start = first.getLongStart();
+        final long end = first.getLongEnd();
+        final RealSequence[] stagingSequences = getStaging(sequences.size());
+
+        for (long blockStart = start; blockStart <= end; blockStart += blockSize) {
+            final int count = (int) Math.min(blockSize, end - blockStart + 1);
+            final long blockOffset = blockStart - start;
+
+            final List<RealSequence> blockSequences = new ArrayList<>(sequences.size());
+            for (int seqNum = 0; seqNum < sequences.size(); seqNum++) {
+                final DirectRealSequence sequence = sequences.get(seqNum);
+                final RealSequence stagingSequence = stagingSequences[seqNum];
+                sequence.getRealValues().copyTo(sequence.getLongStart() + blockOffset, stagingSequence.getRealValues(), 0, count);
+                blockSequences.add(count == blockSize ? stagingSequence : stagingSequence.subsequence(0, count - 1));
+            }
+
+            system.operate(Collections.unmodifiableList(blockSequences));
+
+            first.getRealValues().copyFrom(stagingSequences[0].getRealValues(), 0, blockStart, count);
+        }
+    }
+
+    private RealSequence[] getStaging(int sequenceCount) {
+        RealSequence[] stagingSequences = staging.get();
+        if (stagingSequences == null || stagingSequences.length < sequenceCount) {
+            stagingSequences = new RealSequence[sequenceCount];
+            for (int seqNum = 0; seqNum < sequenceCount; seqNum++) {
+                stagingSequences[seqNum] = new RealSequence(blockSize);
+            }
+            staging.set(stagingSequences);
+        }
+        return stagingSequences;
+    }
+
+}
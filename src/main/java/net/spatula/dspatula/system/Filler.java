@@ -1,12 +1,14 @@
 package net.spatula.dspatula.system;
 
+import java.util.Arrays;
+
 /**
  * Does nothing but fill a sequence with a particular value.
  *
  * @author spatula
  *
  */
-public class Filler extends AbstractConstantSystem<Integer> {
+public class Filler extends AbstractIntConstantSystem {
 
     public Filler(int value) {
         super(value);
@@ -14,8 +16,16 @@ public class Filler extends AbstractConstantSystem<Integer> {
 
     @Override
     protected void operate(final int start, final int end, final int[] values) {
+        Arrays.fill(values, start, end + 1, value);
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final int fill = value;
+        int arrayIndex = offset + stride * start;
         for (int index = start; index <= end; index++) {
-            values[index] = value;
+            values[arrayIndex] = fill;
+            arrayIndex += stride;
         }
     }
 
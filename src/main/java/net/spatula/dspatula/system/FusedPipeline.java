@@ -0,0 +1,255 @@
+package net.spatula.dspatula.system;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+/**
+ * A chain of element-wise systems run as one: instead of one DiscreteSystemParallelExecutor.execute (and one full pass over memory)
+ * per system, the executor divides the destination once, and each chunk is worked through a block at a time, with every system in
+ * the chain applied to a block before moving on to the next, while the block is still in cache.
+ *
+ * <pre>
+ * FusedPipeline pipeline = FusedPipeline.builder()
+ *         .then(new Filler(0))
+ *         .then(new Adder(), signal)
+ *         .then(new Multiplier(), window)
+ *         .then(new ConstantMultiplier(0.5))
+ *         .build();
+ * pipeline.execute(output);
+ * </pre>
+ *
+ * AbstractElementwiseSystems and AbstractCongruentSystems are called on each block directly, without any subsequences being made.
+ * Any other DiscreteSystemWorker can be added too, and is handed subsequences for each block.
+ *
+ * The results are identical to running the systems one after another, provided that each system only looks at the same index of
+ * each sequence that it writes to (as all of the element-wise and congruent systems do, and the Windower too), and that the
+ * operands don't overlap the destination. Operands must cover at least the range of the destination.
+ *
+ * A FusedPipeline holds on to its operands, but not to any destination, so it can be executed over and over.
+ *
+ * @author spatula
+ *
+ */
+public class FusedPipeline {
+
+    public static final int DEFAULT_BLOCK_SIZE = 2048;
+
+    private final List<Stage> stages;
+    private final List<RealSequence> operands;
+    private final int blockSize;
+
+    private FusedPipeline(List<Stage> stages, List<RealSequence> operands, int blockSize) {
+        this.stages = stages;
+        this.operands = operands;
+        this.blockSize = blockSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Run every stage of the pipeline over the destination, in parallel.
+     *
+     * @param destination
+     * @return the destination, for convenience
+     * @throws ProcessingException
+     *             If errors occur while running the job
+     */
+    public RealSequence execute(RealSequence destination) throws ProcessingException {
+        final RealSequence[] sequences = new RealSequence[operands.size() + 1];
+        sequences[0] = destination;
+        for (int operand = 0; operand < operands.size(); operand++) {
+            final RealSequence sequence = operands.get(operand);
+            if (sequence.getStart() > destination.getStart() || sequence.getEnd() < destination.getEnd()) {
+                throw new IllegalArgumentException("Operand " + operand + " covers " + sequence.getStart() + " to " + sequence.getEnd()
+                        + " but the destination covers " + destination.getStart() + " to " + destination.getEnd());
+            }
+            sequences[operand + 1] = sequence;
+        }
+
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new FusedWorker(), sequences);
+
+        return destination;
+    }
+
+    public int getStageCount() {
+        return stages.size();
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Runs every stage over one chunk, a block at a time.
+     */
+    private class FusedWorker implements DiscreteSystemWorker<RealSequence> {
+
+        @Override
+        public void operate(List<RealSequence> sequences) {
+            final RealSequence destination = sequences.get(0);
+            final int end = destination.getEnd();
+            for (int blockStart = destination.getStart(); blockStart <= end; blockStart += blockSize) {
+                final int blockEnd = (int) Math.min((long) blockStart + blockSize - 1, end);
+                for (final Stage stage : stages) {
+                    stage.run(sequences, blockStart, blockEnd);
+                }
+            }
+        }
+
+    }
+
+    private interface Stage {
+
+        void run(List<RealSequence> sequences, int start, int end);
+
+    }
+
+    private static class ElementwiseStage implements Stage {
+
+        private final AbstractElementwiseSystem system;
+
+        ElementwiseStage(AbstractElementwiseSystem system) {
+            this.system = system;
+        }
+
+        @Override
+        public void run(List<RealSequence> sequences, int start, int end) {
+            system.operate(sequences.get(0), start, end);
+        }
+
+    }
+
+    private static class CongruentStage implements Stage {
+
+        private final AbstractCongruentSystem system;
+        private final int operandIndex;
+
+        CongruentStage(AbstractCongruentSystem system, int operandIndex) {
+            this.system = system;
+            this.operandIndex = operandIndex;
+        }
+
+        @Override
+        public void run(List<RealSequence> sequences, int start, int end) {
+            system.operate(sequences.get(0), sequences.get(operandIndex), start, end);
+        }
+
+    }
+
+    private static class WorkerStage implements Stage {
+
+        private final DiscreteSystemWorker<RealSequence> worker;
+        private final int operandIndex;
+
+        /**
+         * @param worker
+         * @param operandIndex
+         *            the index of the operand in the chunk's sequences, or 0 for none
+         */
+        WorkerStage(DiscreteSystemWorker<RealSequence> worker, int operandIndex) {
+            this.worker = worker;
+            this.operandIndex = operandIndex;
+        }
+
+        @Override
+        public void run(List<RealSequence> sequences, int start, int end) {
+            final RealSequence destination = sequences.get(0).subsequence(start, end);
+            if (operandIndex == 0) {
+                worker.operate(Collections.singletonList(destination));
+            } else {
+                final List<RealSequence> blockSequences = new ArrayList<>(2);
+                blockSequences.add(destination);
+                blockSequences.add(sequences.get(operandIndex).subsequence(start, end));
+                worker.operate(Collections.unmodifiableList(blockSequences));
+            }
+        }
+
+    }
+
+    public static class Builder {
+
+        private final List<Stage> stages = new ArrayList<>();
+        private final List<RealSequence> operands = new ArrayList<>();
+        private int blockSize = DEFAULT_BLOCK_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a system which works on the destination alone.
+         *
+         * @param system
+         * @return
+         */
+        public Builder then(AbstractElementwiseSystem system) {
+            stages.add(new ElementwiseStage(system));
+            return this;
+        }
+
+        /**
+         * Add a system which combines an operand into the destination.
+         *
+         * @param system
+         * @param operand
+         * @return
+         */
+        public Builder then(AbstractCongruentSystem system, RealSequence operand) {
+            operands.add(operand);
+            stages.add(new CongruentStage(system, operands.size()));
+            return this;
+        }
+
+        /**
+         * Add any other element-wise DiscreteSystemWorker which works on the destination alone.
+         *
+         * @param worker
+         * @return
+         */
+        public Builder then(DiscreteSystemWorker<RealSequence> worker) {
+            stages.add(new WorkerStage(worker, 0));
+            return this;
+        }
+
+        /**
+         * Add any other element-wise DiscreteSystemWorker which combines an operand into the destination.
+         *
+         * @param worker
+         * @param operand
+         * @return
+         */
+        public Builder then(DiscreteSystemWorker<RealSequence> worker, RealSequence operand) {
+            operands.add(operand);
+            stages.add(new WorkerStage(worker, operands.size()));
+            return this;
+        }
+
+        /**
+         * @param blockSize
+         *            the number of samples each stage works on at a time; small enough to stay in cache, large enough to keep the
+         *            loops long
+         * @return
+         */
+        public Builder blockSize(int blockSize) {
+            if (blockSize < 1) {
+                throw new IllegalArgumentException("Block size must be positive");
+            }
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        public FusedPipeline build() {
+            return new FusedPipeline(Collections.unmodifiableList(new ArrayList<>(stages)),
+                    Collections.unmodifiableList(new ArrayList<>(operands)), blockSize);
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+
+/**
+ * The interleaved counterpart of the ComplexMultiplier: multiplies the values of the first InterleavedComplexSequence by the
+ * values of the second, as complex numbers, storing the result in the first sequence. Like the ComplexMultiplier, it clamps results
+ * that won't fit in an int.
+ *
+ * @author spatula
+ *
+ */
+public class InterleavedComplexMultiplier implements DiscreteSystemWorker<InterleavedComplexSequence> {
+
+    @Override
+    public void operate(List<InterleavedComplexSequence> sequences) {
+        final InterleavedComplexSequence first = sequences.get(0);
+        final InterleavedComplexSequence second = sequences.get(1);
+        final int from = first.getStart() * 2;
+        final int to = first.getEnd() * 2;
+        final int[] destinationValues = first.getValues();
+        final int[] operandValues = second.getValues();
+
+        for (int index = from; index <= to; index += 2) {
+            final long a = destinationValues[index];
+            final long b = destinationValues[index + 1];
+            final long c = operandValues[index];
+            final long d = operandValues[index + 1];
+            destinationValues[index] = ComplexMultiplier.saturatingSum(a * c, -(b * d));
+            destinationValues[index + 1] = ComplexMultiplier.saturatingSum(a * d, b * c);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+
+/**
+ * The interleaved counterpart of Magnitude: replaces each value of an InterleavedComplexSequence with its magnitude, leaving it in
+ * the real part and zeroing the imaginary part.
+ *
+ * @author spatula
+ *
+ */
+public class InterleavedMagnitude implements DiscreteSystemWorker<InterleavedComplexSequence> {
+
+    @Override
+    public void operate(List<InterleavedComplexSequence> sequences) {
+        final InterleavedComplexSequence sequence = sequences.get(0);
+        final int from = sequence.getStart() * 2;
+        final int to = sequence.getEnd() * 2;
+        final int[] values = sequence.getValues();
+
+        for (int index = from; index <= to; index += 2) {
+            final long real = values[index];
+            final long imaginary = values[index + 1];
+            values[index] = Magnitude.magnitude(real * real + imaginary * imaginary);
+            values[index + 1] = 0;
+        }
+    }
+
+}
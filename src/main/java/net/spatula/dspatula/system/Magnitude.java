@@ -0,0 +1,46 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+
+/**
+ * Discrete System worker which replaces each value of a ComplexSequence with its magnitude, sqrt(real^2 + imaginary^2). The
+ * magnitude goes into the real part and the imaginary part is zeroed, so the result can be read straight out of getRealValues(),
+ * for example to plot a spectrum. A magnitude too big for an int is clamped to Integer.MAX_VALUE.
+ *
+ * @author spatula
+ *
+ */
+public class Magnitude implements DiscreteSystemWorker<ComplexSequence> {
+
+    @Override
+    public void operate(List<ComplexSequence> sequences) {
+        final ComplexSequence sequence = sequences.get(0);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+        final int[] realValues = sequence.getRealValues();
+        final int[] imaginaryValues = sequence.getImaginaryValues();
+
+        for (int index = start; index <= end; index++) {
+            final long real = realValues[index];
+            final long imaginary = imaginaryValues[index];
+            realValues[index] = magnitude(real * real + imaginary * imaginary);
+            imaginaryValues[index] = 0;
+        }
+    }
+
+    /**
+     * The square root of a sum of two squared ints, which is exact in a long except when both ints are Integer.MIN_VALUE and it
+     * comes to 2^63, one more than a long can hold. Read as unsigned, it's still right. Magnitudes too big for an int (which
+     * only happen near the corners) come out as Integer.MAX_VALUE.
+     *
+     * @param sumOfSquares
+     * @return
+     */
+    static int magnitude(long sumOfSquares) {
+        return (int) Math.sqrt((sumOfSquares < 0) ? sumOfSquares + 0x1p64 : sumOfSquares);
+    }
+
+}
@@ -0,0 +1,28 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Negate all values of a Sequence (invert its polarity). Integer.MIN_VALUE, whose negation doesn't fit in an int, becomes
+ * Integer.MAX_VALUE.
+ *
+ * @author spatula
+ *
+ */
+public class Negator extends AbstractElementwiseSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] = -Math.max(-Integer.MAX_VALUE, values[index]);
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] = -Math.max(-Integer.MAX_VALUE, values[arrayIndex]);
+            arrayIndex += stride;
+        }
+    }
+
+}
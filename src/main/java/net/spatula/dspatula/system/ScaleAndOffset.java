@@ -0,0 +1,43 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Apply the affine map x → x × scale + offset to all values of a Sequence, in one pass instead of a ConstantMultiplier pass followed
+ * by a ConstantAdder pass. The arithmetic is done in doubles, and casting back to an int clamps.
+ *
+ * @author spatula
+ *
+ */
+public class ScaleAndOffset extends AbstractDoubleConstantSystem {
+
+    private final double offset;
+
+    public ScaleAndOffset(double scale, double offset) {
+        super(scale);
+        this.offset = offset;
+    }
+
+    public double getOffset() {
+        return offset;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        final double scale = value;
+        final double addend = offset;
+        for (int index = start; index <= end; index++) {
+            values[index] = (int) (values[index] * scale + addend);
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final double scale = value;
+        final double addend = this.offset;
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] = (int) (values[arrayIndex] * scale + addend);
+            arrayIndex += stride;
+        }
+    }
+
+}
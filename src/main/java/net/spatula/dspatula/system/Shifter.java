@@ -0,0 +1,54 @@
+package net.spatula.dspatula.system;
+
+/**
+ * Shift all values of a Sequence by a number of bits: multiply or divide by a power of two, in other words. A positive number of
+ * bits shifts left, clamping results that don't fit in an int; a negative number shifts right, keeping the sign (so it rounds
+ * towards negative infinity).
+ *
+ * @author spatula
+ *
+ */
+public class Shifter extends AbstractIntConstantSystem {
+
+    public Shifter(int bits) {
+        super(bits);
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        if (value >= 0) {
+            // Shifting a long left by 32 is already enough to saturate anything but 0, and can't overflow the long.
+            final int bits = Math.min(value, 32);
+            for (int index = start; index <= end; index++) {
+                values[index] = (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, (long) values[index] << bits));
+            }
+            return;
+        }
+
+        final int bits = Math.min(-value, 31);
+        for (int index = start; index <= end; index++) {
+            values[index] >>= bits;
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        int arrayIndex = offset + stride * start;
+        if (value >= 0) {
+            final int bits = Math.min(value, 32);
+            for (int index = start; index <= end; index++) {
+                values[arrayIndex] = (int) Math.max(Integer.MIN_VALUE,
+                        Math.min(Integer.MAX_VALUE, (long) values[arrayIndex] << bits));
+                arrayIndex += stride;
+            }
+            return;
+        }
+
+        final int bits = Math.min(-value, 31);
+        for (int index = start; index <= end; index++) {
+            values[arrayIndex] >>= bits;
+            arrayIndex += stride;
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package net.spatula.dspatula.system;
 
+import net.spatula.dspatula.time.sequence.SampleFunction;
+
 /**
  * Discrete System worker which simply subtracts the values of the second sequence to the first sequence. Implements the
  * "Subtraction" operation from section 1.3 of Understanding DSP.
@@ -16,4 +18,26 @@ public class Subtracter extends AbstractCongruentSystem {
         }
     }
 
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final int[] operandValues, final int operandOffset, final int operandStride) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        int operandIndex = operandOffset + operandStride * start;
+        for (int index = start; index <= end; index++) {
+            destinationValues[destinationIndex] -= operandValues[operandIndex];
+            destinationIndex += destinationStride;
+            operandIndex += operandStride;
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final SampleFunction operand) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        for (int index = start; index <= end; index++) {
+            destinationValues[destinationIndex] -= operand.valueAt(index);
+            destinationIndex += destinationStride;
+        }
+    }
+
 }
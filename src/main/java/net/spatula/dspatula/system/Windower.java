@@ -0,0 +1,64 @@
+package net.spatula.dspatula.system;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+import net.spatula.dspatula.window.Window;
+
+/**
+ * Multiply the values of a Sequence by the coefficients of a Window, so that a windowed Sequence can be handed to any transform.
+ *
+ * The window is laid over the Sequence as a whole, so the Windower needs to be told where that Sequence starts and how long it is;
+ * the subsequences it's handed by the DiscreteSystemParallelExecutor only know about their own little chunk. The Sequence may be a
+ * StridedRealSequence, such as one channel of a MultiChannelSequence, in which case the window is laid over its logical indexes.
+ *
+ * @author spatula
+ *
+ */
+public class Windower implements DiscreteSystemWorker<RealSequence> {
+
+    private final int windowStart;
+    private final double[] coefficients;
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param sequence
+     *            the (whole) sequence to which the window will be applied
+     */
+    public Windower(Window window, RealSequence sequence) {
+        this(window, sequence.getStart(), sequence.getLength());
+    }
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param windowStart
+     *            the index in the underlying array at which the window begins
+     * @param windowLength
+     *            the length of the window
+     */
+    public Windower(Window window, int windowStart, int windowLength) {
+        this.windowStart = windowStart;
+        this.coefficients = window.getTable(windowLength).getCoefficients();
+    }
+
+    @Override
+    public void operate(List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+        final int[] values = StridedRealSequence.valuesOf(sequence);
+        final int stride = StridedRealSequence.strideOf(sequence);
+
+        int arrayIndex = StridedRealSequence.offsetOf(sequence) + stride * start;
+        for (int index = start; index <= end; index++) {
+            final int coefficientIndex = index - windowStart;
+            values[arrayIndex] = (int) (values[arrayIndex] * coefficients[coefficientIndex]);
+            arrayIndex += stride;
+        }
+    }
+
+}
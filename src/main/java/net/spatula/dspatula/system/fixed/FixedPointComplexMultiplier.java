@@ -0,0 +1,59 @@
+package net.spatula.dspatula.system.fixed;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+
+/**
+ * Discrete System worker which multiplies the values of the first ComplexSequence by the values of the second, as complex numbers
+ * whose parts are fixed-point numbers in the given QFormat, storing the result in the first sequence.
+ *
+ * Each part of the product is accumulated as a long, then rounded to nearest as it's shifted back down to the format, and
+ * saturated. Each product of two ints is at most 2^62, so a sum of two of them overflows a long in just one case: in Q31, when
+ * all four parts are Integer.MIN_VALUE, the imaginary part is exactly 2^63, which wraps to Long.MIN_VALUE. No true sum can be that
+ * small, so it's taken as the overflow it is, and saturates to the maximum.
+ *
+ * @author spatula
+ *
+ */
+public class FixedPointComplexMultiplier implements DiscreteSystemWorker<ComplexSequence> {
+
+    private final int fractionalBits;
+    private final long rounding;
+    private final int minimum;
+    private final int maximum;
+
+    public FixedPointComplexMultiplier(QFormat format) {
+        this.fractionalBits = format.getFractionalBits();
+        this.rounding = format.getRounding();
+        this.minimum = format.getMinimum();
+        this.maximum = format.getMaximum();
+    }
+
+    @Override
+    public void operate(List<ComplexSequence> sequences) {
+        final ComplexSequence first = sequences.get(0);
+        final ComplexSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+        final int[] destinationReal = first.getRealValues();
+        final int[] destinationImaginary = first.getImaginaryValues();
+        final int[] operandReal = second.getRealValues();
+        final int[] operandImaginary = second.getImaginaryValues();
+
+        for (int index = start; index <= end; index++) {
+            final long a = destinationReal[index];
+            final long b = destinationImaginary[index];
+            final long c = operandReal[index];
+            final long d = operandImaginary[index];
+            final long real = (a * c - b * d + rounding) >> fractionalBits;
+            final long imaginarySum = a * d + b * c;
+            final long imaginary = (imaginarySum + rounding) >> fractionalBits;
+            destinationReal[index] = (int) Math.max(minimum, Math.min(maximum, real));
+            destinationImaginary[index] = (imaginarySum == Long.MIN_VALUE) ? maximum
+                    : (int) Math.max(minimum, Math.min(maximum, imaginary));
+        }
+    }
+
+}
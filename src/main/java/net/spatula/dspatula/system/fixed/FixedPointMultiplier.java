@@ -0,0 +1,61 @@
+package net.spatula.dspatula.system.fixed;
+
+import net.spatula.dspatula.system.AbstractCongruentSystem;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+
+/**
+ * Discrete System worker which multiplies the values of the first sequence by the second, treating both as fixed-point numbers in
+ * the given QFormat. Each product is calculated as a long, rounded to nearest as it's shifted back down to the format, and
+ * saturated (which in practice only matters for -1 × -1).
+ *
+ * @author spatula
+ *
+ */
+public class FixedPointMultiplier extends AbstractCongruentSystem {
+
+    private final int fractionalBits;
+    private final long rounding;
+    private final int minimum;
+    private final int maximum;
+
+    public FixedPointMultiplier(QFormat format) {
+        this.fractionalBits = format.getFractionalBits();
+        this.rounding = format.getRounding();
+        this.minimum = format.getMinimum();
+        this.maximum = format.getMaximum();
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            final long result = ((long) destinationValues[index] * operandValues[index] + rounding) >> fractionalBits;
+            destinationValues[index] = (int) Math.max(minimum, Math.min(maximum, result));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final int[] operandValues, final int operandOffset, final int operandStride) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        int operandIndex = operandOffset + operandStride * start;
+        for (int index = start; index <= end; index++) {
+            final long result = ((long) destinationValues[destinationIndex] * operandValues[operandIndex] + rounding)
+                    >> fractionalBits;
+            destinationValues[destinationIndex] = (int) Math.max(minimum, Math.min(maximum, result));
+            destinationIndex += destinationStride;
+            operandIndex += operandStride;
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final SampleFunction operand) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        for (int index = start; index <= end; index++) {
+            final long result = ((long) destinationValues[destinationIndex] * operand.valueAt(index) + rounding) >> fractionalBits;
+            destinationValues[destinationIndex] = (int) Math.max(minimum, Math.min(maximum, result));
+            destinationIndex += destinationStride;
+        }
+    }
+
+}
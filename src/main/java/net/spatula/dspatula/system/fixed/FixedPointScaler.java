@@ -0,0 +1,62 @@
+package net.spatula.dspatula.system.fixed;
+
+import net.spatula.dspatula.system.AbstractIntConstantSystem;
+
+/**
+ * Multiply all values of a Sequence by a constant coefficient, with both treated as fixed-point numbers in the given QFormat: the
+ * fixed-point counterpart of the ConstantMultiplier, which never leaves integer arithmetic. Products are rounded to nearest and
+ * saturated.
+ *
+ * @author spatula
+ *
+ */
+public class FixedPointScaler extends AbstractIntConstantSystem {
+
+    private final int fractionalBits;
+    private final long rounding;
+    private final int minimum;
+    private final int maximum;
+
+    /**
+     * @param format
+     * @param coefficient
+     *            the coefficient, already in the given format
+     */
+    public FixedPointScaler(QFormat format, int coefficient) {
+        super(coefficient);
+        this.fractionalBits = format.getFractionalBits();
+        this.rounding = format.getRounding();
+        this.minimum = format.getMinimum();
+        this.maximum = format.getMaximum();
+    }
+
+    /**
+     * @param format
+     * @param coefficient
+     *            the coefficient as a real number in [-1, 1), converted to the nearest value in the given format
+     */
+    public FixedPointScaler(QFormat format, double coefficient) {
+        this(format, format.fromDouble(coefficient));
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values) {
+        final long coefficient = value;
+        for (int index = start; index <= end; index++) {
+            final long result = (values[index] * coefficient + rounding) >> fractionalBits;
+            values[index] = (int) Math.max(minimum, Math.min(maximum, result));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] values, final int offset, final int stride) {
+        final long coefficient = value;
+        int arrayIndex = offset + stride * start;
+        for (int index = start; index <= end; index++) {
+            final long result = (values[arrayIndex] * coefficient + rounding) >> fractionalBits;
+            values[arrayIndex] = (int) Math.max(minimum, Math.min(maximum, result));
+            arrayIndex += stride;
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package net.spatula.dspatula.system.fixed;
+
+/**
+ * Fixed-point formats for sample values held in ints. A value in Qn format represents value / 2^n, so Q15 covers [-1, 1) in steps
+ * of 2^-15 using the range of a short, and Q31 covers [-1, 1) in steps of 2^-31 using the whole range of an int.
+ *
+ * @author spatula
+ *
+ */
+public enum QFormat {
+
+    Q15(15),
+    Q31(31);
+
+    private final int fractionalBits;
+    private final long rounding;
+    private final int minimum;
+    private final int maximum;
+
+    private QFormat(int fractionalBits) {
+        this.fractionalBits = fractionalBits;
+        this.rounding = 1L << (fractionalBits - 1);
+        this.minimum = (int) -(1L << fractionalBits);
+        this.maximum = (int) ((1L << fractionalBits) - 1);
+    }
+
+    /**
+     * @return the number of bits after the binary point
+     */
+    public int getFractionalBits() {
+        return fractionalBits;
+    }
+
+    /**
+     * @return the amount added to a double-width product before shifting it down, so that the shift rounds to nearest
+     */
+    public long getRounding() {
+        return rounding;
+    }
+
+    /**
+     * @return the smallest representable value, representing -1
+     */
+    public int getMinimum() {
+        return minimum;
+    }
+
+    /**
+     * @return the largest representable value, representing 1 - 2^-n
+     */
+    public int getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * @param value
+     * @return the value, clamped to the range of this format
+     */
+    public int saturate(long value) {
+        return (int) Math.max(minimum, Math.min(maximum, value));
+    }
+
+    /**
+     * Multiply two values in this format, rounding to nearest and saturating.
+     *
+     * @param first
+     * @param second
+     * @return
+     */
+    public int multiply(int first, int second) {
+        return saturate(((long) first * second + rounding) >> fractionalBits);
+    }
+
+    /**
+     * @param value
+     * @return the nearest value in this format to the given real number, saturated
+     */
+    public int fromDouble(double value) {
+        return saturate(Math.round(value * (1L << fractionalBits)));
+    }
+
+    /**
+     * @param value
+     * @return the real number represented by the value in this format
+     */
+    public double toDouble(int value) {
+        return value / (double) (1L << fractionalBits);
+    }
+
+}
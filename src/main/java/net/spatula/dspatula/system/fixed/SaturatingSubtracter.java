@@ -0,0 +1,55 @@
+package net.spatula.dspatula.system.fixed;
+
+import net.spatula.dspatula.system.AbstractCongruentSystem;
+import net.spatula.dspatula.time.sequence.SampleFunction;
+
+/**
+ * Discrete System worker which subtracts the values of the second sequence from the first, like the Subtracter, except that
+ * results which fall outside the range of its QFormat are clamped to that range instead of wrapping around.
+ *
+ * @author spatula
+ *
+ */
+public class SaturatingSubtracter extends AbstractCongruentSystem {
+
+    private final int minimum;
+    private final int maximum;
+
+    public SaturatingSubtracter(QFormat format) {
+        this.minimum = format.getMinimum();
+        this.maximum = format.getMaximum();
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            final long result = (long) destinationValues[index] - operandValues[index];
+            destinationValues[index] = (int) Math.max(minimum, Math.min(maximum, result));
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final int[] operandValues, final int operandOffset, final int operandStride) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        int operandIndex = operandOffset + operandStride * start;
+        for (int index = start; index <= end; index++) {
+            final long result = (long) destinationValues[destinationIndex] - operandValues[operandIndex];
+            destinationValues[destinationIndex] = (int) Math.max(minimum, Math.min(maximum, result));
+            destinationIndex += destinationStride;
+            operandIndex += operandStride;
+        }
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final int[] destinationValues, final int destinationOffset,
+            final int destinationStride, final SampleFunction operand) {
+        int destinationIndex = destinationOffset + destinationStride * start;
+        for (int index = start; index <= end; index++) {
+            final long result = (long) destinationValues[destinationIndex] - operand.valueAt(index);
+            destinationValues[destinationIndex] = (int) Math.max(minimum, Math.min(maximum, result));
+            destinationIndex += destinationStride;
+        }
+    }
+
+}
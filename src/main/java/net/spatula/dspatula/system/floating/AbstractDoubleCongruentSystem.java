@@ -0,0 +1,33 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+
+/**
+ * Base class for Discrete Systems which take as inputs two DoubleSequences of equal length.
+ *
+ * Note that the 'for' loop is not included in the 'operate' method for the sake of performance (to avoid a method call for every
+ * iteration of the loop).
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractDoubleCongruentSystem implements DiscreteSystemWorker<DoubleSequence> {
+
+    @Override
+    public void operate(List<DoubleSequence> sequences) {
+        final DoubleSequence first = sequences.get(0);
+        final DoubleSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+
+        final double[] destinationValues = first.getRealValues();
+        final double[] operandValues = second.getRealValues();
+        operate(start, end, destinationValues, operandValues);
+    }
+
+    protected abstract void operate(final int start, final int end, final double[] destinationValues, final double[] operandValues);
+
+}
@@ -0,0 +1,33 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+
+/**
+ * Base class for Discrete Systems which take as inputs two FloatSequences of equal length.
+ *
+ * Note that the 'for' loop is not included in the 'operate' method for the sake of performance (to avoid a method call for every
+ * iteration of the loop).
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractFloatCongruentSystem implements DiscreteSystemWorker<FloatSequence> {
+
+    @Override
+    public void operate(List<FloatSequence> sequences) {
+        final FloatSequence first = sequences.get(0);
+        final FloatSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+
+        final float[] destinationValues = first.getRealValues();
+        final float[] operandValues = second.getRealValues();
+        operate(start, end, destinationValues, operandValues);
+    }
+
+    protected abstract void operate(final int start, final int end, final float[] destinationValues, final float[] operandValues);
+
+}
@@ -0,0 +1,27 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+
+/**
+ * Base class for Discrete Systems which do the same thing to every value of a single FloatSequence, like multiplying by a
+ * constant.
+ *
+ * As with the congruent systems, the 'for' loop belongs to the subclass, for the sake of performance.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractFloatElementwiseSystem implements DiscreteSystemWorker<FloatSequence> {
+
+    @Override
+    public void operate(List<FloatSequence> sequences) {
+        final FloatSequence sequence = sequences.get(0);
+        operate(sequence.getStart(), sequence.getEnd(), sequence.getRealValues());
+    }
+
+    protected abstract void operate(final int start, final int end, final float[] values);
+
+}
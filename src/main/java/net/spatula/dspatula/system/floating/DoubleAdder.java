@@ -0,0 +1,18 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The double counterpart of the Adder: adds the values of the second sequence to the first sequence.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleAdder extends AbstractDoubleCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final double[] destinationValues, final double[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] += operandValues[index];
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The double counterpart of the ConstantAdder: adds the same value to every value of a DoubleSequence (removing a DC offset, say,
+ * with a negative one). Nothing is rounded or clamped.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleConstantAdder extends AbstractDoubleElementwiseSystem {
+
+    private final double value;
+
+    public DoubleConstantAdder(double value) {
+        this.value = value;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final double[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] += value;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The double counterpart of the ConstantMultiplier: multiplies every value of a DoubleSequence by the same value. Nothing is
+ * rounded or clamped.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleConstantMultiplier extends AbstractDoubleElementwiseSystem {
+
+    private final double value;
+
+    public DoubleConstantMultiplier(double value) {
+        this.value = value;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final double[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] *= value;
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.DoubleComplexSequence;
+
+/**
+ * The double counterpart of Magnitude: replaces each value of a DoubleComplexSequence with its magnitude, leaving it in the real
+ * part and zeroing the imaginary part.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleMagnitude implements DiscreteSystemWorker<DoubleComplexSequence> {
+
+    @Override
+    public void operate(List<DoubleComplexSequence> sequences) {
+        final DoubleComplexSequence sequence = sequences.get(0);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+        final double[] realValues = sequence.getRealValues();
+        final double[] imaginaryValues = sequence.getImaginaryValues();
+
+        for (int index = start; index <= end; index++) {
+            final double real = realValues[index];
+            final double imaginary = imaginaryValues[index];
+            // Math.hypot guards against overflow we'll never see here, and it's many times slower.
+            realValues[index] = Math.sqrt(real * real + imaginary * imaginary);
+            imaginaryValues[index] = 0D;
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The double counterpart of the Subtracter: subtracts the values of the second sequence from the first sequence.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleSubtracter extends AbstractDoubleCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final double[] destinationValues, final double[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] -= operandValues[index];
+        }
+    }
+
+}
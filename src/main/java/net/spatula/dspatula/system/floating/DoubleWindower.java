@@ -0,0 +1,56 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.window.Window;
+
+/**
+ * The double counterpart of the Windower: multiply the values of a DoubleSequence by the coefficients of a Window. Nothing is
+ * truncated, so the windowed values can be handed on to the next operation as they are.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleWindower implements DiscreteSystemWorker<DoubleSequence> {
+
+    private final int windowStart;
+    private final double[] coefficients;
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param sequence
+     *            the (whole) sequence to which the window will be applied
+     */
+    public DoubleWindower(Window window, DoubleSequence sequence) {
+        this(window, sequence.getStart(), sequence.getLength());
+    }
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param windowStart
+     *            the index in the underlying array at which the window begins
+     * @param windowLength
+     *            the length of the window
+     */
+    public DoubleWindower(Window window, int windowStart, int windowLength) {
+        this.windowStart = windowStart;
+        this.coefficients = window.getTable(windowLength).getCoefficients();
+    }
+
+    @Override
+    public void operate(List<DoubleSequence> sequences) {
+        final DoubleSequence sequence = sequences.get(0);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+        final double[] values = sequence.getRealValues();
+
+        for (int index = start; index <= end; index++) {
+            values[index] *= coefficients[index - windowStart];
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The float counterpart of the ConstantAdder: adds the same value to every value of a FloatSequence (removing a DC offset, say,
+ * with a negative one). Nothing is rounded or clamped.
+ *
+ * @author spatula
+ *
+ */
+public class FloatConstantAdder extends AbstractFloatElementwiseSystem {
+
+    private final float value;
+
+    public FloatConstantAdder(float value) {
+        this.value = value;
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final float[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] += value;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The float counterpart of the ConstantMultiplier: multiplies every value of a FloatSequence by the same value. Nothing is
+ * rounded or clamped.
+ *
+ * @author spatula
+ *
+ */
+public class FloatConstantMultiplier extends AbstractFloatElementwiseSystem {
+
+    private final float value;
+
+    public FloatConstantMultiplier(float value) {
+        this.value = value;
+    }
+
+    public float getValue() {
+        return value;
+    }
+
+    @Override
+    protected void operate(final int start, final int end, final float[] values) {
+        for (int index = start; index <= end; index++) {
+            values[index] *= value;
+        }
+    }
+
+}
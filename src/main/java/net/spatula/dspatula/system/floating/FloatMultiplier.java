@@ -0,0 +1,19 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The float counterpart of the Multiplier: multiplies the values of the first sequence by the second sequence, storing the result
+ * in the first sequence.
+ *
+ * @author spatula
+ *
+ */
+public class FloatMultiplier extends AbstractFloatCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final float[] destinationValues, final float[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] *= operandValues[index];
+        }
+    }
+
+}
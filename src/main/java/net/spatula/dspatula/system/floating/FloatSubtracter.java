@@ -0,0 +1,18 @@
+package net.spatula.dspatula.system.floating;
+
+/**
+ * The float counterpart of the Subtracter: subtracts the values of the second sequence from the first sequence.
+ *
+ * @author spatula
+ *
+ */
+public class FloatSubtracter extends AbstractFloatCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final float[] destinationValues, final float[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] -= operandValues[index];
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package net.spatula.dspatula.system.floating;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.window.Window;
+
+/**
+ * The float counterpart of the Windower: multiply the values of a FloatSequence by the coefficients of a Window. Nothing is
+ * truncated, so the windowed values can be handed on to the next operation as they are.
+ *
+ * @author spatula
+ *
+ */
+public class FloatWindower implements DiscreteSystemWorker<FloatSequence> {
+
+    private final int windowStart;
+    private final double[] coefficients;
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param sequence
+     *            the (whole) sequence to which the window will be applied
+     */
+    public FloatWindower(Window window, FloatSequence sequence) {
+        this(window, sequence.getStart(), sequence.getLength());
+    }
+
+    /**
+     * @param window
+     *            the window to apply
+     * @param windowStart
+     *            the index in the underlying array at which the window begins
+     * @param windowLength
+     *            the length of the window
+     */
+    public FloatWindower(Window window, int windowStart, int windowLength) {
+        this.windowStart = windowStart;
+        this.coefficients = window.getTable(windowLength).getCoefficients();
+    }
+
+    @Override
+    public void operate(List<FloatSequence> sequences) {
+        final FloatSequence sequence = sequences.get(0);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+        final float[] values = sequence.getRealValues();
+
+        for (int index = start; index <= end; index++) {
+            values[index] *= (float) coefficients[index - windowStart];
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package net.spatula.dspatula.system.pcm;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ByteSequence;
+
+/**
+ * Base class for Discrete Systems which take as inputs two ByteSequences of equal length. Implementations widen each pair of
+ * samples to ints, calculate, and saturate the result back to 8 bits, so that overflow clips rather than wrapping around.
+ *
+ * Note that the 'for' loop is not included in the 'operate' method for the sake of performance (to avoid a method call for every
+ * iteration of the loop).
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractByteCongruentSystem implements DiscreteSystemWorker<ByteSequence> {
+
+    @Override
+    public void operate(List<ByteSequence> sequences) {
+        final ByteSequence first = sequences.get(0);
+        final ByteSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+
+        final byte[] destinationValues = first.getRealValues();
+        final byte[] operandValues = second.getRealValues();
+        operate(start, end, destinationValues, operandValues);
+    }
+
+    protected abstract void operate(final int start, final int end, final byte[] destinationValues, final byte[] operandValues);
+
+}
@@ -0,0 +1,34 @@
+package net.spatula.dspatula.system.pcm;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.time.sequence.ShortSequence;
+
+/**
+ * Base class for Discrete Systems which take as inputs two ShortSequences of equal length. Implementations widen each pair of
+ * samples to ints, calculate, and saturate the result back to 16 bits, so that overflow clips rather than wrapping around.
+ *
+ * Note that the 'for' loop is not included in the 'operate' method for the sake of performance (to avoid a method call for every
+ * iteration of the loop).
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractShortCongruentSystem implements DiscreteSystemWorker<ShortSequence> {
+
+    @Override
+    public void operate(List<ShortSequence> sequences) {
+        final ShortSequence first = sequences.get(0);
+        final ShortSequence second = sequences.get(1);
+        final int start = first.getStart();
+        final int end = first.getEnd();
+
+        final short[] destinationValues = first.getRealValues();
+        final short[] operandValues = second.getRealValues();
+        operate(start, end, destinationValues, operandValues);
+    }
+
+    protected abstract void operate(final int start, final int end, final short[] destinationValues, final short[] operandValues);
+
+}
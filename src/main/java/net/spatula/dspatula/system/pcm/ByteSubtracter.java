@@ -0,0 +1,21 @@
+package net.spatula.dspatula.system.pcm;
+
+import net.spatula.dspatula.time.sequence.ByteSequence;
+
+/**
+ * The 8-bit counterpart of the Subtracter: subtracts the values of the second sequence from the first sequence, saturating the
+ * results.
+ *
+ * @author spatula
+ *
+ */
+public class ByteSubtracter extends AbstractByteCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final byte[] destinationValues, final byte[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] = ByteSequence.saturate(destinationValues[index] - operandValues[index]);
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package net.spatula.dspatula.system.pcm;
+
+import net.spatula.dspatula.time.sequence.ShortSequence;
+
+/**
+ * The 16-bit counterpart of the Adder: adds the values of the second sequence to the first sequence, saturating the results.
+ *
+ * @author spatula
+ *
+ */
+public class ShortAdder extends AbstractShortCongruentSystem {
+
+    @Override
+    protected void operate(final int start, final int end, final short[] destinationValues, final short[] operandValues) {
+        for (int index = start; index <= end; index++) {
+            destinationValues[index] = ShortSequence.saturate(destinationValues[index] + operandValues[index]);
+        }
+    }
+
+}
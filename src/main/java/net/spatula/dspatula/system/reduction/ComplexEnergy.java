@@ -0,0 +1,43 @@
+package net.spatula.dspatula.system.reduction;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.ReducingWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+
+/**
+ * Reduce a ComplexSequence to the sum of the squared magnitudes of its samples.
+ *
+ * @author spatula
+ *
+ */
+public class ComplexEnergy implements ReducingWorker<ComplexSequence, SquareTotal> {
+
+    @Override
+    public SquareTotal createAccumulator() {
+        return new SquareTotal();
+    }
+
+    @Override
+    public void accumulate(SquareTotal accumulator, List<ComplexSequence> sequences) {
+        final ComplexSequence sequence = sequences.get(0);
+        final int[] realValues = sequence.getRealValues();
+        final int[] imaginaryValues = sequence.getImaginaryValues();
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+
+        double sumOfSquares = 0;
+        for (int index = start; index <= end; index++) {
+            final double real = realValues[index];
+            final double imaginary = imaginaryValues[index];
+            sumOfSquares += real * real + imaginary * imaginary;
+        }
+        accumulator.add(sumOfSquares, sequence.getLength());
+    }
+
+    @Override
+    public void combine(SquareTotal into, SquareTotal from) {
+        into.add(from.getSumOfSquares(), from.getCount());
+    }
+
+}
@@ -0,0 +1,54 @@
+package net.spatula.dspatula.system.reduction;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.ReducingWorker;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+
+/**
+ * Reduce a ComplexSequence to its largest magnitude, and where it is.
+ *
+ * @author spatula
+ *
+ */
+public class ComplexPeak implements ReducingWorker<ComplexSequence, PeakMagnitude> {
+
+    @Override
+    public PeakMagnitude createAccumulator() {
+        return new PeakMagnitude();
+    }
+
+    @Override
+    public void accumulate(PeakMagnitude accumulator, List<ComplexSequence> sequences) {
+        final ComplexSequence sequence = sequences.get(0);
+        final int[] realValues = sequence.getRealValues();
+        final int[] imaginaryValues = sequence.getImaginaryValues();
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+
+        long peakSquared = -1;
+        int peakIndex = -1;
+        for (int index = start; index <= end; index++) {
+            final long real = realValues[index];
+            final long imaginary = imaginaryValues[index];
+            // Each square is at most 2^62, so the sum only overflows when both parts are Integer.MIN_VALUE.
+            final long sum = real * real + imaginary * imaginary;
+            final long squared = sum < 0 ? Long.MAX_VALUE : sum;
+            if (squared > peakSquared) {
+                peakSquared = squared;
+                peakIndex = index;
+            }
+        }
+        if (peakIndex >= 0) {
+            accumulator.add(peakSquared, peakIndex);
+        }
+    }
+
+    @Override
+    public void combine(PeakMagnitude into, PeakMagnitude from) {
+        if (from.getPeakIndex() >= 0) {
+            into.add(from.getPeakSquared(), from.getPeakIndex());
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package net.spatula.dspatula.system.reduction;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.ReducingWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+/**
+ * Reduce a RealSequence (or a view of one) to the sum of the squares of its samples, from which the RMS follows.
+ *
+ * @author spatula
+ *
+ */
+public class Energy implements ReducingWorker<RealSequence, SquareTotal> {
+
+    @Override
+    public SquareTotal createAccumulator() {
+        return new SquareTotal();
+    }
+
+    @Override
+    public void accumulate(SquareTotal accumulator, List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] values = StridedRealSequence.valuesOf(sequence);
+        final int stride = StridedRealSequence.strideOf(sequence);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+
+        double sumOfSquares = 0;
+        int arrayIndex = StridedRealSequence.offsetOf(sequence) + stride * start;
+        for (int index = start; index <= end; index++) {
+            final double value = values[arrayIndex];
+            sumOfSquares += value * value;
+            arrayIndex += stride;
+        }
+        accumulator.add(sumOfSquares, sequence.getLength());
+    }
+
+    @Override
+    public void combine(SquareTotal into, SquareTotal from) {
+        into.add(from.getSumOfSquares(), from.getCount());
+    }
+
+}
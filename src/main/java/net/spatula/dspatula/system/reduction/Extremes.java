@@ -0,0 +1,39 @@
+package net.spatula.dspatula.system.reduction;
+
+/**
+ * Accumulator for the smallest and largest samples. Until a sample has been seen, the minimum is Integer.MAX_VALUE and the maximum
+ * is Integer.MIN_VALUE.
+ *
+ * @author spatula
+ *
+ */
+public class Extremes {
+
+    private int minimum = Integer.MAX_VALUE;
+    private int maximum = Integer.MIN_VALUE;
+
+    void add(int minimum, int maximum) {
+        this.minimum = Math.min(this.minimum, minimum);
+        this.maximum = Math.max(this.maximum, maximum);
+    }
+
+    public int getMinimum() {
+        return minimum;
+    }
+
+    public int getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * @return the largest magnitude of any sample, as a long, since the magnitude of Integer.MIN_VALUE doesn't fit in an int; 0 if
+     *         there were no samples
+     */
+    public long getPeak() {
+        if (minimum > maximum) {
+            return 0;
+        }
+        return Math.max(Math.abs((long) minimum), Math.abs((long) maximum));
+    }
+
+}
@@ -0,0 +1,47 @@
+package net.spatula.dspatula.system.reduction;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.ReducingWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+/**
+ * Reduce a RealSequence (or a view of one) to its smallest and largest samples, from which the peak amplitude follows.
+ *
+ * @author spatula
+ *
+ */
+public class MinMax implements ReducingWorker<RealSequence, Extremes> {
+
+    @Override
+    public Extremes createAccumulator() {
+        return new Extremes();
+    }
+
+    @Override
+    public void accumulate(Extremes accumulator, List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] values = StridedRealSequence.valuesOf(sequence);
+        final int stride = StridedRealSequence.strideOf(sequence);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+
+        int minimum = Integer.MAX_VALUE;
+        int maximum = Integer.MIN_VALUE;
+        int arrayIndex = StridedRealSequence.offsetOf(sequence) + stride * start;
+        for (int index = start; index <= end; index++) {
+            final int value = values[arrayIndex];
+            minimum = Math.min(minimum, value);
+            maximum = Math.max(maximum, value);
+            arrayIndex += stride;
+        }
+        accumulator.add(minimum, maximum);
+    }
+
+    @Override
+    public void combine(Extremes into, Extremes from) {
+        into.add(from.getMinimum(), from.getMaximum());
+    }
+
+}
@@ -0,0 +1,38 @@
+package net.spatula.dspatula.system.reduction;
+
+/**
+ * Accumulator for the largest magnitude of a complex sample. The squared magnitude is kept, so that the square root need only be
+ * taken once, at the end.
+ *
+ * @author spatula
+ *
+ */
+public class PeakMagnitude {
+
+    private long peakSquared;
+    private int peakIndex = -1;
+
+    void add(long peakSquared, int peakIndex) {
+        if (peakSquared > this.peakSquared || this.peakIndex < 0) {
+            this.peakSquared = peakSquared;
+            this.peakIndex = peakIndex;
+        }
+    }
+
+    public long getPeakSquared() {
+        return peakSquared;
+    }
+
+    public double getPeak() {
+        return Math.sqrt(peakSquared);
+    }
+
+    /**
+     * @return the index of the (first) sample with the largest magnitude, which for a spectrum is the strongest frequency bin; -1
+     *         if there were no samples
+     */
+    public int getPeakIndex() {
+        return peakIndex;
+    }
+
+}
@@ -0,0 +1,81 @@
+package net.spatula.dspatula.system.reduction;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+/**
+ * Shortcuts for the common signal metrics, each calculated in parallel by the default DiscreteSystemParallelExecutor.
+ *
+ * @author spatula
+ *
+ */
+public final class Reductions {
+
+    private static final Sum SUM = new Sum();
+    private static final Energy ENERGY = new Energy();
+    private static final MinMax MIN_MAX = new MinMax();
+    private static final ComplexEnergy COMPLEX_ENERGY = new ComplexEnergy();
+    private static final ComplexPeak COMPLEX_PEAK = new ComplexPeak();
+
+    private Reductions() {
+    }
+
+    public static long sum(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(SUM, sequence).getSum();
+    }
+
+    /**
+     * @param sequence
+     * @return the mean of the samples, which is the DC offset of the signal
+     * @throws ProcessingException
+     */
+    public static double mean(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(SUM, sequence).getMean();
+    }
+
+    public static double energy(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(ENERGY, sequence).getSumOfSquares();
+    }
+
+    public static double rms(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(ENERGY, sequence).getRms();
+    }
+
+    /**
+     * @param sequence
+     * @return the largest magnitude of any sample
+     * @throws ProcessingException
+     */
+    public static long peak(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(MIN_MAX, sequence).getPeak();
+    }
+
+    /**
+     * @param sequence
+     * @return the smallest and largest samples, in a single pass
+     * @throws ProcessingException
+     */
+    public static Extremes extremes(RealSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(MIN_MAX, sequence);
+    }
+
+    public static double energy(ComplexSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(COMPLEX_ENERGY, sequence).getSumOfSquares();
+    }
+
+    public static double rms(ComplexSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(COMPLEX_ENERGY, sequence).getRms();
+    }
+
+    /**
+     * @param sequence
+     * @return the largest magnitude of any sample, and where it is
+     * @throws ProcessingException
+     */
+    public static PeakMagnitude peak(ComplexSequence sequence) throws ProcessingException {
+        return DiscreteSystemParallelExecutor.getDefaultInstance().reduce(COMPLEX_PEAK, sequence);
+    }
+
+}
@@ -0,0 +1,39 @@
+package net.spatula.dspatula.system.reduction;
+
+/**
+ * Accumulator for a sum of squared magnitudes of samples (which for a signal is its energy), and how many there were.
+ *
+ * The squares are summed as doubles, since a long would overflow after a few samples near full scale.
+ *
+ * @author spatula
+ *
+ */
+public class SquareTotal {
+
+    private double sumOfSquares;
+    private long count;
+
+    void add(double sumOfSquares, long count) {
+        this.sumOfSquares += sumOfSquares;
+        this.count += count;
+    }
+
+    /**
+     * @return the energy of the signal
+     */
+    public double getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the root mean square magnitude of the samples; 0 if there were none
+     */
+    public double getRms() {
+        return count == 0 ? 0 : Math.sqrt(sumOfSquares / count);
+    }
+
+}
@@ -0,0 +1,44 @@
+package net.spatula.dspatula.system.reduction;
+
+import java.util.List;
+
+import net.spatula.dspatula.concurrent.ReducingWorker;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+/**
+ * Reduce a RealSequence (or a view of one) to the sum of its samples.
+ *
+ * @author spatula
+ *
+ */
+public class Sum implements ReducingWorker<RealSequence, Total> {
+
+    @Override
+    public Total createAccumulator() {
+        return new Total();
+    }
+
+    @Override
+    public void accumulate(Total accumulator, List<RealSequence> sequences) {
+        final RealSequence sequence = sequences.get(0);
+        final int[] values = StridedRealSequence.valuesOf(sequence);
+        final int stride = StridedRealSequence.strideOf(sequence);
+        final int start = sequence.getStart();
+        final int end = sequence.getEnd();
+
+        long sum = 0;
+        int arrayIndex = StridedRealSequence.offsetOf(sequence) + stride * start;
+        for (int index = start; index <= end; index++) {
+            sum += values[arrayIndex];
+            arrayIndex += stride;
+        }
+        accumulator.add(sum, sequence.getLength());
+    }
+
+    @Override
+    public void combine(Total into, Total from) {
+        into.add(from.getSum(), from.getCount());
+    }
+
+}
@@ -0,0 +1,34 @@
+package net.spatula.dspatula.system.reduction;
+
+/**
+ * Accumulator for a sum of samples, and how many there were.
+ *
+ * @author spatula
+ *
+ */
+public class Total {
+
+    private long sum;
+    private long count;
+
+    void add(long sum, long count) {
+        this.sum += sum;
+        this.count += count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the mean of the samples, which for a signal is its DC offset; 0 if there were none
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+}
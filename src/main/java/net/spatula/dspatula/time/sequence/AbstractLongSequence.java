@@ -0,0 +1,53 @@
+package net.spatula.dspatula.time.sequence;
+
+public abstract class AbstractLongSequence<T extends LongSequence<T>> implements LongSequence<T> {
+
+    protected final long start;
+    protected final long end;
+    protected final long length;
+
+    public AbstractLongSequence(long start, long end, long length) {
+        this.start = start;
+        this.end = end;
+        this.length = length;
+    }
+
+    @Override
+    public long getLongStart() {
+        return start;
+    }
+
+    @Override
+    public long getLongEnd() {
+        return end;
+    }
+
+    @Override
+    public long getLongLength() {
+        return length;
+    }
+
+    @Override
+    public int getStart() {
+        return Math.toIntExact(start);
+    }
+
+    @Override
+    public int getEnd() {
+        return Math.toIntExact(end);
+    }
+
+    @Override
+    public int getLength() {
+        return Math.toIntExact(length);
+    }
+
+    @Override
+    public T subsequence(int start, int end) {
+        return subsequence((long) start, (long) end);
+    }
+
+    @Override
+    public abstract T subsequence(long start, long end);
+
+}
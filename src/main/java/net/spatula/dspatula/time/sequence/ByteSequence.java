@@ -0,0 +1,92 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a real number Discrete-Time Signal Sequence of signed 8-bit samples, stored as they came, in a byte[].
+ *
+ * 8-bit PCM, and holding it in the int[] of a RealSequence takes four times the memory, and four times the memory
+ * traffic for every pass over it. The systems in net.spatula.dspatula.system.pcm work on ByteSequences directly, widening as they
+ * calculate and saturating as they store, and the DiscreteFourierTransformer reads them directly too.
+ *
+ * @author spatula
+ *
+ */
+public class ByteSequence extends AbstractSequence<ByteSequence> {
+
+    protected final byte[] realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public ByteSequence(int samples) {
+        super(0, samples - 1, samples);
+        realValues = new byte[samples];
+    }
+
+    protected ByteSequence(byte[] realValues, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.realValues = realValues;
+    }
+
+    /**
+     * Create a new ByteSequence with the same values as (the visible part of) a RealSequence, starting at 0. Values which don't
+     * fit in 8 bits are saturated.
+     *
+     * @param sequence
+     * @return
+     */
+    public static ByteSequence from(RealSequence sequence) {
+        final ByteSequence result = new ByteSequence(sequence.getLength());
+        final int[] values = sequence.getRealValues();
+        final int start = sequence.getStart();
+        for (int index = 0; index < result.length; index++) {
+            result.realValues[index] = saturate(values[start + index]);
+        }
+        return result;
+    }
+
+    /**
+     * Copy (the visible part of) this sequence into a new RealSequence, starting at 0.
+     *
+     * @return
+     */
+    public RealSequence toRealSequence() {
+        final RealSequence result = new RealSequence(length);
+        final int[] values = result.getRealValues();
+        for (int index = 0; index < length; index++) {
+            values[index] = realValues[start + index];
+        }
+        return result;
+    }
+
+    /**
+     * Clamp an int to the range of a byte.
+     *
+     * @param value
+     * @return
+     */
+    public static byte saturate(int value) {
+        if (value > Byte.MAX_VALUE) {
+            return Byte.MAX_VALUE;
+        }
+        if (value < Byte.MIN_VALUE) {
+            return Byte.MIN_VALUE;
+        }
+        return (byte) value;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public byte[] getRealValues() {
+        return realValues;
+    }
+
+    @Override
+    public ByteSequence subsequence(int start, int end) {
+        return new ByteSequence(realValues, start, end);
+    }
+
+}
@@ -0,0 +1,21 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * How the samples of a MultiChannelSequence are arranged in its array.
+ *
+ * @author spatula
+ *
+ */
+public enum ChannelLayout {
+
+    /**
+     * One frame after another, with the samples of every channel for a frame side by side, as in most PCM files.
+     */
+    INTERLEAVED,
+
+    /**
+     * One channel after another, with each channel's samples contiguous.
+     */
+    PLANAR;
+
+}
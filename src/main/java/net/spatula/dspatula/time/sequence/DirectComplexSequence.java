@@ -0,0 +1,87 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * Represents a Discrete-Time Signal Sequence of Complex numbers whose real and imaginary parts live off the Java heap, in a pair of
+ * LargeIntArrays, and which may be longer than Integer.MAX_VALUE.
+ *
+ * @see DirectRealSequence
+ * @author spatula
+ *
+ */
+public class DirectComplexSequence extends AbstractLongSequence<DirectComplexSequence> implements AutoCloseable {
+
+    private final LargeIntArray realValues;
+    private final LargeIntArray imaginaryValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of complex samples.
+     */
+    public DirectComplexSequence(long samples) {
+        this(new DirectIntArray(samples), new DirectIntArray(samples), 0, samples - 1);
+    }
+
+    protected DirectComplexSequence(LargeIntArray realValues, LargeIntArray imaginaryValues, long start, long end) {
+        super(start, end, (end - start) + 1);
+        this.realValues = realValues;
+        this.imaginaryValues = imaginaryValues;
+    }
+
+    /**
+     * Create a new DirectComplexSequence with the same values as (the visible part of) a ComplexSequence, starting at 0.
+     *
+     * @param sequence
+     * @return
+     */
+    public static DirectComplexSequence from(ComplexSequence sequence) {
+        final DirectComplexSequence result = new DirectComplexSequence(sequence.getLength());
+        result.realValues.copyFrom(sequence.getRealValues(), sequence.getStart(), 0, sequence.getLength());
+        result.imaginaryValues.copyFrom(sequence.getImaginaryValues(), sequence.getStart(), 0, sequence.getLength());
+        return result;
+    }
+
+    /**
+     * Copy (the visible part of) this sequence onto the heap, as a ComplexSequence starting at 0.
+     *
+     * @return
+     * @throws ArithmeticException
+     *             if this sequence is too long to fit in a ComplexSequence
+     */
+    public ComplexSequence toComplexSequence() {
+        final ComplexSequence result = new ComplexSequence(getLength());
+        realValues.copyTo(start, result.getRealValues(), 0, result.getLength());
+        imaginaryValues.copyTo(start, result.getImaginaryValues(), 0, result.getLength());
+        return result;
+    }
+
+    public LargeIntArray getRealValues() {
+        return realValues;
+    }
+
+    public LargeIntArray getImaginaryValues() {
+        return imaginaryValues;
+    }
+
+    /**
+     * Give the direct memory back now, rather than whenever the garbage collector gets around to it.
+     *
+     * @see DirectRealSequence#release()
+     */
+    public void release() {
+        realValues.release();
+        imaginaryValues.release();
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public DirectComplexSequence subsequence(long start, long end) {
+        return new DirectComplexSequence(realValues, imaginaryValues, start, end);
+    }
+
+}
@@ -0,0 +1,128 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * An array of ints which lives outside the Java heap, in direct ByteBuffers, and which may be longer than Integer.MAX_VALUE.
+ *
+ * A single direct buffer can hold at most 2GB, so the array is made up of segments of a fixed power-of-two size, and a long index
+ * is split into a segment number and an offset within the segment.
+ *
+ * Direct memory is normally given back only when the garbage collector gets around to collecting the buffers, which for a buffer
+ * that's survived a while might be never. release() gives it back right away. After that, using the array throws an
+ * IllegalStateException, but it's up to the caller to make sure nothing is still working on it at the time: freeing memory out
+ * from under a running copy is the sort of thing that takes the whole JVM down.
+ *
+ * @author spatula
+ *
+ */
+public final class DirectIntArray implements LargeIntArray {
+
+    public static final int DEFAULT_SEGMENT_SHIFT = 28; // 2^28 ints, or 1GB, per segment
+
+    private final long length;
+    private final int segmentShift;
+    private final int segmentMask;
+    private volatile IntBuffer[] segments;
+    private final ByteBuffer[] byteBuffers;
+
+    public DirectIntArray(long length) {
+        this(length, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    DirectIntArray(long length, int segmentShift) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length " + length);
+        }
+        if (segmentShift < 1 || segmentShift > DEFAULT_SEGMENT_SHIFT) {
+            throw new IllegalArgumentException("Segment shift must be between 1 and " + DEFAULT_SEGMENT_SHIFT);
+        }
+        this.length = length;
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1 << segmentShift) - 1;
+
+        final int segmentCount = (int) ((length + segmentMask) >>> segmentShift);
+        final IntBuffer[] newSegments = new IntBuffer[segmentCount];
+        byteBuffers = new ByteBuffer[segmentCount];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            final long remaining = length - ((long) segment << segmentShift);
+            final int segmentLength = (int) Math.min(remaining, 1L << segmentShift);
+            byteBuffers[segment] = ByteBuffer.allocateDirect(segmentLength * Integer.BYTES).order(ByteOrder.nativeOrder());
+            newSegments[segment] = byteBuffers[segment].asIntBuffer();
+        }
+        segments = newSegments;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public int get(long index) {
+        return segments()[(int) (index >>> segmentShift)].get((int) (index & segmentMask));
+    }
+
+    @Override
+    public void set(long index, int value) {
+        segments()[(int) (index >>> segmentShift)].put((int) (index & segmentMask), value);
+    }
+
+    @Override
+    public void copyTo(long index, int[] destination, int offset, int count) {
+        final IntBuffer[] currentSegments = segments();
+        int copied = 0;
+        while (copied < count) {
+            final long position = index + copied;
+            final int segmentOffset = (int) (position & segmentMask);
+            final IntBuffer segment = currentSegments[(int) (position >>> segmentShift)].duplicate();
+            final int chunk = Math.min(count - copied, segment.capacity() - segmentOffset);
+            segment.position(segmentOffset);
+            segment.get(destination, offset + copied, chunk);
+            copied += chunk;
+        }
+    }
+
+    @Override
+    public void copyFrom(int[] source, int offset, long index, int count) {
+        final IntBuffer[] currentSegments = segments();
+        int copied = 0;
+        while (copied < count) {
+            final long position = index + copied;
+            final int segmentOffset = (int) (position & segmentMask);
+            final IntBuffer segment = currentSegments[(int) (position >>> segmentShift)].duplicate();
+            final int chunk = Math.min(count - copied, segment.capacity() - segmentOffset);
+            segment.position(segmentOffset);
+            segment.put(source, offset + copied, chunk);
+            copied += chunk;
+        }
+    }
+
+    @Override
+    public boolean isReleased() {
+        return segments == null;
+    }
+
+    @Override
+    public synchronized void release() {
+        if (segments == null) {
+            return;
+        }
+        segments = null;
+        for (int segment = 0; segment < byteBuffers.length; segment++) {
+            DirectMemory.free(byteBuffers[segment]);
+            byteBuffers[segment] = null;
+        }
+    }
+
+    private IntBuffer[] segments() {
+        final IntBuffer[] currentSegments = segments;
+        if (currentSegments == null) {
+            throw new IllegalStateException("Direct memory has already been released");
+        }
+        return currentSegments;
+    }
+
+}
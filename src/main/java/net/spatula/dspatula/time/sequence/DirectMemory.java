@@ -0,0 +1,49 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gives direct (and mapped) ByteBuffers back to the operating system right away, instead of waiting for the garbage collector.
+ *
+ * There's no public API for this in Java 8, so it's done by reflection, and if that doesn't work, the buffer is simply left for
+ * the garbage collector as usual.
+ *
+ * @author spatula
+ *
+ */
+final class DirectMemory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectMemory.class);
+
+    private DirectMemory() {
+    }
+
+    static void free(ByteBuffer buffer) {
+        try {
+            // Java 9 and later
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            return;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOG.trace("No Unsafe.invokeCleaner; trying the buffer's own cleaner", e);
+        }
+        try {
+            // Java 8
+            final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Object cleaner = cleanerMethod.invoke(buffer);
+            cleaner.getClass().getMethod("clean").invoke(cleaner);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            LOG.debug("Unable to free direct memory explicitly; leaving it for the garbage collector", e);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * Represents a real number Discrete-Time Signal Sequence whose values live off the Java heap, in a LargeIntArray, and which may be
+ * longer than Integer.MAX_VALUE. Usually that's a DirectIntArray, but a MappedRealSequence keeps them in a memory-mapped file.
+ *
+ * A RealSequence of a few billion samples is a huge array that the garbage collector has to find room for and then keep copying
+ * around, and a RealSequence can't have more than Integer.MAX_VALUE samples anyway. Here the samples are kept in direct memory,
+ * which the garbage collector doesn't have to think about, and which can be given back explicitly with release().
+ *
+ * Subsequences share the same memory, just as they do for a RealSequence, so releasing any of them releases all of them.
+ *
+ * There's no int[] to hand to a DiscreteSystemWorker, so the RealSequence systems are run over a DirectRealSequence through a
+ * DirectRealSystem, which stages small blocks of it through ordinary arrays.
+ *
+ * @author spatula
+ *
+ */
+public class DirectRealSequence extends AbstractLongSequence<DirectRealSequence> implements AutoCloseable {
+
+    protected final LargeIntArray realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of integer samples.
+     */
+    public DirectRealSequence(long samples) {
+        this(new DirectIntArray(samples), 0, samples - 1);
+    }
+
+    protected DirectRealSequence(LargeIntArray realValues, long start, long end) {
+        super(start, end, (end - start) + 1);
+        this.realValues = realValues;
+    }
+
+    /**
+     * Create a new DirectRealSequence with the same values as (the visible part of) a RealSequence, starting at 0.
+     *
+     * @param sequence
+     * @return
+     */
+    public static DirectRealSequence from(RealSequence sequence) {
+        final DirectRealSequence result = new DirectRealSequence(sequence.getLength());
+        result.realValues.copyFrom(sequence.getRealValues(), sequence.getStart(), 0, sequence.getLength());
+        return result;
+    }
+
+    /**
+     * Copy (the visible part of) this sequence onto the heap, as a RealSequence starting at 0.
+     *
+     * @return
+     * @throws ArithmeticException
+     *             if this sequence is too long to fit in a RealSequence
+     */
+    public RealSequence toRealSequence() {
+        final RealSequence result = new RealSequence(getLength());
+        realValues.copyTo(start, result.getRealValues(), 0, result.getLength());
+        return result;
+    }
+
+    public LargeIntArray getRealValues() {
+        return realValues;
+    }
+
+    public int get(long index) {
+        return realValues.get(index);
+    }
+
+    public void set(long index, int value) {
+        realValues.set(index, value);
+    }
+
+    /**
+     * Give the direct memory back now, rather than whenever the garbage collector gets around to it. This releases the memory
+     * shared by every subsequence of the same sequence, and must not be called while anything might still be working on it.
+     */
+    public void release() {
+        realValues.release();
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    @Override
+    public DirectRealSequence subsequence(long start, long end) {
+        return new DirectRealSequence(realValues, start, end);
+    }
+
+}
@@ -0,0 +1,78 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a Discrete-Time Signal Sequence of Complex numbers with double precision, with underlying arrays of the real parts and
+ * the imaginary parts.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleComplexSequence extends AbstractSequence<DoubleComplexSequence> {
+
+    private final double[] imaginaryValues;
+    private final double[] realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public DoubleComplexSequence(int samples) {
+        super(0, samples - 1, samples);
+        imaginaryValues = new double[samples];
+        realValues = new double[samples];
+    }
+
+    protected DoubleComplexSequence(double[] realValues, double[] imaginaryValues, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.imaginaryValues = imaginaryValues;
+        this.realValues = realValues;
+    }
+
+    /**
+     * Create a new DoubleComplexSequence with the same values as (the visible part of) a ComplexSequence, starting at 0.
+     *
+     * @param sequence
+     * @return
+     */
+    public static DoubleComplexSequence from(ComplexSequence sequence) {
+        final DoubleComplexSequence result = new DoubleComplexSequence(sequence.getLength());
+        final int[] real = sequence.getRealValues();
+        final int[] imaginary = sequence.getImaginaryValues();
+        final int start = sequence.getStart();
+        for (int index = 0; index < result.length; index++) {
+            result.realValues[index] = real[start + index];
+            result.imaginaryValues[index] = imaginary[start + index];
+        }
+        return result;
+    }
+
+    /**
+     * Return the underlying array of the imaginary components of the Discrete-Time Signal Sequence.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getImaginaryValues() {
+        return imaginaryValues;
+    }
+
+    /**
+     * Return the underlying array of the real components of the Discrete-Time Signal Sequence.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getRealValues() {
+        return realValues;
+    }
+
+    @Override
+    public DoubleComplexSequence subsequence(int start, int end) {
+        return new DoubleComplexSequence(realValues, imaginaryValues, start, end);
+    }
+
+}
@@ -0,0 +1,61 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a real number Discrete-Time Signal Sequence with double precision values.
+ *
+ * RealSequence stores integers, which means every operation that works in floating point (which is most of them) truncates its
+ * result on the way out, and every operation chained after it converts back again. A DoubleSequence keeps the values as they are,
+ * so there's no need for scaling tricks to keep the interesting bits of a result from being truncated away.
+ *
+ * @author spatula
+ *
+ */
+public class DoubleSequence extends AbstractSequence<DoubleSequence> {
+
+    protected final double[] realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public DoubleSequence(int samples) {
+        super(0, samples - 1, samples);
+        realValues = new double[samples];
+    }
+
+    protected DoubleSequence(double[] realValues, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.realValues = realValues;
+    }
+
+    /**
+     * Create a new DoubleSequence with the same values as (the visible part of) a RealSequence, starting at 0.
+     *
+     * @param sequence
+     * @return
+     */
+    public static DoubleSequence from(RealSequence sequence) {
+        final DoubleSequence result = new DoubleSequence(sequence.getLength());
+        final int[] values = sequence.getRealValues();
+        final int start = sequence.getStart();
+        for (int index = 0; index < result.length; index++) {
+            result.realValues[index] = values[start + index];
+        }
+        return result;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getRealValues() {
+        return realValues;
+    }
+
+    @Override
+    public DoubleSequence subsequence(int start, int end) {
+        return new DoubleSequence(realValues, start, end);
+    }
+
+}
@@ -0,0 +1,60 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a Discrete-Time Signal Sequence of Complex numbers with single precision, with underlying arrays of the real parts and
+ * the imaginary parts. Half the memory of a DoubleComplexSequence, which is what counts for very large spectra.
+ *
+ * @author spatula
+ *
+ */
+public class FloatComplexSequence extends AbstractSequence<FloatComplexSequence> {
+
+    private final float[] imaginaryValues;
+    private final float[] realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public FloatComplexSequence(int samples) {
+        super(0, samples - 1, samples);
+        imaginaryValues = new float[samples];
+        realValues = new float[samples];
+    }
+
+    protected FloatComplexSequence(float[] realValues, float[] imaginaryValues, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.imaginaryValues = imaginaryValues;
+        this.realValues = realValues;
+    }
+
+    /**
+     * Return the underlying array of the imaginary components of the Discrete-Time Signal Sequence.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public float[] getImaginaryValues() {
+        return imaginaryValues;
+    }
+
+    /**
+     * Return the underlying array of the real components of the Discrete-Time Signal Sequence.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public float[] getRealValues() {
+        return realValues;
+    }
+
+    @Override
+    public FloatComplexSequence subsequence(int start, int end) {
+        return new FloatComplexSequence(realValues, imaginaryValues, start, end);
+    }
+
+}
@@ -0,0 +1,137 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * A RealSequence with no array behind it (at least to begin with): its values are computed on demand by a SampleFunction.
+ *
+ * Synthesized signals (a carrier to mix in, a constant offset, a ramp) are usually only ever read once, by a single Adder or
+ * Multiplier pass, so writing the whole thing out to an int[] first just to read it straight back costs a full buffer's worth of
+ * memory traffic for nothing. A GeneratedSequence can be handed to the DiscreteSystemParallelExecutor as the second operand of a
+ * congruent system instead, where it gets chunked into subsequences like any other sequence, and the system evaluates the function
+ * inline in its loop.
+ *
+ * Anything else that wants the values as an array can still have them: the first call to getRealValues computes the whole
+ * sequence into one, which it and all of its subsequences share from then on. Once that has happened the array is what holds the
+ * values, so whatever is written into it is what valueAt returns too, and the congruent systems read the array like any other.
+ *
+ * @author spatula
+ *
+ */
+public class GeneratedSequence extends RealSequence {
+
+    private final SampleFunction function;
+    private final Values values;
+
+    /**
+     * @param function
+     *            computes the value of each sample from its index
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public GeneratedSequence(SampleFunction function, int samples) {
+        this(function, 0, samples - 1);
+    }
+
+    protected GeneratedSequence(SampleFunction function, int start, int end) {
+        this(function, new Values(start, end), start, end);
+    }
+
+    private GeneratedSequence(SampleFunction function, Values values, int start, int end) {
+        super(null, start, end);
+        this.function = function;
+        this.values = values;
+    }
+
+    /**
+     * @param value
+     * @param samples
+     * @return a sequence in which every sample has the given value
+     */
+    public static GeneratedSequence constant(int value, int samples) {
+        return new GeneratedSequence(index -> value, samples);
+    }
+
+    /**
+     * @param startValue
+     *            the value of sample 0
+     * @param step
+     *            the amount by which each sample exceeds the one before it
+     * @param samples
+     * @return a sequence in which the values climb (or descend) in a straight line
+     */
+    public static GeneratedSequence ramp(int startValue, int step, int samples) {
+        return new GeneratedSequence(index -> startValue + step * index, samples);
+    }
+
+    public SampleFunction getFunction() {
+        return function;
+    }
+
+    public int valueAt(int index) {
+        final int[] array = values.array;
+        return (array == null) ? function.valueAt(index) : array[index];
+    }
+
+    /**
+     * @return true if the values have been computed into an array by getRealValues, in which case the array holds them
+     */
+    public boolean isMaterialized() {
+        return values.array != null;
+    }
+
+    /**
+     * Compute (the visible part of) this sequence into a new RealSequence, starting at 0.
+     *
+     * @return
+     */
+    public RealSequence toRealSequence() {
+        final RealSequence result = new RealSequence(length);
+        final int[] values = result.getRealValues();
+        for (int index = 0; index < length; index++) {
+            values[index] = valueAt(start + index);
+        }
+        return result;
+    }
+
+    /**
+     * Compute the values into an array, the first time this is called for this sequence or any sequence it shares its values with.
+     */
+    @Override
+    public int[] getRealValues() {
+        return values.materialize(function);
+    }
+
+    @Override
+    public GeneratedSequence subsequence(int start, int end) {
+        if (start >= values.start && end <= values.end) {
+            return new GeneratedSequence(function, values, start, end);
+        }
+        return new GeneratedSequence(function, start, end);
+    }
+
+    /**
+     * The array of values shared by a GeneratedSequence and its subsequences, once something has asked for it.
+     */
+    private static final class Values {
+
+        private final int start;
+        private final int end;
+        private volatile int[] array;
+
+        private Values(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        private synchronized int[] materialize(SampleFunction function) {
+            if (array == null) {
+                final int[] values = new int[end + 1];
+                for (int index = start; index <= end; index++) {
+                    values[index] = function.valueAt(index);
+                }
+                array = values;
+            }
+            return array;
+        }
+    }
+
+}
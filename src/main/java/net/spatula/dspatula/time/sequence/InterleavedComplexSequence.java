@@ -0,0 +1,89 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a Discrete-Time Signal Sequence of Complex numbers, with a single underlying array in which the real and imaginary
+ * parts are interleaved: real, imaginary, real, imaginary...
+ *
+ * A ComplexSequence keeps its real and imaginary parts in two separate arrays, so anything that needs both parts of a point (which
+ * is nearly everything you'd do with a complex number) touches two distant regions of memory. Here both parts of a point sit next
+ * to each other, usually in the same cache line.
+ *
+ * Start, end, and length count points, just as they do for a ComplexSequence; point n lives at index 2n (real) and 2n + 1
+ * (imaginary) of the underlying array.
+ *
+ * @author spatula
+ *
+ */
+public class InterleavedComplexSequence extends AbstractSequence<InterleavedComplexSequence> {
+
+    private final int[] values;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of complex samples.
+     */
+    public InterleavedComplexSequence(int samples) {
+        super(0, samples - 1, samples);
+        values = new int[samples * 2];
+    }
+
+    protected InterleavedComplexSequence(int[] values, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.values = values;
+    }
+
+    /**
+     * Create a new InterleavedComplexSequence with the same values as (the visible part of) a ComplexSequence, starting at 0.
+     *
+     * @param sequence
+     * @return
+     */
+    public static InterleavedComplexSequence from(ComplexSequence sequence) {
+        final InterleavedComplexSequence result = new InterleavedComplexSequence(sequence.getLength());
+        final int[] real = sequence.getRealValues();
+        final int[] imaginary = sequence.getImaginaryValues();
+        final int start = sequence.getStart();
+        for (int point = 0; point < result.length; point++) {
+            result.values[2 * point] = real[start + point];
+            result.values[2 * point + 1] = imaginary[start + point];
+        }
+        return result;
+    }
+
+    /**
+     * Create a new ComplexSequence, in the split layout, with the same values as (the visible part of) this sequence, starting at
+     * 0.
+     *
+     * @return
+     */
+    public ComplexSequence toComplexSequence() {
+        final ComplexSequence result = new ComplexSequence(length);
+        final int[] real = result.getRealValues();
+        final int[] imaginary = result.getImaginaryValues();
+        for (int point = 0; point < length; point++) {
+            real[point] = values[2 * (start + point)];
+            imaginary[point] = values[2 * (start + point) + 1];
+        }
+        return result;
+    }
+
+    /**
+     * Return the underlying array of interleaved real and imaginary components of the Discrete-Time Signal Sequence.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public int[] getValues() {
+        return values;
+    }
+
+    @Override
+    public InterleavedComplexSequence subsequence(int start, int end) {
+        return new InterleavedComplexSequence(values, start, end);
+    }
+
+}
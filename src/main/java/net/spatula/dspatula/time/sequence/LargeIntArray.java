@@ -0,0 +1,48 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * An array of ints, possibly longer than Integer.MAX_VALUE, stored somewhere other than an int[] on the heap. This is what backs a
+ * DirectRealSequence or a DirectComplexSequence.
+ *
+ * Bulk copies to and from ordinary arrays are the fast way in and out; get and set are there for convenience.
+ *
+ * @author spatula
+ *
+ */
+public interface LargeIntArray {
+
+    long getLength();
+
+    int get(long index);
+
+    void set(long index, int value);
+
+    /**
+     * Copy count values starting at index into the destination array, starting at offset.
+     *
+     * @param index
+     * @param destination
+     * @param offset
+     * @param count
+     */
+    void copyTo(long index, int[] destination, int offset, int count);
+
+    /**
+     * Copy count values from the source array, starting at offset, into this array starting at index.
+     *
+     * @param source
+     * @param offset
+     * @param index
+     * @param count
+     */
+    void copyFrom(int[] source, int offset, long index, int count);
+
+    boolean isReleased();
+
+    /**
+     * Give the memory back now instead of waiting for the garbage collector. Calling this more than once does no harm. Nothing may
+     * be using the array when this is called; using it afterwards throws an IllegalStateException.
+     */
+    void release();
+
+}
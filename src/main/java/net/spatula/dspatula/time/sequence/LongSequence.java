@@ -0,0 +1,22 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * A Sequence which may be longer than an int can count, so it also knows its start, end, and length as longs.
+ *
+ * The int versions from Sequence still work as long as the values fit, and throw an ArithmeticException when they don't. The
+ * DiscreteSystemParallelExecutor always uses the long versions when it's handed a LongSequence.
+ *
+ * @author spatula
+ *
+ */
+public interface LongSequence<T extends LongSequence<T>> extends Sequence<T> {
+
+    long getLongStart();
+
+    long getLongEnd();
+
+    long getLongLength();
+
+    T subsequence(long start, long end);
+
+}
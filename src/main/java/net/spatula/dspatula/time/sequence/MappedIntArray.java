@@ -0,0 +1,188 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * An array of ints backed by raw PCM samples in a memory-mapped file, so that a recording can be worked on in place, however much
+ * bigger than memory it may be: the operating system pages in the parts being worked on, and pages out the rest.
+ *
+ * A single mapping can cover at most 2GB, so the file is mapped in windows of a fixed power-of-two number of samples, and a long
+ * index is split into a window number and an offset within the window, the same way as a DirectIntArray. 16-bit samples are
+ * widened to ints on the way in and saturated on the way out, so an overflow clips instead of wrapping around.
+ *
+ * @author spatula
+ *
+ */
+public final class MappedIntArray implements LargeIntArray {
+
+    public static final int DEFAULT_WINDOW_SHIFT = 28; // 2^28 samples per window
+
+    private final long length;
+    private final int windowShift;
+    private final int windowMask;
+    private final boolean wide;
+    private final ByteBuffer[] byteBuffers;
+    private volatile IntBuffer[] intWindows;
+    private volatile ShortBuffer[] shortWindows;
+    private volatile boolean released;
+
+    /**
+     * Map length samples of the file, starting at the given byte offset (which lets you skip over a header, for example).
+     *
+     * The channel may be closed once this returns; the mapping stays valid until it's released or collected.
+     *
+     * @param channel
+     * @param mode
+     *            MapMode.READ_ONLY or MapMode.READ_WRITE; a READ_WRITE mapping past the end of the file grows the file
+     * @param encoding
+     * @param offset
+     * @param length
+     * @throws IOException
+     */
+    public MappedIntArray(FileChannel channel, MapMode mode, PcmEncoding encoding, long offset, long length) throws IOException {
+        this(channel, mode, encoding, offset, length, DEFAULT_WINDOW_SHIFT);
+    }
+
+    MappedIntArray(FileChannel channel, MapMode mode, PcmEncoding encoding, long offset, long length, int windowShift)
+            throws IOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length " + length);
+        }
+        if (windowShift < 1 || windowShift > DEFAULT_WINDOW_SHIFT) {
+            throw new IllegalArgumentException("Window shift must be between 1 and " + DEFAULT_WINDOW_SHIFT);
+        }
+        this.length = length;
+        this.windowShift = windowShift;
+        this.windowMask = (1 << windowShift) - 1;
+        this.wide = encoding.getBytesPerSample() == Integer.BYTES;
+
+        final int bytesPerSample = encoding.getBytesPerSample();
+        final int windowCount = (int) ((length + windowMask) >>> windowShift);
+        byteBuffers = new ByteBuffer[windowCount];
+        final IntBuffer[] newIntWindows = wide ? new IntBuffer[windowCount] : null;
+        final ShortBuffer[] newShortWindows = wide ? null : new ShortBuffer[windowCount];
+        for (int window = 0; window < windowCount; window++) {
+            final long windowStart = (long) window << windowShift;
+            final long windowLength = Math.min(length - windowStart, 1L << windowShift);
+            byteBuffers[window] = channel.map(mode, offset + windowStart * bytesPerSample, windowLength * bytesPerSample)
+                    .order(encoding.getByteOrder());
+            if (wide) {
+                newIntWindows[window] = byteBuffers[window].asIntBuffer();
+            } else {
+                newShortWindows[window] = byteBuffers[window].asShortBuffer();
+            }
+        }
+        intWindows = newIntWindows;
+        shortWindows = newShortWindows;
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public int get(long index) {
+        checkReleased();
+        final int window = (int) (index >>> windowShift);
+        final int windowOffset = (int) (index & windowMask);
+        return wide ? intWindows[window].get(windowOffset) : shortWindows[window].get(windowOffset);
+    }
+
+    @Override
+    public void set(long index, int value) {
+        checkReleased();
+        final int window = (int) (index >>> windowShift);
+        final int windowOffset = (int) (index & windowMask);
+        if (wide) {
+            intWindows[window].put(windowOffset, value);
+        } else {
+            shortWindows[window].put(windowOffset, saturate(value));
+        }
+    }
+
+    @Override
+    public void copyTo(long index, int[] destination, int offset, int count) {
+        checkReleased();
+        int copied = 0;
+        while (copied < count) {
+            final long position = index + copied;
+            final int window = (int) (position >>> windowShift);
+            final int windowOffset = (int) (position & windowMask);
+            if (wide) {
+                final IntBuffer buffer = intWindows[window].duplicate();
+                final int chunk = Math.min(count - copied, buffer.capacity() - windowOffset);
+                buffer.position(windowOffset);
+                buffer.get(destination, offset + copied, chunk);
+                copied += chunk;
+            } else {
+                final ShortBuffer buffer = shortWindows[window];
+                final int chunk = Math.min(count - copied, buffer.capacity() - windowOffset);
+                for (int sample = 0; sample < chunk; sample++) {
+                    destination[offset + copied + sample] = buffer.get(windowOffset + sample);
+                }
+                copied += chunk;
+            }
+        }
+    }
+
+    @Override
+    public void copyFrom(int[] source, int offset, long index, int count) {
+        checkReleased();
+        int copied = 0;
+        while (copied < count) {
+            final long position = index + copied;
+            final int window = (int) (position >>> windowShift);
+            final int windowOffset = (int) (position & windowMask);
+            if (wide) {
+                final IntBuffer buffer = intWindows[window].duplicate();
+                final int chunk = Math.min(count - copied, buffer.capacity() - windowOffset);
+                buffer.position(windowOffset);
+                buffer.put(source, offset + copied, chunk);
+                copied += chunk;
+            } else {
+                final ShortBuffer buffer = shortWindows[window];
+                final int chunk = Math.min(count - copied, buffer.capacity() - windowOffset);
+                for (int sample = 0; sample < chunk; sample++) {
+                    buffer.put(windowOffset + sample, saturate(source[offset + copied + sample]));
+                }
+                copied += chunk;
+            }
+        }
+    }
+
+    @Override
+    public boolean isReleased() {
+        return released;
+    }
+
+    @Override
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        intWindows = null;
+        shortWindows = null;
+        for (int window = 0; window < byteBuffers.length; window++) {
+            DirectMemory.free(byteBuffers[window]);
+            byteBuffers[window] = null;
+        }
+    }
+
+    private void checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Mapping has already been released");
+        }
+    }
+
+    private static short saturate(int value) {
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+    }
+
+}
@@ -0,0 +1,77 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A DirectRealSequence whose samples are those of a raw PCM file, memory-mapped rather than read, so that recordings bigger than
+ * memory can be processed in place without first being copied into a RealSequence.
+ *
+ * Subsequences are views of the same mapping, so when the DiscreteSystemParallelExecutor chunks one, each thread works on its own
+ * region of the file, and the operating system pages in whatever the threads are working on. Wrap a system in a DirectRealSystem to
+ * run it over the file. A read-only mapping throws a ReadOnlyBufferException if anything tries to write to it.
+ *
+ * @author spatula
+ *
+ */
+public class MappedRealSequence extends DirectRealSequence {
+
+    protected MappedRealSequence(MappedIntArray realValues) {
+        super(realValues, 0, realValues.getLength() - 1);
+    }
+
+    /**
+     * Map an existing raw PCM file, all of it, read-only.
+     *
+     * @param path
+     * @param encoding
+     * @return
+     * @throws IOException
+     */
+    public static MappedRealSequence open(Path path, PcmEncoding encoding) throws IOException {
+        return open(path, encoding, 0L, false);
+    }
+
+    /**
+     * Map an existing raw PCM file, from the given byte offset to the end.
+     *
+     * @param path
+     * @param encoding
+     * @param offset
+     *            the number of bytes to skip, for example to get past a header
+     * @param writable
+     *            whether changes to the sequence should be written to the file
+     * @return
+     * @throws IOException
+     */
+    public static MappedRealSequence open(Path path, PcmEncoding encoding, long offset, boolean writable) throws IOException {
+        final StandardOpenOption[] options = writable
+                ? new StandardOpenOption[] { StandardOpenOption.READ, StandardOpenOption.WRITE }
+                : new StandardOpenOption[] { StandardOpenOption.READ };
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            final long samples = (channel.size() - offset) / encoding.getBytesPerSample();
+            return new MappedRealSequence(
+                    new MappedIntArray(channel, writable ? MapMode.READ_WRITE : MapMode.READ_ONLY, encoding, offset, samples));
+        }
+    }
+
+    /**
+     * Create (or replace) a raw PCM file big enough for the given number of samples, all 0, and map it read-write.
+     *
+     * @param path
+     * @param encoding
+     * @param samples
+     * @return
+     * @throws IOException
+     */
+    public static MappedRealSequence create(Path path, PcmEncoding encoding, long samples) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new MappedRealSequence(new MappedIntArray(channel, MapMode.READ_WRITE, encoding, 0L, samples));
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A group of real sequences of the same length, one per channel, kept in a single int[] in either INTERLEAVED or PLANAR layout.
+ *
+ * Each channel is available as a StridedRealSequence indexed from 0, whatever the layout, so channel c of one
+ * MultiChannelSequence lines up with channel c of another, and the congruent and constant systems can work on them directly. The
+ * DiscreteSystemParallelExecutor can take MultiChannelSequences too, in which case it runs a worker over every channel at once,
+ * divided into channel × chunk tiles, and the DiscreteFourierTransformer transforms all of the channels in one call.
+ *
+ * @author spatula
+ *
+ */
+public class MultiChannelSequence {
+
+    private final int[] values;
+    private final int channels;
+    private final int frames;
+    private final ChannelLayout layout;
+    private final List<StridedRealSequence> channelSequences;
+
+    /**
+     * Create a new MultiChannelSequence, initialized all to 0's.
+     *
+     * @param channels
+     *            the number of channels
+     * @param frames
+     *            the number of samples in each channel
+     * @param layout
+     */
+    public MultiChannelSequence(int channels, int frames, ChannelLayout layout) {
+        this(new int[Math.multiplyExact(channels, frames)], channels, frames, layout);
+    }
+
+    /**
+     * Wrap an existing array of samples, such as interleaved PCM, without copying it.
+     *
+     * @param values
+     *            at least channels × frames samples
+     * @param channels
+     * @param frames
+     * @param layout
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2") // We accept the risk for the sake of performance
+    public MultiChannelSequence(int[] values, int channels, int frames, ChannelLayout layout) {
+        if (values.length < (long) channels * frames) {
+            throw new IllegalArgumentException(
+                    "Need " + ((long) channels * frames) + " samples for " + channels + " channels, but have " + values.length);
+        }
+        this.values = values;
+        this.channels = channels;
+        this.frames = frames;
+        this.layout = layout;
+
+        final List<StridedRealSequence> channelList = new ArrayList<>(channels);
+        for (int channel = 0; channel < channels; channel++) {
+            if (layout == ChannelLayout.INTERLEAVED) {
+                channelList.add(new StridedRealSequence(values, channel, channels, 0, frames - 1));
+            } else {
+                channelList.add(new StridedRealSequence(values, channel * frames, 1, 0, frames - 1));
+            }
+        }
+        this.channelSequences = Collections.unmodifiableList(channelList);
+    }
+
+    /**
+     * Create a new MultiChannelSequence holding copies of the given sequences, which must all be the same length.
+     *
+     * @param layout
+     * @param sequences
+     * @return
+     */
+    public static MultiChannelSequence from(ChannelLayout layout, RealSequence... sequences) {
+        final int frames = sequences[0].getLength();
+        final MultiChannelSequence result = new MultiChannelSequence(sequences.length, frames, layout);
+        for (int channel = 0; channel < sequences.length; channel++) {
+            final RealSequence sequence = sequences[channel];
+            if (sequence.getLength() != frames) {
+                throw new IllegalArgumentException("Channel " + channel + " has " + sequence.getLength() + " samples, not " + frames);
+            }
+            final int[] channelValues = StridedRealSequence.valuesOf(sequence);
+            final int offset = StridedRealSequence.offsetOf(sequence);
+            final int stride = StridedRealSequence.strideOf(sequence);
+            final StridedRealSequence destination = result.getChannel(channel);
+            for (int frame = 0; frame < frames; frame++) {
+                destination.set(frame, channelValues[offset + stride * (sequence.getStart() + frame)]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param layout
+     * @return a copy of this sequence in the given layout
+     */
+    public MultiChannelSequence toLayout(ChannelLayout layout) {
+        return from(layout, channelSequences.toArray(new RealSequence[channels]));
+    }
+
+    /**
+     * @param channel
+     * @return a view of one channel, indexed from 0 to getFrameCount() - 1
+     */
+    public StridedRealSequence getChannel(int channel) {
+        return channelSequences.get(channel);
+    }
+
+    /**
+     * @return views of all the channels, in order
+     */
+    public List<StridedRealSequence> getChannels() {
+        return channelSequences;
+    }
+
+    public int get(int channel, int frame) {
+        return channelSequences.get(channel).get(frame);
+    }
+
+    public void set(int channel, int frame, int value) {
+        channelSequences.get(channel).set(frame, value);
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public int[] getValues() {
+        return values;
+    }
+
+    public int getChannelCount() {
+        return channels;
+    }
+
+    public int getFrameCount() {
+        return frames;
+    }
+
+    public ChannelLayout getLayout() {
+        return layout;
+    }
+
+}
@@ -0,0 +1,34 @@
+package net.spatula.dspatula.time.sequence;
+
+import java.nio.ByteOrder;
+
+/**
+ * The ways in which raw PCM samples might be laid out in a file.
+ *
+ * @author spatula
+ *
+ */
+public enum PcmEncoding {
+
+    SIGNED_16_LITTLE_ENDIAN(2, ByteOrder.LITTLE_ENDIAN),
+    SIGNED_16_BIG_ENDIAN(2, ByteOrder.BIG_ENDIAN),
+    SIGNED_32_LITTLE_ENDIAN(4, ByteOrder.LITTLE_ENDIAN),
+    SIGNED_32_BIG_ENDIAN(4, ByteOrder.BIG_ENDIAN);
+
+    private final int bytesPerSample;
+    private final ByteOrder byteOrder;
+
+    private PcmEncoding(int bytesPerSample, ByteOrder byteOrder) {
+        this.bytesPerSample = bytesPerSample;
+        this.byteOrder = byteOrder;
+    }
+
+    public int getBytesPerSample() {
+        return bytesPerSample;
+    }
+
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+}
@@ -0,0 +1,21 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * Computes the value of a sample from its index, for sequences whose values are calculated rather than stored.
+ *
+ * @see GeneratedSequence
+ *
+ * @author spatula
+ *
+ */
+@FunctionalInterface
+public interface SampleFunction {
+
+    /**
+     * @param index
+     *            the index of the sample, as it would be in an underlying array
+     * @return the value of the sample
+     */
+    int valueAt(int index);
+
+}
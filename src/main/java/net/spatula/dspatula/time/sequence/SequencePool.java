@@ -0,0 +1,148 @@
+package net.spatula.dspatula.time.sequence;
+
+/**
+ * A pool of RealSequences and ComplexSequences which can be borrowed and returned, so that a pipeline running frame after frame
+ * can reuse the same buffers instead of allocating new ones (and making garbage of the old ones) every time.
+ *
+ * Buffers come in power-of-two size classes. Borrowing a sequence of 1000 samples gets you a sequence of length 1000 starting at
+ * 0, backed by arrays of 1024, from the pool if there's one there or newly allocated if not. Returning it puts the arrays back on
+ * the shelf for their size class, unless the shelf is already full, in which case they're left for the garbage collector.
+ *
+ * A borrowed sequence contains whatever was left in it by whoever had it last. Anything that writes every value (which is what
+ * the transforms and generators do with their outputs) doesn't care; anything else should clear it first.
+ *
+ * Once a sequence has been returned, neither it nor any subsequence of it may be used again.
+ *
+ * @author spatula
+ *
+ */
+public class SequencePool {
+
+    public static final int DEFAULT_SEQUENCES_PER_SIZE = 8;
+
+    private static final int SIZE_CLASSES = 31;
+
+    private static SequencePool instance;
+
+    private final Shelf<int[]>[] realShelves;
+    private final Shelf<ComplexSequence>[] complexShelves;
+
+    private static final class Shelf<T> {
+
+        private final Object[] items;
+        private int count;
+
+        private Shelf(int capacity) {
+            items = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized T take() {
+            if (count == 0) {
+                return null;
+            }
+            final T item = (T) items[--count];
+            items[count] = null;
+            return item;
+        }
+
+        private synchronized void put(T item) {
+            if (count < items.length) {
+                items[count++] = item;
+            }
+        }
+    }
+
+    public SequencePool() {
+        this(DEFAULT_SEQUENCES_PER_SIZE);
+    }
+
+    /**
+     * @param sequencesPerSize
+     *            the most sequences of each size class the pool will hold on to
+     */
+    @SuppressWarnings("unchecked")
+    public SequencePool(int sequencesPerSize) {
+        realShelves = (Shelf<int[]>[]) new Shelf<?>[SIZE_CLASSES];
+        complexShelves = (Shelf<ComplexSequence>[]) new Shelf<?>[SIZE_CLASSES];
+        for (int sizeClass = 0; sizeClass < SIZE_CLASSES; sizeClass++) {
+            realShelves[sizeClass] = new Shelf<>(sequencesPerSize);
+            complexShelves[sizeClass] = new Shelf<>(sequencesPerSize);
+        }
+    }
+
+    /**
+     * @return a pool shared by everyone who doesn't need one of their own
+     */
+    public static synchronized SequencePool getDefaultInstance() {
+        if (instance == null) {
+            instance = new SequencePool();
+        }
+        return instance;
+    }
+
+    /**
+     * Borrow a RealSequence of the given length, starting at 0.
+     *
+     * @param samples
+     * @return
+     */
+    public RealSequence borrowRealSequence(int samples) {
+        final int sizeClass = sizeClass(samples);
+        int[] values = realShelves[sizeClass].take();
+        if (values == null) {
+            values = new int[1 << sizeClass];
+        }
+        return new RealSequence(values, 0, samples - 1);
+    }
+
+    /**
+     * Borrow a ComplexSequence of the given length, starting at 0.
+     *
+     * @param samples
+     * @return
+     */
+    public ComplexSequence borrowComplexSequence(int samples) {
+        final int sizeClass = sizeClass(samples);
+        final ComplexSequence pooled = complexShelves[sizeClass].take();
+        if (pooled == null) {
+            return new ComplexSequence(new int[1 << sizeClass], new int[1 << sizeClass], 0, samples - 1);
+        }
+        return new ComplexSequence(pooled.getRealValues(), pooled.getImaginaryValues(), 0, samples - 1);
+    }
+
+    /**
+     * Give a RealSequence back to the pool. Sequences which didn't come from a pool are accepted too, if their arrays happen to be
+     * a power of two long.
+     *
+     * @param sequence
+     */
+    public void returnSequence(RealSequence sequence) {
+        final int[] values = sequence.getRealValues();
+        if (Integer.bitCount(values.length) == 1) {
+            realShelves[Integer.numberOfTrailingZeros(values.length)].put(values);
+        }
+    }
+
+    /**
+     * Give a ComplexSequence back to the pool.
+     *
+     * @see #returnSequence(RealSequence)
+     * @param sequence
+     */
+    public void returnSequence(ComplexSequence sequence) {
+        final int[] realValues = sequence.getRealValues();
+        final int[] imaginaryValues = sequence.getImaginaryValues();
+        if (Integer.bitCount(realValues.length) == 1 && realValues.length == imaginaryValues.length) {
+            complexShelves[Integer.numberOfTrailingZeros(realValues.length)].put(sequence);
+        }
+    }
+
+    private static int sizeClass(int samples) {
+        if (samples < 1 || samples > 1 << (SIZE_CLASSES - 1)) {
+            throw new IllegalArgumentException("Cannot borrow a sequence of " + samples + " samples");
+        }
+        return 32 - Integer.numberOfLeadingZeros(samples - 1);
+    }
+
+}
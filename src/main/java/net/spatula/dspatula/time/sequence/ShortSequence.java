@@ -0,0 +1,92 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Represents a real number Discrete-Time Signal Sequence of signed 16-bit samples, stored as they came, in a short[].
+ *
+ * Most PCM is 16-bit, and holding it in the int[] of a RealSequence takes twice the memory, and twice the memory
+ * traffic for every pass over it. The systems in net.spatula.dspatula.system.pcm work on ShortSequences directly, widening as they
+ * calculate and saturating as they store, and the DiscreteFourierTransformer reads them directly too.
+ *
+ * @author spatula
+ *
+ */
+public class ShortSequence extends AbstractSequence<ShortSequence> {
+
+    protected final short[] realValues;
+
+    /**
+     * Create a new Sequence with an empty buffer of length samples, initialized all to 0's.
+     *
+     * @param samples
+     *            The length of the sequence in number of samples.
+     */
+    public ShortSequence(int samples) {
+        super(0, samples - 1, samples);
+        realValues = new short[samples];
+    }
+
+    protected ShortSequence(short[] realValues, int start, int end) {
+        super(start, end, (end - start) + 1);
+        this.realValues = realValues;
+    }
+
+    /**
+     * Create a new ShortSequence with the same values as (the visible part of) a RealSequence, starting at 0. Values which don't
+     * fit in 16 bits are saturated.
+     *
+     * @param sequence
+     * @return
+     */
+    public static ShortSequence from(RealSequence sequence) {
+        final ShortSequence result = new ShortSequence(sequence.getLength());
+        final int[] values = sequence.getRealValues();
+        final int start = sequence.getStart();
+        for (int index = 0; index < result.length; index++) {
+            result.realValues[index] = saturate(values[start + index]);
+        }
+        return result;
+    }
+
+    /**
+     * Copy (the visible part of) this sequence into a new RealSequence, starting at 0.
+     *
+     * @return
+     */
+    public RealSequence toRealSequence() {
+        final RealSequence result = new RealSequence(length);
+        final int[] values = result.getRealValues();
+        for (int index = 0; index < length; index++) {
+            values[index] = realValues[start + index];
+        }
+        return result;
+    }
+
+    /**
+     * Clamp an int to the range of a short.
+     *
+     * @param value
+     * @return
+     */
+    public static short saturate(int value) {
+        if (value > Short.MAX_VALUE) {
+            return Short.MAX_VALUE;
+        }
+        if (value < Short.MIN_VALUE) {
+            return Short.MIN_VALUE;
+        }
+        return (short) value;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public short[] getRealValues() {
+        return realValues;
+    }
+
+    @Override
+    public ShortSequence subsequence(int start, int end) {
+        return new ShortSequence(realValues, start, end);
+    }
+
+}
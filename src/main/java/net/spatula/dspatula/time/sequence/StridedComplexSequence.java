@@ -0,0 +1,131 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The ComplexSequence counterpart of the StridedRealSequence: the sample at (logical) index i lives at offset + stride * i in the
+ * underlying arrays. The mirror half of a spectrum, for instance, is a view with an offset of N and a stride of -1, so that index k
+ * reads the point at N - k.
+ *
+ * As with the StridedRealSequence, getRealValues and getImaginaryValues return copies, indexed by the logical index; writing into
+ * them doesn't change the view.
+ *
+ * @author spatula
+ *
+ */
+public class StridedComplexSequence extends ComplexSequence {
+
+    private final int[] realValues;
+    private final int[] imaginaryValues;
+    private final int offset;
+    private final int stride;
+
+    /**
+     * @param realValues
+     *            the underlying array of real components
+     * @param imaginaryValues
+     *            the underlying array of imaginary components
+     * @param offset
+     *            the index in the underlying arrays of logical index 0 (which needn't itself be part of the view)
+     * @param stride
+     *            the distance in the underlying arrays between consecutive samples; negative to run backwards
+     * @param start
+     *            the first logical index of the view
+     * @param end
+     *            the last logical index of the view
+     */
+    public StridedComplexSequence(int[] realValues, int[] imaginaryValues, int offset, int stride, int start, int end) {
+        super(null, null, start, end);
+        this.realValues = realValues;
+        this.imaginaryValues = imaginaryValues;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    /**
+     * @param sequence
+     * @return a view of the sequence back to front, indexed from 0
+     */
+    public static StridedComplexSequence reverse(ComplexSequence sequence) {
+        if (sequence instanceof StridedComplexSequence) {
+            final StridedComplexSequence view = (StridedComplexSequence) sequence;
+            return new StridedComplexSequence(view.realValues, view.imaginaryValues, view.arrayIndex(view.getEnd()), -view.stride,
+                    0, view.getLength() - 1);
+        }
+        return new StridedComplexSequence(sequence.getRealValues(), sequence.getImaginaryValues(), sequence.getEnd(), -1, 0,
+                sequence.getLength() - 1);
+    }
+
+    /**
+     * @param index
+     *            a logical index
+     * @return the index in the underlying arrays of that sample
+     */
+    public int arrayIndex(int index) {
+        return offset + stride * index;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public int[] getUnderlyingRealValues() {
+        return realValues;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public int[] getUnderlyingImaginaryValues() {
+        return imaginaryValues;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Copy (the visible part of) this view into a new ComplexSequence, starting at 0.
+     *
+     * @return
+     */
+    public ComplexSequence toComplexSequence() {
+        final ComplexSequence result = new ComplexSequence(length);
+        final int[] resultReal = result.getRealValues();
+        final int[] resultImaginary = result.getImaginaryValues();
+        for (int index = 0, arrayIndex = arrayIndex(start); index < length; index++, arrayIndex += stride) {
+            resultReal[index] = realValues[arrayIndex];
+            resultImaginary[index] = imaginaryValues[arrayIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Copy the real components of this view into a new array, at their logical indexes.
+     */
+    @Override
+    public int[] getRealValues() {
+        return copy(realValues);
+    }
+
+    /**
+     * Copy the imaginary components of this view into a new array, at their logical indexes.
+     */
+    @Override
+    public int[] getImaginaryValues() {
+        return copy(imaginaryValues);
+    }
+
+    private int[] copy(int[] values) {
+        final int[] result = new int[end + 1];
+        for (int index = start, arrayIndex = arrayIndex(start); index <= end; index++, arrayIndex += stride) {
+            result[index] = values[arrayIndex];
+        }
+        return result;
+    }
+
+    @Override
+    public StridedComplexSequence subsequence(int start, int end) {
+        return new StridedComplexSequence(realValues, imaginaryValues, offset, stride, start, end);
+    }
+
+}
@@ -0,0 +1,185 @@
+package net.spatula.dspatula.time.sequence;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A view of the values of a RealSequence which doesn't have to be contiguous: the sample at (logical) index i lives at
+ * offset + stride * i in the underlying array. That covers taking every Mth sample (decimate), picking one channel out of
+ * interleaved samples (channel), reading a sequence backwards (reverse), and lining up a sequence with one that starts somewhere
+ * else (shift), all without copying anything.
+ *
+ * Views are chunked by the DiscreteSystemParallelExecutor like any other sequence, and the congruent, elementwise and constant
+ * systems, the reductions and the FusedPipeline walk them with a stride of their own. Anything else gets a copy from
+ * getRealValues: an array indexed by the logical index, like that of any other RealSequence, with the view's samples copied into
+ * it. That's fine for reading, but writing into the copy doesn't change the view; write through set, or with one of the systems
+ * above.
+ *
+ * @author spatula
+ *
+ */
+public class StridedRealSequence extends RealSequence {
+
+    private final int[] values;
+    private final int offset;
+    private final int stride;
+
+    /**
+     * @param values
+     *            the underlying array
+     * @param offset
+     *            the index in the underlying array of logical index 0 (which needn't itself be part of the view)
+     * @param stride
+     *            the distance in the underlying array between consecutive samples; negative to run backwards
+     * @param start
+     *            the first logical index of the view
+     * @param end
+     *            the last logical index of the view
+     */
+    public StridedRealSequence(int[] values, int offset, int stride, int start, int end) {
+        super(null, start, end);
+        this.values = values;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    /**
+     * @param sequence
+     * @param factor
+     * @return a view of every factor'th sample of the sequence, starting with its first, indexed from 0
+     */
+    public static StridedRealSequence decimate(RealSequence sequence, int factor) {
+        final int samples = (sequence.getLength() + factor - 1) / factor;
+        return new StridedRealSequence(valuesOf(sequence), arrayIndexOf(sequence, sequence.getStart()),
+                strideOf(sequence) * factor, 0, samples - 1);
+    }
+
+    /**
+     * @param sequence
+     *            interleaved samples, such as stereo PCM
+     * @param channel
+     *            the channel to view, from 0
+     * @param channels
+     *            the number of interleaved channels
+     * @return a view of one channel's samples, indexed from 0
+     */
+    public static StridedRealSequence channel(RealSequence sequence, int channel, int channels) {
+        final int frames = sequence.getLength() / channels;
+        return new StridedRealSequence(valuesOf(sequence), arrayIndexOf(sequence, sequence.getStart() + channel),
+                strideOf(sequence) * channels, 0, frames - 1);
+    }
+
+    /**
+     * @param sequence
+     * @return a view of the sequence back to front, indexed from 0
+     */
+    public static StridedRealSequence reverse(RealSequence sequence) {
+        return new StridedRealSequence(valuesOf(sequence), arrayIndexOf(sequence, sequence.getEnd()), -strideOf(sequence), 0,
+                sequence.getLength() - 1);
+    }
+
+    /**
+     * @param sequence
+     * @param start
+     * @return a view of the sequence whose first sample has the logical index start, so that it lines up with another sequence
+     *         starting there
+     */
+    public static StridedRealSequence shift(RealSequence sequence, int start) {
+        final int stride = strideOf(sequence);
+        return new StridedRealSequence(valuesOf(sequence), arrayIndexOf(sequence, sequence.getStart()) - stride * start, stride,
+                start, start + sequence.getLength() - 1);
+    }
+
+    /**
+     * @param sequence
+     * @return the array in which the samples of the sequence live, whether it is a view or not
+     */
+    public static int[] valuesOf(RealSequence sequence) {
+        if (sequence instanceof StridedRealSequence) {
+            return ((StridedRealSequence) sequence).values;
+        }
+        return sequence.getRealValues();
+    }
+
+    /**
+     * @param sequence
+     * @return the index in the underlying array of the sequence's logical index 0; 0 for a sequence which isn't a view
+     */
+    public static int offsetOf(RealSequence sequence) {
+        return (sequence instanceof StridedRealSequence) ? ((StridedRealSequence) sequence).offset : 0;
+    }
+
+    /**
+     * @param sequence
+     * @return the distance in the underlying array between consecutive samples of the sequence; 1 for a sequence which isn't a view
+     */
+    public static int strideOf(RealSequence sequence) {
+        return (sequence instanceof StridedRealSequence) ? ((StridedRealSequence) sequence).stride : 1;
+    }
+
+    private static int arrayIndexOf(RealSequence sequence, int index) {
+        return offsetOf(sequence) + strideOf(sequence) * index;
+    }
+
+    /**
+     * @param index
+     *            a logical index
+     * @return the index in the underlying array of that sample
+     */
+    public int arrayIndex(int index) {
+        return offset + stride * index;
+    }
+
+    public int get(int index) {
+        return values[offset + stride * index];
+    }
+
+    public void set(int index, int value) {
+        values[offset + stride * index] = value;
+    }
+
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public int[] getUnderlyingValues() {
+        return values;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Copy (the visible part of) this view into a new RealSequence, starting at 0.
+     *
+     * @return
+     */
+    public RealSequence toRealSequence() {
+        final RealSequence result = new RealSequence(length);
+        final int[] resultValues = result.getRealValues();
+        for (int index = 0, arrayIndex = arrayIndex(start); index < length; index++, arrayIndex += stride) {
+            resultValues[index] = values[arrayIndex];
+        }
+        return result;
+    }
+
+    /**
+     * Copy the samples of this view into a new array, at their logical indexes, so that the view can be read by something which
+     * doesn't know about strides. Each call makes a new copy, which the view knows nothing about.
+     */
+    @Override
+    public int[] getRealValues() {
+        final int[] result = new int[end + 1];
+        for (int index = start, arrayIndex = arrayIndex(start); index <= end; index++, arrayIndex += stride) {
+            result[index] = values[arrayIndex];
+        }
+        return result;
+    }
+
+    @Override
+    public StridedRealSequence subsequence(int start, int end) {
+        return new StridedRealSequence(values, offset, stride, start, end);
+    }
+
+}
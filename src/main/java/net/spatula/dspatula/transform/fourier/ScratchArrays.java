@@ -0,0 +1,59 @@
+package net.spatula.dspatula.transform.fourier;
+
+/**
+ * Per-thread working arrays for the transforms, so that transforming frame after frame of the same length doesn't allocate a new
+ * pair of arrays every time.
+ *
+ * Only arrays up to a fixed length are kept. Anything bigger is allocated for the call and left for the garbage collector
+ * afterwards, so that one enormous transform doesn't leave every pool thread holding on to enormous arrays for good.
+ *
+ * Each user of working arrays needs its own ScratchArrays, since a thread gets the same arrays back every time it asks; an engine
+ * that shared them with its caller would be working in the caller's input.
+ *
+ * @author spatula
+ *
+ */
+public final class ScratchArrays {
+
+    public static final int DEFAULT_MAXIMUM_RETAINED_LENGTH = 1 << 16;
+
+    private final int maximumRetainedLength;
+    private final ThreadLocal<double[][]> arrays = new ThreadLocal<>();
+
+    public ScratchArrays() {
+        this(DEFAULT_MAXIMUM_RETAINED_LENGTH);
+    }
+
+    /**
+     * @param maximumRetainedLength
+     *            the longest arrays that will be kept from one call to the next
+     */
+    public ScratchArrays(int maximumRetainedLength) {
+        this.maximumRetainedLength = maximumRetainedLength;
+    }
+
+    /**
+     * Return a pair of arrays of exactly the given length for this thread, reusing the last pair if they're the right length. Their
+     * contents are whatever was left in them.
+     *
+     * @param length
+     * @return the arrays, real first and imaginary second
+     */
+    public double[][] get(int length) {
+        double[][] pair = arrays.get();
+        if (pair == null || pair[0].length != length) {
+            pair = new double[][] { new double[length], new double[length] };
+            if (length <= maximumRetainedLength) {
+                arrays.set(pair);
+            } else {
+                arrays.remove();
+            }
+        }
+        return pair;
+    }
+
+    public int getMaximumRetainedLength() {
+        return maximumRetainedLength;
+    }
+
+}
@@ -0,0 +1,135 @@
+package net.spatula.dspatula.transform.fourier;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import net.spatula.dspatula.util.FastMath;
+
+/**
+ * Table of the cosines and sines of 2 * pi * k / N for k from 0 to N - 1, which are the "twiddle factors" for a Fourier transform
+ * of length N.
+ *
+ * For a transform of length N there are only N distinct angles, no matter how many times we go around the circle, so rather than
+ * calling sin and cos on every trip through the innermost loop of a transform, we calculate them once and look them up by
+ * (n * k mod N).
+ *
+ * Tables come in two flavors. The FFT engines use tables built with Java's own Math functions, since their results feed into each
+ * other pass after pass, and errors would accumulate. The DFT summation workers use tables built with FastMath, which is what they
+ * have always used, so that their results don't change by a rounding error here and there.
+ *
+ * Tables are immutable once built, and are kept in small least-recently-used caches keyed by length, because transforming frames
+ * of the same size over and over again is the usual state of affairs.
+ *
+ * @author spatula
+ *
+ */
+public final class TwiddleTable {
+
+    private static final int CACHE_SIZE = 16;
+
+    private static final TableCache exactCache = new TableCache(false);
+    private static final TableCache fastCache = new TableCache(true);
+
+    private final int length;
+    private final double[] cosines;
+    private final double[] sines;
+
+    private static final class TableCache {
+
+        private final boolean fast;
+        private final Map<Integer, TwiddleTable> tables = new LinkedHashMap<Integer, TwiddleTable>(CACHE_SIZE, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Entry<Integer, TwiddleTable> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+        private TableCache(boolean fast) {
+            this.fast = fast;
+        }
+
+        private TwiddleTable get(int length) {
+            synchronized (tables) {
+                final TwiddleTable table = tables.get(length);
+                if (table != null) {
+                    return table;
+                }
+            }
+
+            // Build outside the lock, so that a big table for one length doesn't hold up everybody else. If two threads race to
+            // build the same table, the loser's copy is simply discarded.
+            final TwiddleTable table = new TwiddleTable(length, fast);
+            synchronized (tables) {
+                final TwiddleTable existing = tables.get(length);
+                if (existing != null) {
+                    return existing;
+                }
+                tables.put(length, table);
+                return table;
+            }
+        }
+    }
+
+    private TwiddleTable(int length, boolean fast) {
+        this.length = length;
+        cosines = new double[length];
+        sines = new double[length];
+        for (int k = 0; k < length; k++) {
+            final double radians = FastMath.TWO_PI * k / length;
+            cosines[k] = fast ? FastMath.cos(radians) : Math.cos(radians);
+            sines[k] = fast ? FastMath.sin(radians) : Math.sin(radians);
+        }
+    }
+
+    /**
+     * Fetch the exact table for a transform of the given length from the cache, building it if necessary.
+     *
+     * @param length
+     *            the number of points in the transform
+     * @return the twiddle table for that length
+     */
+    public static TwiddleTable forLength(int length) {
+        return exactCache.get(length);
+    }
+
+    /**
+     * Fetch the table for a transform of the given length, built using FastMath, from the cache, building it if necessary.
+     *
+     * @param length
+     *            the number of points in the transform
+     * @return the twiddle table for that length
+     */
+    public static TwiddleTable fastForLength(int length) {
+        return fastCache.get(length);
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Return the cosines of 2 * pi * k / N. This is the underlying array, and it is shared; never modify it.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getCosines() {
+        return cosines;
+    }
+
+    /**
+     * Return the sines of 2 * pi * k / N. This is the underlying array, and it is shared; never modify it.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getSines() {
+        return sines;
+    }
+
+}
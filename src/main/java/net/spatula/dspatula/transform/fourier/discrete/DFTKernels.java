@@ -0,0 +1,54 @@
+package net.spatula.dspatula.transform.fourier.discrete;
+
+import net.spatula.dspatula.util.Kernels;
+
+/**
+ * The inner loops of the DFT summations, shared by the summation workers' range methods.
+ *
+ * The samples come in as doubles, converted once per range of points rather than once per sample for every point. SELECTED is
+ * the vector version from the Java 17 part of the jar if Kernels.select could load it, and the scalar version otherwise.
+ *
+ * @author spatula
+ *
+ */
+interface DFTKernels {
+
+    DFTKernels SELECTED = Kernels.select(DFTKernels.class,
+            "net.spatula.dspatula.transform.fourier.discrete.VectorDFTKernels", new ScalarDFTKernels());
+
+    static double[] toDoubles(int[] values, int samples) {
+        final double[] result = new double[samples];
+        for (int sampleNumber = 0; sampleNumber < samples; sampleNumber++) {
+            result[sampleNumber] = values[sampleNumber];
+        }
+        return result;
+    }
+
+    /**
+     * Calculate the unscaled forward DFT sums for one point.
+     *
+     * @param values
+     *            the (possibly windowed) samples
+     * @param samples
+     * @param pointNumber
+     * @param cosines
+     * @param sines
+     * @param sums
+     *            receives the real sum at [0] and the imaginary sum at [1]
+     */
+    void forwardSums(double[] values, int samples, int pointNumber, double[] cosines, double[] sines, double[] sums);
+
+    /**
+     * Calculate the unscaled inverse DFT sum (the real part only) for one point.
+     *
+     * @param real
+     * @param imaginary
+     * @param samples
+     * @param pointNumber
+     * @param cosines
+     * @param sines
+     * @return
+     */
+    double inverseSum(double[] real, double[] imaginary, int samples, int pointNumber, double[] cosines, double[] sines);
+
+}
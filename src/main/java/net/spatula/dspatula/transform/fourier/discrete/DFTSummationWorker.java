@@ -5,7 +5,7 @@ import java.util.List;
 import net.spatula.dspatula.concurrent.SummationWorker;
 import net.spatula.dspatula.time.sequence.ComplexSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
-import net.spatula.dspatula.util.FastMath;
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
 
 /**
  * Perform DFT for a point, applying no window to the Discrete-Time sequence.
@@ -15,33 +15,53 @@ import net.spatula.dspatula.util.FastMath;
  */
 public class DFTSummationWorker implements SummationWorker<RealSequence, ComplexSequence> {
 
+    private volatile TwiddleTable twiddleTable;
+
+    /**
+     * Fetch the twiddle table for a transform of the given length. The last table used is remembered, so that we don't have to
+     * visit the shared cache (and its lock) for every single point of the same transform.
+     *
+     * @param points
+     * @return
+     */
+    protected final TwiddleTable getTwiddleTable(int points) {
+        final TwiddleTable table = twiddleTable;
+        if (table != null && table.getLength() == points) {
+            return table;
+        }
+        final TwiddleTable newTable = TwiddleTable.fastForLength(points);
+        twiddleTable = newTable;
+        return newTable;
+    }
+
     @Override
     public void forward(int pointNumber, List<RealSequence> inputSequences, ComplexSequence outputSequence) {
         final RealSequence realSequence = inputSequences.get(0);
-        final double samples = realSequence.getLength();
+        final int samples = realSequence.getLength();
         final double scale = samples / 2D;
         final int[] realValues = realSequence.getRealValues();
         final int[] resultReal = outputSequence.getRealValues();
         final int[] resultImaginary = outputSequence.getImaginaryValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
 
         double realSum = 0;
         double imaginarySum = 0;
+        /*
+         * The angle for this sample is 2 * pi * sampleNumber * pointNumber / N, and since sine and cosine are periodic, that's the
+         * same angle as 2 * pi * (sampleNumber * pointNumber mod N) / N, which is what the twiddle table holds at that index. We
+         * keep the index modulo N by adding pointNumber each time and wrapping around, which avoids both the multiplication and
+         * any chance of overflow for long sequences.
+         */
+        int twiddleIndex = 0;
         for (int sampleNumber = 0; sampleNumber < samples; sampleNumber++) {
-            /*
-             * It's faster to multiply together the sampleNumber and pointNumber here, and assign them to a double which we'll use
-             * twice later, than it is to multiply together the sampleNumber, pointNumber, AND TWO_PI and use that value twice
-             * later.
-             *
-             * Speculation: operations involving multiple doubles might be handled by the FPU simultaneously, maybe cached, even to
-             * the extent that doing the multiplication and division twice is cheaper than doing the operation once AND paying the
-             * price of assignment to a double here. But introducing integers into double math is even worse than assignment, so
-             * we're better off paying the assignment price once here to perform inlined, purely-double math later.
-             *
-             * So here we're calculating the radians of the analytic frequency without TWO_PI, and multiplying TWO_PI inline later.
-             */
-            final double analytic = sampleNumber * pointNumber;
-            realSum += realValues[sampleNumber] * FastMath.cos(FastMath.TWO_PI * analytic / samples); // See note above.
-            imaginarySum -= realValues[sampleNumber] * FastMath.sin(FastMath.TWO_PI * analytic / samples);
+            realSum += realValues[sampleNumber] * cosines[twiddleIndex];
+            imaginarySum -= realValues[sampleNumber] * sines[twiddleIndex];
+            twiddleIndex += pointNumber;
+            if (twiddleIndex >= samples) {
+                twiddleIndex -= samples;
+            }
         }
 
         /*
@@ -58,24 +78,68 @@ public class DFTSummationWorker implements SummationWorker<RealSequence, Complex
     @Override
     public void inverse(int pointNumber, List<ComplexSequence> inputSequences, RealSequence outputSequence) {
         final ComplexSequence complexSequence = inputSequences.get(0);
-        final double samples = complexSequence.getLength();
+        final int samples = complexSequence.getLength();
         final int[] realValues = outputSequence.getRealValues();
         final int[] inputReal = complexSequence.getRealValues();
         final int[] inputImaginary = complexSequence.getImaginaryValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
 
         double realSum = 0;
+        int twiddleIndex = 0;
         for (int sampleNumber = 0; sampleNumber < samples; sampleNumber++) {
-            final double analytic = sampleNumber * pointNumber;
             // (a + jb)(c + jd) = ac - bd + j(ad + cb)
             // Here, c = cos(2 * pi * mn / N) and d = sin(2 * pi * mn / N)
             // and a = the sample's real value, b is the sample's imaginary value.
             // For the inverse DFT, the j components should cancel out. In practice
             // they would actually work out to be very, very small numbers due to rounding error.
-            //@formatter:off
-            realSum +=  inputReal[sampleNumber] * FastMath.cos(FastMath.TWO_PI * analytic / samples)
-                      - inputImaginary[sampleNumber] * FastMath.sin(FastMath.TWO_PI * analytic / samples);
-            //@formatter:on
+            realSum += inputReal[sampleNumber] * cosines[twiddleIndex] - inputImaginary[sampleNumber] * sines[twiddleIndex];
+            twiddleIndex += pointNumber;
+            if (twiddleIndex >= samples) {
+                twiddleIndex -= samples;
+            }
         }
         realValues[pointNumber] = (int) (realSum / 2D);
     }
+
+    /**
+     * Convert the samples to doubles once for the whole range of points, and let DFTKernels do the summing.
+     */
+    @Override
+    public void forwardRange(int fromPoint, int toPoint, List<RealSequence> inputSequences, ComplexSequence outputSequence) {
+        final RealSequence realSequence = inputSequences.get(0);
+        final int samples = realSequence.getLength();
+        final double scale = samples / 2D;
+        final int[] resultReal = outputSequence.getRealValues();
+        final int[] resultImaginary = outputSequence.getImaginaryValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+
+        final double[] values = DFTKernels.toDoubles(realSequence.getRealValues(), samples);
+        final double[] sums = new double[2];
+        for (int pointNumber = fromPoint; pointNumber <= toPoint; pointNumber++) {
+            DFTKernels.SELECTED.forwardSums(values, samples, pointNumber, cosines, sines, sums);
+            resultReal[pointNumber] = (int) (sums[0] / scale);
+            resultImaginary[pointNumber] = (int) (sums[1] / scale);
+        }
+    }
+
+    @Override
+    public void inverseRange(int fromPoint, int toPoint, List<ComplexSequence> inputSequences, RealSequence outputSequence) {
+        final ComplexSequence complexSequence = inputSequences.get(0);
+        final int samples = complexSequence.getLength();
+        final int[] realValues = outputSequence.getRealValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+
+        final double[] inputReal = DFTKernels.toDoubles(complexSequence.getRealValues(), samples);
+        final double[] inputImaginary = DFTKernels.toDoubles(complexSequence.getImaginaryValues(), samples);
+        for (int pointNumber = fromPoint; pointNumber <= toPoint; pointNumber++) {
+            final double realSum = DFTKernels.SELECTED.inverseSum(inputReal, inputImaginary, samples, pointNumber, cosines, sines);
+            realValues[pointNumber] = (int) (realSum / 2D);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package net.spatula.dspatula.transform.fourier.discrete;
+
+import java.util.List;
+
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+import net.spatula.dspatula.window.Window;
+import net.spatula.dspatula.window.WindowTable;
+
+/**
+ * Perform DFT for a point, applying a Window to the Discrete-Time Sequence.
+ *
+ * Like the unwindowed DFTSummationWorker, the results are not scaled.
+ *
+ * @author spatula
+ *
+ */
+public class DFTWindowSummationWorker extends DFTSummationWorker {
+
+    protected final Window window;
+    private volatile WindowTable windowTable;
+
+    public DFTWindowSummationWorker(Window window) {
+        this.window = window;
+    }
+
+    public Window getWindow() {
+        return window;
+    }
+
+    /**
+     * Fetch the window coefficients for a transform of the given length, remembering the last table used, for the same reason
+     * as getTwiddleTable.
+     *
+     * @param points
+     * @return
+     */
+    protected final WindowTable getWindowTable(int points) {
+        final WindowTable table = windowTable;
+        if (table != null && table.getLength() == points) {
+            return table;
+        }
+        final WindowTable newTable = WindowTable.forWindow(window, points);
+        windowTable = newTable;
+        return newTable;
+    }
+
+    @Override
+    public final void forward(int pointNumber, List<RealSequence> inputSequences, ComplexSequence outputSequence) {
+        final RealSequence realSequence = inputSequences.get(0);
+        final int samples = realSequence.getLength();
+        final int[] realValues = realSequence.getRealValues();
+        final int[] resultReal = outputSequence.getRealValues();
+        final int[] resultImaginary = outputSequence.getImaginaryValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+        final double[] coefficients = getWindowTable(samples).getCoefficients();
+
+        double realSum = 0;
+        double imaginarySum = 0;
+        int twiddleIndex = 0;
+        for (int sampleNumber = 0; sampleNumber < samples; sampleNumber++) {
+            // See the commentary in DFTSummationWorker for an explanation of the twiddleIndex.
+            realSum += realValues[sampleNumber] * coefficients[sampleNumber] * cosines[twiddleIndex];
+            imaginarySum -= realValues[sampleNumber] * coefficients[sampleNumber] * sines[twiddleIndex];
+            twiddleIndex += pointNumber;
+            if (twiddleIndex >= samples) {
+                twiddleIndex -= samples;
+            }
+        }
+        resultReal[pointNumber] = (int) realSum;
+        resultImaginary[pointNumber] = (int) imaginarySum;
+    }
+
+    /**
+     * Apply the window to the samples once for the whole range of points, rather than once per sample for every point.
+     */
+    @Override
+    public void forwardRange(int fromPoint, int toPoint, List<RealSequence> inputSequences, ComplexSequence outputSequence) {
+        final RealSequence realSequence = inputSequences.get(0);
+        final int samples = realSequence.getLength();
+        final int[] realValues = realSequence.getRealValues();
+        final int[] resultReal = outputSequence.getRealValues();
+        final int[] resultImaginary = outputSequence.getImaginaryValues();
+        final TwiddleTable twiddles = getTwiddleTable(samples);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+        final double[] coefficients = getWindowTable(samples).getCoefficients();
+
+        final double[] windowedValues = new double[samples];
+        for (int sampleNumber = 0; sampleNumber < samples; sampleNumber++) {
+            windowedValues[sampleNumber] = realValues[sampleNumber] * coefficients[sampleNumber];
+        }
+
+        final double[] sums = new double[2];
+        for (int pointNumber = fromPoint; pointNumber <= toPoint; pointNumber++) {
+            DFTKernels.SELECTED.forwardSums(windowedValues, samples, pointNumber, cosines, sines, sums);
+            resultReal[pointNumber] = (int) sums[0];
+            resultImaginary[pointNumber] = (int) sums[1];
+        }
+    }
+}
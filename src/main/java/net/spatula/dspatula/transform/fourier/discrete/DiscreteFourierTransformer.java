@@ -1,32 +1,93 @@
 package net.spatula.dspatula.transform.fourier.discrete;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import net.spatula.dspatula.concurrent.CoreAwareParallelExecutor;
 import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
 import net.spatula.dspatula.concurrent.DiscreteSystemWorker;
+import net.spatula.dspatula.concurrent.ProcessingFutures;
 import net.spatula.dspatula.concurrent.SummationParallelExecutor;
 import net.spatula.dspatula.concurrent.SummationWorker;
 import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ByteSequence;
+import net.spatula.dspatula.time.sequence.ChannelLayout;
 import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.DirectRealSequence;
+import net.spatula.dspatula.time.sequence.DoubleComplexSequence;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatComplexSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+import net.spatula.dspatula.time.sequence.MultiChannelSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.Sequence;
+import net.spatula.dspatula.time.sequence.ShortSequence;
+import net.spatula.dspatula.time.sequence.StridedComplexSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+import net.spatula.dspatula.transform.fourier.ScratchArrays;
+import net.spatula.dspatula.transform.fourier.fast.AutomaticFFTEngine;
+import net.spatula.dspatula.transform.fourier.fast.FFTEngine;
 
 /**
  * Calculate Discrete Fourier Transforms in forward and reverse, in parallel on multiple cores where appropriate, of course.
  *
+ * If constructed with an FFTEngine, transforms of lengths supported by that engine are calculated with the FFT instead of the
+ * summation, with the same scaling conventions (forward results divided by N/2, inverse results divided by 2). Lengths the engine
+ * doesn't support fall back to the summation. The no-argument constructor uses an AutomaticFFTEngine, which picks an FFT for any
+ * length from how it factors; to get the summation itself, construct the transformer with a SummationWorker (a
+ * DFTSummationWorker, say).
+ *
+ * forwardAsync and inverseAsync do the same work without blocking the caller, completing on the CoreAwareParallelExecutor's pool,
+ * so that a transform can be one stage in a chain of futures.
+ *
+ * DoubleSequences (and FloatSequences, into FloatComplexSequences) are always transformed with an FFT: the transformer's own
+ * FFTEngine if it has one which supports the length, and an AutomaticFFTEngine otherwise. The scaling conventions are the same as
+ * for the integer sequences, so results are directly comparable, but nothing is truncated along the way.
+ * InterleavedComplexSequences are handled the same way, with forwardInterleaved producing one and inverse consuming one.
+ *
+ * forward, forwardInterleaved and inverse can also write into an output sequence supplied by the caller (borrowed from a
+ * SequencePool, say), and the FFT path keeps its working arrays from one call to the next, so that a pipeline transforming frame
+ * after frame of the same length doesn't have to allocate anything. Only arrays up to
+ * ScratchArrays.DEFAULT_MAXIMUM_RETAINED_LENGTH points long are kept, so that one very long transform doesn't leave every pool
+ * thread holding on to very long arrays.
+ *
+ * ShortSequences and ByteSequences are read straight into the FFT's working arrays, without first being widened into a
+ * RealSequence, and like DoubleSequences they always go through an FFT.
+ *
+ * All the channels of a MultiChannelSequence can be transformed in one call, each channel on its own core (as far as the cores
+ * go), read straight from the channel's samples whatever the layout. These go through an FFT too.
+ *
  * @author spatula
  *
  */
 public class DiscreteFourierTransformer {
 
     private final SummationWorker<RealSequence, ComplexSequence> worker;
+    private final FFTEngine fftEngine;
+
+    private static final FFTEngine DEFAULT_DOUBLE_ENGINE = new AutomaticFFTEngine();
+
+    private final ScratchArrays scratch = new ScratchArrays();
 
     public DiscreteFourierTransformer(SummationWorker<RealSequence, ComplexSequence> summationWorker) {
         this.worker = summationWorker;
+        this.fftEngine = null;
+    }
+
+    public DiscreteFourierTransformer(FFTEngine fftEngine) {
+        this.worker = new DFTSummationWorker();
+        this.fftEngine = fftEngine;
     }
 
     public DiscreteFourierTransformer() {
         this.worker = new DFTSummationWorker();
+        this.fftEngine = DEFAULT_DOUBLE_ENGINE;
     }
 
     /**
@@ -38,8 +99,25 @@ public class DiscreteFourierTransformer {
      * @throws ProcessingException
      */
     public ComplexSequence forward(RealSequence sequence) throws ProcessingException {
+        return forward(sequence, new ComplexSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the forward DFT of a RealSequence into the given ComplexSequence, which must be the same length as the
+     * RealSequence and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     * @throws ProcessingException
+     */
+    public ComplexSequence forward(RealSequence sequence, ComplexSequence result) throws ProcessingException {
         final int points = sequence.getLength();
-        final ComplexSequence result = new ComplexSequence(points);
+        checkOutput(points, result);
+        if (fftEngine != null && fftEngine.supports(points)) {
+            return fastForward(sequence, result);
+        }
+
         final int independentPoints = (points % 2 == 0) ? points / 2 + 1 : (points + 1) / 2;
 
         SummationParallelExecutor.getDefaultInstance().executeForward(worker, Arrays.asList(sequence), result);
@@ -56,29 +134,181 @@ public class DiscreteFourierTransformer {
         final ComplexSequence symmetricSequence = result.subsequence(independentPoints, result.getEnd());
 
         final DiscreteSystemParallelExecutor dsExecutor = DiscreteSystemParallelExecutor.getDefaultInstance();
-        dsExecutor.execute(new DiscreteSystemWorker<ComplexSequence>() {
+        dsExecutor.execute(SYMMETRY_WORKER, symmetricSequence, mirror(result, independentPoints));
 
-            @Override
-            public void operate(List<ComplexSequence> sequences) {
-                final ComplexSequence sequence = sequences.get(0);
-                final int[] imaginaryValues = sequence.getImaginaryValues();
-                final int[] realValues = sequence.getRealValues();
-                final int start = sequence.getStart();
-                final int end = sequence.getEnd();
+        return result;
+    }
 
-                final int offset = (points % 2 == 0) ? 2 : 1;
+    /**
+     * Calculate the forward DFT of a RealSequence without blocking the calling thread.
+     *
+     * @see forward
+     * @param sequence
+     * @return a future which completes with the frequency domain, or fails with a ProcessingException
+     */
+    public CompletableFuture<ComplexSequence> forwardAsync(RealSequence sequence) {
+        final int points = sequence.getLength();
+        if (fftEngine != null && fftEngine.supports(points)) {
+            return ProcessingFutures.withProcessingException(
+                    CoreAwareParallelExecutor.getInstance().supplyAsync(() -> fastForward(sequence, new ComplexSequence(points))));
+        }
 
-                for (int pointNumber = start; pointNumber <= end; pointNumber++) {
-                    final int fromIndex = independentPoints - (pointNumber - independentPoints) - offset;
+        final ComplexSequence result = new ComplexSequence(points);
+        final int independentPoints = (points % 2 == 0) ? points / 2 + 1 : (points + 1) / 2;
+        final ComplexSequence symmetricSequence = result.subsequence(independentPoints, result.getEnd());
 
-                    // We're cheating the contract for DiscreteSystemWorker here by reaching into part of the
-                    // array that's outside our subsequence.
-                    imaginaryValues[pointNumber] = -1 * imaginaryValues[fromIndex];
-                    realValues[pointNumber] = realValues[fromIndex];
-                }
+        return SummationParallelExecutor.getDefaultInstance().executeForwardAsync(worker, Arrays.asList(sequence), result)
+                .thenCompose(ignored -> DiscreteSystemParallelExecutor.getDefaultInstance()
+                        .executeAsync(SYMMETRY_WORKER, symmetricSequence, mirror(result, independentPoints)))
+                .thenApply(ignored -> result);
+    }
+
+    /**
+     * Point k of a real signal's spectrum is the complex conjugate of point N - k, so the points we didn't calculate are those we did
+     * in reverse order. A view of the spectrum with an offset of N and a stride of -1 reads point N - k at index k, which lines it up
+     * with the points to fill in, and lets the DiscreteSystemParallelExecutor chunk the two together.
+     */
+    private static StridedComplexSequence mirror(ComplexSequence result, int independentPoints) {
+        return new StridedComplexSequence(result.getRealValues(), result.getImaginaryValues(), result.getLength(), -1,
+                independentPoints, result.getEnd());
+    }
+
+    private static final DiscreteSystemWorker<ComplexSequence> SYMMETRY_WORKER = new DiscreteSystemWorker<ComplexSequence>() {
+
+        @Override
+        public void operate(List<ComplexSequence> sequences) {
+            final ComplexSequence sequence = sequences.get(0);
+            final StridedComplexSequence mirror = (StridedComplexSequence) sequences.get(1);
+            final int[] imaginaryValues = sequence.getImaginaryValues();
+            final int[] realValues = sequence.getRealValues();
+            final int[] mirrorImaginaryValues = mirror.getUnderlyingImaginaryValues();
+            final int[] mirrorRealValues = mirror.getUnderlyingRealValues();
+            final int stride = mirror.getStride();
+            final int start = sequence.getStart();
+            final int end = sequence.getEnd();
+
+            int fromIndex = mirror.arrayIndex(start);
+            for (int pointNumber = start; pointNumber <= end; pointNumber++) {
+                imaginaryValues[pointNumber] = -1 * mirrorImaginaryValues[fromIndex];
+                realValues[pointNumber] = mirrorRealValues[fromIndex];
+                fromIndex += stride;
             }
-        }, symmetricSequence);
+        }
+    };
+
+    /**
+     * Calculate the forward DFT of a DirectRealSequence (or a MappedRealSequence), which will usually be a subsequence, one frame of
+     * a much longer signal. The frame is copied onto the heap to be transformed, so it has to fit there.
+     *
+     * @param sequence
+     * @return
+     * @throws ProcessingException
+     */
+    public ComplexSequence forward(DirectRealSequence sequence) throws ProcessingException {
+        return forward(sequence.toRealSequence());
+    }
+
+    /**
+     * Calculate the forward DFT of a ShortSequence, returning the result as a ComplexSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public ComplexSequence forward(ShortSequence sequence) {
+        return forward(sequence, new ComplexSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the forward DFT of a ShortSequence into the given ComplexSequence, which must be the same length as the
+     * ShortSequence and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     */
+    public ComplexSequence forward(ShortSequence sequence, ComplexSequence result) {
+        final int points = sequence.getLength();
+        checkOutput(points, result);
+        final int start = sequence.getStart();
+        final short[] values = sequence.getRealValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[start + index];
+        }
+
+        return transformScratch(doubleEngine(points), arrays, result);
+    }
+
+    /**
+     * Calculate the forward DFT of a ByteSequence, returning the result as a ComplexSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public ComplexSequence forward(ByteSequence sequence) {
+        return forward(sequence, new ComplexSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the forward DFT of a ByteSequence into the given ComplexSequence, which must be the same length as the ByteSequence
+     * and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     */
+    public ComplexSequence forward(ByteSequence sequence, ComplexSequence result) {
+        final int points = sequence.getLength();
+        checkOutput(points, result);
+        final int start = sequence.getStart();
+        final byte[] values = sequence.getRealValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[start + index];
+        }
+
+        return transformScratch(doubleEngine(points), arrays, result);
+    }
 
+    /**
+     * Calculate the forward DFT of every channel of a MultiChannelSequence, in parallel.
+     *
+     * @param sequence
+     * @return the frequency domain of each channel, in order
+     * @throws ProcessingException
+     */
+    public List<ComplexSequence> forward(MultiChannelSequence sequence) throws ProcessingException {
+        final List<Callable<ComplexSequence>> callables = new ArrayList<>(sequence.getChannelCount());
+        for (final StridedRealSequence channel : sequence.getChannels()) {
+            callables.add(() -> forwardChannel(channel, new ComplexSequence(channel.getLength())));
+        }
+        return invokeChannels(callables);
+    }
+
+    /**
+     * Calculate the inverse DFT of a group of ComplexSequences of the same length, in parallel, returning the results as the
+     * channels of a MultiChannelSequence in the given layout.
+     *
+     * @param sequences
+     * @param layout
+     * @return
+     * @throws ProcessingException
+     */
+    public MultiChannelSequence inverse(List<ComplexSequence> sequences, ChannelLayout layout) throws ProcessingException {
+        final int points = sequences.get(0).getLength();
+        final MultiChannelSequence result = new MultiChannelSequence(sequences.size(), points, layout);
+        final List<Callable<StridedRealSequence>> callables = new ArrayList<>(sequences.size());
+        for (int channel = 0; channel < sequences.size(); channel++) {
+            final ComplexSequence sequence = sequences.get(channel);
+            if (sequence.getLength() != points) {
+                throw new IllegalArgumentException("Channel " + channel + " has " + sequence.getLength() + " points, not " + points);
+            }
+            final StridedRealSequence destination = result.getChannel(channel);
+            callables.add(() -> inverseChannel(sequence, destination));
+        }
+        invokeChannels(callables);
         return result;
     }
 
@@ -90,12 +320,387 @@ public class DiscreteFourierTransformer {
      * @throws ProcessingException
      */
     public RealSequence inverse(ComplexSequence sequence) throws ProcessingException {
+        return inverse(sequence, new RealSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the inverse DFT of a ComplexSequence into the given RealSequence, which must be the same length as the
+     * ComplexSequence and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     * @throws ProcessingException
+     */
+    public RealSequence inverse(ComplexSequence sequence, RealSequence result) throws ProcessingException {
         final int points = sequence.getLength();
-        final RealSequence result = new RealSequence(points);
+        checkOutput(points, result);
+        if (fftEngine != null && fftEngine.supports(points)) {
+            return fastInverse(sequence, result);
+        }
 
         SummationParallelExecutor.getDefaultInstance().executeInverse(worker, Arrays.asList(sequence), result);
 
         return result;
     }
 
+    /**
+     * Calculate the inverse DFT of a ComplexSequence without blocking the calling thread.
+     *
+     * @see inverse
+     * @param sequence
+     * @return a future which completes with the time domain, or fails with a ProcessingException
+     */
+    public CompletableFuture<RealSequence> inverseAsync(ComplexSequence sequence) {
+        final int points = sequence.getLength();
+        if (fftEngine != null && fftEngine.supports(points)) {
+            return ProcessingFutures.withProcessingException(
+                    CoreAwareParallelExecutor.getInstance().supplyAsync(() -> fastInverse(sequence, new RealSequence(points))));
+        }
+
+        final RealSequence result = new RealSequence(points);
+
+        return SummationParallelExecutor.getDefaultInstance().executeInverseAsync(worker, Arrays.asList(sequence), result)
+                .thenApply(ignored -> result);
+    }
+
+    /**
+     * Calculate the forward DFT of a DoubleSequence, returning the result as a DoubleComplexSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public DoubleComplexSequence forward(DoubleSequence sequence) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final DoubleComplexSequence result = new DoubleComplexSequence(points);
+        final double[] real = result.getRealValues();
+        final double[] imaginary = result.getImaginaryValues();
+        System.arraycopy(sequence.getRealValues(), start, real, 0, points);
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final double scale = points / 2D;
+        for (int index = 0; index < points; index++) {
+            real[index] /= scale;
+            imaginary[index] /= scale;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the inverse DFT of a DoubleComplexSequence, returning the result as a DoubleSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public DoubleSequence inverse(DoubleComplexSequence sequence) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final double[] inputImaginary = sequence.getImaginaryValues();
+        final DoubleSequence result = new DoubleSequence(points);
+        final double[] real = result.getRealValues();
+        final double[] imaginary = new double[points];
+        System.arraycopy(sequence.getRealValues(), start, real, 0, points);
+        for (int index = 0; index < points; index++) {
+            imaginary[index] = -inputImaginary[start + index];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        for (int index = 0; index < points; index++) {
+            real[index] /= 2D;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the forward DFT of a FloatSequence, returning the result as a FloatComplexSequence. The transform itself is done in
+     * double precision in this thread's working arrays; only the input and the result are floats.
+     *
+     * @param sequence
+     * @return
+     */
+    public FloatComplexSequence forward(FloatSequence sequence) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final float[] values = sequence.getRealValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[start + index];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final FloatComplexSequence result = new FloatComplexSequence(points);
+        final float[] resultReal = result.getRealValues();
+        final float[] resultImaginary = result.getImaginaryValues();
+        final double scale = points / 2D;
+        for (int index = 0; index < points; index++) {
+            resultReal[index] = (float) (real[index] / scale);
+            resultImaginary[index] = (float) (imaginary[index] / scale);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the inverse DFT of a FloatComplexSequence, returning the result as a FloatSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public FloatSequence inverse(FloatComplexSequence sequence) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final float[] inputReal = sequence.getRealValues();
+        final float[] inputImaginary = sequence.getImaginaryValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+        for (int index = 0; index < points; index++) {
+            real[index] = inputReal[start + index];
+            imaginary[index] = -inputImaginary[start + index];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final FloatSequence result = new FloatSequence(points);
+        final float[] resultValues = result.getRealValues();
+        for (int index = 0; index < points; index++) {
+            resultValues[index] = (float) (real[index] / 2D);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the forward DFT of a RealSequence, returning the result as an InterleavedComplexSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public InterleavedComplexSequence forwardInterleaved(RealSequence sequence) {
+        return forwardInterleaved(sequence, new InterleavedComplexSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the forward DFT of a RealSequence into the given InterleavedComplexSequence, which must be the same length as the
+     * RealSequence and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     */
+    public InterleavedComplexSequence forwardInterleaved(RealSequence sequence, InterleavedComplexSequence result) {
+        final int points = sequence.getLength();
+        checkOutput(points, result);
+        final int start = sequence.getStart();
+        final int[] values = sequence.getRealValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[start + index];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final int[] resultValues = result.getValues();
+        final double scale = points / 2D;
+        for (int index = 0; index < points; index++) {
+            resultValues[2 * index] = (int) (real[index] / scale);
+            resultValues[2 * index + 1] = (int) (imaginary[index] / scale);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the inverse DFT of an InterleavedComplexSequence, returning the result as a RealSequence.
+     *
+     * @param sequence
+     * @return
+     */
+    public RealSequence inverse(InterleavedComplexSequence sequence) {
+        return inverse(sequence, new RealSequence(sequence.getLength()));
+    }
+
+    /**
+     * Calculate the inverse DFT of an InterleavedComplexSequence into the given RealSequence, which must be the same length as the
+     * InterleavedComplexSequence and must start at 0.
+     *
+     * @param sequence
+     * @param result
+     * @return the result, for convenience
+     */
+    public RealSequence inverse(InterleavedComplexSequence sequence, RealSequence result) {
+        final int points = sequence.getLength();
+        checkOutput(points, result);
+        final int offset = sequence.getStart() * 2;
+        final int[] values = sequence.getValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[offset + 2 * index];
+            imaginary[index] = -values[offset + 2 * index + 1];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final int[] resultValues = result.getRealValues();
+        for (int index = 0; index < points; index++) {
+            resultValues[index] = (int) (real[index] / 2D);
+        }
+
+        return result;
+    }
+
+    private FFTEngine doubleEngine(int points) {
+        return (fftEngine != null && fftEngine.supports(points)) ? fftEngine : DEFAULT_DOUBLE_ENGINE;
+    }
+
+    private static void checkOutput(int points, Sequence<?> result) {
+        if (result.getLength() != points || result.getStart() != 0) {
+            throw new IllegalArgumentException("Output must start at 0 and have " + points + " points");
+        }
+    }
+
+    /**
+     * Return working arrays of exactly the given length for this thread, reusing the last ones if they're the right length and not
+     * too long to keep (see ScratchArrays). The imaginary array is cleared; the real one is about to be overwritten anyway.
+     *
+     * @param points
+     * @return
+     */
+    private double[][] getScratch(int points) {
+        final double[][] arrays = scratch.get(points);
+        Arrays.fill(arrays[1], 0D);
+        return arrays;
+    }
+
+    private ComplexSequence fastForward(RealSequence sequence, ComplexSequence result) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final int[] values = sequence.getRealValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        for (int index = 0; index < points; index++) {
+            real[index] = values[start + index];
+        }
+
+        return transformScratch(fftEngine, arrays, result);
+    }
+
+    /**
+     * Transform the working arrays (real part filled in, imaginary part clear) with the given engine, then scale and quantize the
+     * result into the given ComplexSequence.
+     */
+    private static ComplexSequence transformScratch(FFTEngine engine, double[][] arrays, ComplexSequence result) {
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+        final int points = real.length;
+
+        engine.transform(real, imaginary);
+
+        // Same scaling as DFTSummationWorker, and for the same reason: scale while we still have doubles, quantize once.
+        final int[] resultReal = result.getRealValues();
+        final int[] resultImaginary = result.getImaginaryValues();
+        final double scale = points / 2D;
+        for (int index = 0; index < points; index++) {
+            resultReal[index] = (int) (real[index] / scale);
+            resultImaginary[index] = (int) (imaginary[index] / scale);
+        }
+
+        return result;
+    }
+
+    private ComplexSequence forwardChannel(StridedRealSequence channel, ComplexSequence result) {
+        final int points = channel.getLength();
+        final int[] values = channel.getUnderlyingValues();
+        final int stride = channel.getStride();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        for (int index = 0, arrayIndex = channel.arrayIndex(channel.getStart()); index < points; index++, arrayIndex += stride) {
+            real[index] = values[arrayIndex];
+        }
+
+        return transformScratch(doubleEngine(points), arrays, result);
+    }
+
+    private StridedRealSequence inverseChannel(ComplexSequence sequence, StridedRealSequence destination) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final int[] inputReal = sequence.getRealValues();
+        final int[] inputImaginary = sequence.getImaginaryValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+
+        // Conjugate on the way in, just as in fastInverse.
+        for (int index = 0; index < points; index++) {
+            real[index] = inputReal[start + index];
+            imaginary[index] = -inputImaginary[start + index];
+        }
+
+        doubleEngine(points).transform(real, imaginary);
+
+        final int[] values = destination.getUnderlyingValues();
+        final int stride = destination.getStride();
+        for (int index = 0, arrayIndex = destination.arrayIndex(destination.getStart()); index < points; index++,
+                arrayIndex += stride) {
+            values[arrayIndex] = (int) (real[index] / 2D);
+        }
+
+        return destination;
+    }
+
+    private static <T> List<T> invokeChannels(List<Callable<T>> callables) throws ProcessingException {
+        try {
+            final List<Future<T>> futures = CoreAwareParallelExecutor.getInstance().invokeAll(callables);
+            final List<T> results = new ArrayList<>(futures.size());
+            for (final Future<T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (final ExecutionException e) {
+                    throw new ProcessingException("Internal error", e);
+                }
+            }
+            return results;
+        } catch (final InterruptedException e) {
+            throw new ProcessingException("Interrupted", e);
+        }
+    }
+
+    private RealSequence fastInverse(ComplexSequence sequence, RealSequence result) {
+        final int points = sequence.getLength();
+        final int start = sequence.getStart();
+        final int[] inputReal = sequence.getRealValues();
+        final int[] inputImaginary = sequence.getImaginaryValues();
+        final double[][] arrays = getScratch(points);
+        final double[] real = arrays[0];
+        final double[] imaginary = arrays[1];
+
+        // The inverse DFT is the conjugate of the forward DFT of the conjugate. We only keep the real part of the result, and
+        // conjugation doesn't change the real part, so we only need to conjugate on the way in.
+        for (int index = 0; index < points; index++) {
+            real[index] = inputReal[start + index];
+            imaginary[index] = -inputImaginary[start + index];
+        }
+
+        fftEngine.transform(real, imaginary);
+
+        final int[] resultValues = result.getRealValues();
+        for (int index = 0; index < points; index++) {
+            resultValues[index] = (int) (real[index] / 2D);
+        }
+
+        return result;
+    }
+
 }
@@ -0,0 +1,74 @@
+package net.spatula.dspatula.transform.fourier.discrete;
+
+/**
+ * DFTKernels as plain loops. Each sum is accumulated in two lanes, even samples and odd samples, which are added together at the
+ * end. That gives the processor independent chains of additions to overlap instead of one long chain where every addition waits
+ * for the one before it; the JIT can't vectorize the loop itself, since the twiddles are gathered at a stride of pointNumber.
+ *
+ * @author spatula
+ *
+ */
+final class ScalarDFTKernels implements DFTKernels {
+
+    @Override
+    public void forwardSums(final double[] values, final int samples, final int pointNumber, final double[] cosines,
+            final double[] sines, final double[] sums) {
+        // See the commentary in DFTSummationWorker for an explanation of the twiddleIndex. Each lane advances two samples at a time.
+        final int step = (int) ((2L * pointNumber) % samples);
+        double realSum0 = 0;
+        double realSum1 = 0;
+        double imaginarySum0 = 0;
+        double imaginarySum1 = 0;
+        int twiddleIndex0 = 0;
+        int twiddleIndex1 = pointNumber % samples;
+        int sampleNumber = 0;
+        for (; sampleNumber < samples - 1; sampleNumber += 2) {
+            realSum0 += values[sampleNumber] * cosines[twiddleIndex0];
+            imaginarySum0 -= values[sampleNumber] * sines[twiddleIndex0];
+            realSum1 += values[sampleNumber + 1] * cosines[twiddleIndex1];
+            imaginarySum1 -= values[sampleNumber + 1] * sines[twiddleIndex1];
+            twiddleIndex0 += step;
+            if (twiddleIndex0 >= samples) {
+                twiddleIndex0 -= samples;
+            }
+            twiddleIndex1 += step;
+            if (twiddleIndex1 >= samples) {
+                twiddleIndex1 -= samples;
+            }
+        }
+        if (sampleNumber < samples) {
+            realSum0 += values[sampleNumber] * cosines[twiddleIndex0];
+            imaginarySum0 -= values[sampleNumber] * sines[twiddleIndex0];
+        }
+        sums[0] = realSum0 + realSum1;
+        sums[1] = imaginarySum0 + imaginarySum1;
+    }
+
+    @Override
+    public double inverseSum(final double[] real, final double[] imaginary, final int samples, final int pointNumber,
+            final double[] cosines, final double[] sines) {
+        final int step = (int) ((2L * pointNumber) % samples);
+        double realSum0 = 0;
+        double realSum1 = 0;
+        int twiddleIndex0 = 0;
+        int twiddleIndex1 = pointNumber % samples;
+        int sampleNumber = 0;
+        for (; sampleNumber < samples - 1; sampleNumber += 2) {
+            realSum0 += real[sampleNumber] * cosines[twiddleIndex0] - imaginary[sampleNumber] * sines[twiddleIndex0];
+            realSum1 += real[sampleNumber + 1] * cosines[twiddleIndex1] - imaginary[sampleNumber + 1] * sines[twiddleIndex1];
+            twiddleIndex0 += step;
+            if (twiddleIndex0 >= samples) {
+                twiddleIndex0 -= samples;
+            }
+            twiddleIndex1 += step;
+            if (twiddleIndex1 >= samples) {
+                twiddleIndex1 -= samples;
+            }
+        }
+        if (sampleNumber < samples) {
+            realSum0 += real[sampleNumber] * cosines[twiddleIndex0] - imaginary[sampleNumber] * sines[twiddleIndex0];
+        }
+        return realSum0 + realSum1;
+    }
+
+}
@@ -0,0 +1,50 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+/**
+ * Base class for iterative, in-place FFT engines which operate on transforms whose length is a power of two.
+ *
+ * The iterative algorithm works on the input in bit-reversed order. When the input indices are written in binary and their bits
+ * are reversed, the even-numbered samples end up in the first half, the odd-numbered samples in the second half, and so on
+ * recursively. This is the same shuffling the recursive "divide and conquer" algorithm does on its way down, except that we do all
+ * of it up front and then perform the butterflies bottom-up, combining ever-larger DFTs until we have the whole thing.
+ *
+ * @author spatula
+ *
+ */
+public abstract class AbstractPowerOfTwoFFTEngine implements FFTEngine {
+
+    @Override
+    public boolean supports(int points) {
+        return points > 0 && (points & (points - 1)) == 0;
+    }
+
+    /**
+     * Reorder the values of both arrays so that each value lives at the index given by reversing the bits of its original index.
+     *
+     * @param real
+     * @param imaginary
+     */
+    protected static void bitReverse(final double[] real, final double[] imaginary) {
+        final int points = real.length;
+        int reversed = 0;
+        for (int index = 1; index < points; index++) {
+            // Increment 'reversed' as though it were a binary number written backwards: carry from the top bit downwards.
+            int bit = points >> 1;
+            for (; (reversed & bit) != 0; bit >>= 1) {
+                reversed ^= bit;
+            }
+            reversed ^= bit;
+
+            // Only swap once per pair; otherwise we'd just put everything back.
+            if (index < reversed) {
+                final double swapReal = real[index];
+                real[index] = real[reversed];
+                real[reversed] = swapReal;
+                final double swapImaginary = imaginary[index];
+                imaginary[index] = imaginary[reversed];
+                imaginary[reversed] = swapImaginary;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+/**
+ * Chooses the best FFT engine for each transform based on how its length factors: radix-4 for powers of two, mixed-radix for
+ * lengths made only of 2s, 3s, 5s, and 7s, and Bluestein for everything else.
+ *
+ * @author spatula
+ *
+ */
+public class AutomaticFFTEngine implements FFTEngine {
+
+    private final FFTEngine powerOfTwoEngine = new Radix4FFTEngine();
+    private final FFTEngine mixedRadixEngine = new MixedRadixFFTEngine();
+    private final FFTEngine bluesteinEngine = new BluesteinFFTEngine();
+
+    @Override
+    public boolean supports(int points) {
+        return points > 0;
+    }
+
+    /**
+     * @param points
+     * @return the engine that would be used for a transform of the given length
+     */
+    public FFTEngine select(int points) {
+        if (powerOfTwoEngine.supports(points)) {
+            return powerOfTwoEngine;
+        }
+        if (mixedRadixEngine.supports(points)) {
+            return mixedRadixEngine;
+        }
+        return bluesteinEngine;
+    }
+
+    @Override
+    public void transform(final double[] real, final double[] imaginary) {
+        select(real.length).transform(real, imaginary);
+    }
+
+}
@@ -0,0 +1,166 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.spatula.dspatula.transform.fourier.ScratchArrays;
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+
+/**
+ * FFT for transforms of any length, using Bluestein's "chirp-z" algorithm.
+ *
+ * The trick is the identity nk = (n^2 + k^2 - (k - n)^2) / 2, which turns the DFT's e^(-j2pi nk / N) into the product of a
+ * "chirp" for n, a chirp for k, and a chirp for (k - n). The (k - n) part makes the DFT a convolution, and a convolution can be
+ * done with FFTs of any length we like, so long as it's at least 2N - 1 to avoid wrapping around. We pick a power of two and let
+ * the Radix4FFTEngine do the heavy lifting. It's three FFTs of roughly 2-4 times the length, which is still O(N log N), and that
+ * beats O(N^2) handily for any length worth worrying about.
+ *
+ * The chirp and the spectrum of the conjugate chirp depend only on the length, so they're worked out once per length and kept in
+ * a small least-recently-used cache, like the twiddle tables; each transform after the first for a given length costs two FFTs.
+ *
+ * This is the fallback for lengths with large prime factors. For lengths the MixedRadixFFTEngine can handle, use that instead.
+ *
+ * @author spatula
+ *
+ */
+public class BluesteinFFTEngine implements FFTEngine {
+
+    private static final int CACHE_SIZE = 16;
+
+    private static final FFTEngine convolutionEngine = new Radix4FFTEngine();
+
+    private static final Map<Integer, Plan> plans = new LinkedHashMap<Integer, Plan>(CACHE_SIZE, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Integer, Plan> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final ScratchArrays scratch = new ScratchArrays();
+
+    /**
+     * Everything about a transform of a given length that doesn't depend on its input: the chirp, and the spectrum of the
+     * conjugate chirp it's convolved with. Immutable once built.
+     */
+    private static final class Plan {
+
+        private final int convolutionLength;
+        private final double[] chirpCosines;
+        private final double[] chirpSines;
+        private final double[] chirpSpectrumReal;
+        private final double[] chirpSpectrumImaginary;
+
+        private Plan(int points) {
+            int length = 1;
+            while (length < 2 * points - 1) {
+                length <<= 1;
+            }
+            convolutionLength = length;
+
+            /*
+             * The chirp is e^(-j pi k^2 / N), which is e^(-j2pi k^2 / 2N), so it's in the twiddle table of length 2N at k^2 mod
+             * 2N. The angle grows quadratically, so keeping it modulo 2N also keeps it small and accurate.
+             */
+            final TwiddleTable twiddles = TwiddleTable.forLength(2 * points);
+            final double[] twiddleCosines = twiddles.getCosines();
+            final double[] twiddleSines = twiddles.getSines();
+            chirpCosines = new double[points];
+            chirpSines = new double[points];
+            final long chirpPeriod = 2L * points;
+            for (int k = 0; k < points; k++) {
+                final int twiddleIndex = (int) ((long) k * k % chirpPeriod);
+                chirpCosines[k] = twiddleCosines[twiddleIndex];
+                chirpSines[k] = twiddleSines[twiddleIndex];
+            }
+
+            // b[n] = the conjugate chirp, for both positive and (wrapped-around) negative n
+            chirpSpectrumReal = new double[convolutionLength];
+            chirpSpectrumImaginary = new double[convolutionLength];
+            chirpSpectrumReal[0] = chirpCosines[0];
+            chirpSpectrumImaginary[0] = chirpSines[0];
+            for (int n = 1; n < points; n++) {
+                chirpSpectrumReal[n] = chirpCosines[n];
+                chirpSpectrumImaginary[n] = chirpSines[n];
+                chirpSpectrumReal[convolutionLength - n] = chirpCosines[n];
+                chirpSpectrumImaginary[convolutionLength - n] = chirpSines[n];
+            }
+            convolutionEngine.transform(chirpSpectrumReal, chirpSpectrumImaginary);
+        }
+    }
+
+    @Override
+    public boolean supports(int points) {
+        return points > 0;
+    }
+
+    /**
+     * Fetch the plan for a transform of the given length from the cache, building it if necessary. As with the TwiddleTable,
+     * it's built outside the lock, and if two threads race to build the same plan, the loser's copy is discarded.
+     */
+    private static Plan planFor(int points) {
+        synchronized (plans) {
+            final Plan plan = plans.get(points);
+            if (plan != null) {
+                return plan;
+            }
+        }
+
+        final Plan plan = new Plan(points);
+        synchronized (plans) {
+            final Plan existing = plans.get(points);
+            if (existing != null) {
+                return existing;
+            }
+            plans.put(points, plan);
+            return plan;
+        }
+    }
+
+    @Override
+    public void transform(final double[] real, final double[] imaginary) {
+        final int points = real.length;
+        final Plan plan = planFor(points);
+        final int convolutionLength = plan.convolutionLength;
+        final double[] chirpCosines = plan.chirpCosines;
+        final double[] chirpSines = plan.chirpSines;
+        final double[] bReal = plan.chirpSpectrumReal;
+        final double[] bImaginary = plan.chirpSpectrumImaginary;
+
+        // a[n] = x[n] times the chirp, zero-padded
+        final double[][] scratchArrays = scratch.get(convolutionLength);
+        final double[] aReal = scratchArrays[0];
+        final double[] aImaginary = scratchArrays[1];
+        for (int n = 0; n < points; n++) {
+            aReal[n] = real[n] * chirpCosines[n] + imaginary[n] * chirpSines[n];
+            aImaginary[n] = imaginary[n] * chirpCosines[n] - real[n] * chirpSines[n];
+        }
+        Arrays.fill(aReal, points, convolutionLength, 0D);
+        Arrays.fill(aImaginary, points, convolutionLength, 0D);
+
+        convolutionEngine.transform(aReal, aImaginary);
+
+        // Multiply the spectra and conjugate the product, so that the next forward transform is really an inverse transform.
+        for (int k = 0; k < convolutionLength; k++) {
+            final double productReal = aReal[k] * bReal[k] - aImaginary[k] * bImaginary[k];
+            final double productImaginary = aReal[k] * bImaginary[k] + aImaginary[k] * bReal[k];
+            aReal[k] = productReal;
+            aImaginary[k] = -productImaginary;
+        }
+
+        convolutionEngine.transform(aReal, aImaginary);
+
+        // Conjugate again (finishing the inverse), scale by 1/M for the inverse, and multiply by the chirp one last time.
+        for (int k = 0; k < points; k++) {
+            final double convolutionReal = aReal[k] / convolutionLength;
+            final double convolutionImaginary = -aImaginary[k] / convolutionLength;
+            real[k] = convolutionReal * chirpCosines[k] + convolutionImaginary * chirpSines[k];
+            imaginary[k] = convolutionImaginary * chirpCosines[k] - convolutionReal * chirpSines[k];
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+/**
+ * Interface to be implemented by a class which performs a Fast Fourier Transform in place on arrays of real and imaginary
+ * components.
+ *
+ * Engines perform only the forward transform, and they do not scale their results. The inverse transform can be had by
+ * conjugating the input, performing the forward transform, and conjugating the output, which is exactly what the
+ * DiscreteFourierTransformer does.
+ *
+ * Implementations must consider thread safety; the same engine may be asked to transform different arrays on multiple threads
+ * simultaneously.
+ *
+ * @author spatula
+ *
+ */
+public interface FFTEngine {
+
+    /**
+     * @param points
+     *            the number of points in the transform
+     * @return true if this engine is able to perform a transform of the given length
+     */
+    boolean supports(int points);
+
+    /**
+     * Perform a forward FFT in place. Both arrays must be of the same length, and that length must be supported by this engine.
+     *
+     * @param real
+     *            the real components of the input, replaced by the real components of the result
+     * @param imaginary
+     *            the imaginary components of the input, replaced by the imaginary components of the result
+     */
+    void transform(double[] real, double[] imaginary);
+
+}
@@ -0,0 +1,242 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import java.util.Arrays;
+
+import net.spatula.dspatula.transform.fourier.ScratchArrays;
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+
+/**
+ * Iterative mixed-radix FFT for transforms whose length has no prime factors other than 2, 3, 5, and 7, like 44100 (2^2 * 3^2 *
+ * 5^2 * 7^2).
+ *
+ * This is the Stockham "autosort" formulation of Cooley-Tukey. Rather than shuffling the input up front the way the radix-2
+ * engines do (which only works when every factor is the same), each pass reads from one array and writes to another in an order
+ * that leaves the result sorted once the last pass is done. The price is a second pair of arrays to ping-pong between.
+ *
+ * Each pass takes the current factor p of the remaining length n, and turns each DFT of length n into p interleaved DFTs of length
+ * n / p: it performs a small p-point DFT across samples spaced n / p apart, and multiplies the results by the twiddle factors for
+ * length n. Factors of 4 are used where possible, since that means fewer passes, and passes of 2 and 4 have butterflies of their
+ * own that need no multiplications before the twiddle. The second pair of arrays is kept per thread, from one call to the next.
+ *
+ * @author spatula
+ *
+ */
+public class MixedRadixFFTEngine implements FFTEngine {
+
+    private static final int[] RADICES = { 4, 2, 3, 5, 7 };
+
+    private final ScratchArrays scratch = new ScratchArrays();
+
+    @Override
+    public boolean supports(int points) {
+        if (points <= 0) {
+            return false;
+        }
+        int remaining = points;
+        for (final int radix : RADICES) {
+            while (remaining % radix == 0) {
+                remaining /= radix;
+            }
+        }
+        return remaining == 1;
+    }
+
+    /**
+     * Break the length of the transform down into radices, largest powers of 4 first.
+     *
+     * @param points
+     * @return the factors of points, in the order the passes will use them
+     */
+    protected static int[] factor(final int points) {
+        final int[] factors = new int[32];
+        int count = 0;
+        int remaining = points;
+        for (final int radix : RADICES) {
+            while (remaining % radix == 0) {
+                factors[count++] = radix;
+                remaining /= radix;
+            }
+        }
+        return Arrays.copyOf(factors, count);
+    }
+
+    @Override
+    public void transform(final double[] real, final double[] imaginary) {
+        final int points = real.length;
+        final TwiddleTable twiddles = TwiddleTable.forLength(points);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+
+        final double[][] scratchArrays = scratch.get(points);
+        double[] sourceReal = real;
+        double[] sourceImaginary = imaginary;
+        double[] destinationReal = scratchArrays[0];
+        double[] destinationImaginary = scratchArrays[1];
+
+        int length = points; // the length of the DFTs we're currently splitting
+        int stride = 1; // the number of interleaved DFTs of that length
+        for (final int radix : factor(points)) {
+            final int subLength = length / radix;
+            final int lengthTwiddleStride = points / length; // omega_n^x lives at x * (N / n) in the table
+
+            switch (radix) {
+            case 2:
+                radix2Pass(sourceReal, sourceImaginary, destinationReal, destinationImaginary, cosines, sines, subLength, stride,
+                        lengthTwiddleStride);
+                break;
+            case 4:
+                radix4Pass(sourceReal, sourceImaginary, destinationReal, destinationImaginary, cosines, sines, subLength, stride,
+                        lengthTwiddleStride);
+                break;
+            default:
+                genericPass(sourceReal, sourceImaginary, destinationReal, destinationImaginary, cosines, sines, radix, subLength,
+                        stride, lengthTwiddleStride);
+            }
+
+            final double[] swapReal = sourceReal;
+            final double[] swapImaginary = sourceImaginary;
+            sourceReal = destinationReal;
+            sourceImaginary = destinationImaginary;
+            destinationReal = swapReal;
+            destinationImaginary = swapImaginary;
+
+            length = subLength;
+            stride *= radix;
+        }
+
+        // After an odd number of passes, the result is sitting in our scratch arrays.
+        if (sourceReal != real) {
+            System.arraycopy(sourceReal, 0, real, 0, points);
+            System.arraycopy(sourceImaginary, 0, imaginary, 0, points);
+        }
+    }
+
+    /**
+     * A pass with p = 2, where the 2-point DFT is just a sum and a difference.
+     */
+    private static void radix2Pass(final double[] sourceReal, final double[] sourceImaginary, final double[] destinationReal,
+            final double[] destinationImaginary, final double[] cosines, final double[] sines, final int subLength,
+            final int stride, final int lengthTwiddleStride) {
+        final int quarter = subLength * stride;
+        for (int position = 0; position < subLength; position++) {
+            final int twiddleIndex = position * lengthTwiddleStride;
+            final double cos = cosines[twiddleIndex];
+            final double sin = sines[twiddleIndex];
+            for (int interleave = 0; interleave < stride; interleave++) {
+                final int sourceIndex = interleave + stride * position;
+                final double aReal = sourceReal[sourceIndex];
+                final double aImaginary = sourceImaginary[sourceIndex];
+                final double bReal = sourceReal[sourceIndex + quarter];
+                final double bImaginary = sourceImaginary[sourceIndex + quarter];
+
+                final int destinationIndex = interleave + stride * 2 * position;
+                destinationReal[destinationIndex] = aReal + bReal;
+                destinationImaginary[destinationIndex] = aImaginary + bImaginary;
+                twiddle(destinationReal, destinationImaginary, destinationIndex + stride, aReal - bReal, aImaginary - bImaginary,
+                        cos, sin);
+            }
+        }
+    }
+
+    /**
+     * A pass with p = 4, where the 4-point DFT needs no multiplications at all: multiplying by -j just swaps the real and
+     * imaginary parts and flips a sign.
+     */
+    private static void radix4Pass(final double[] sourceReal, final double[] sourceImaginary, final double[] destinationReal,
+            final double[] destinationImaginary, final double[] cosines, final double[] sines, final int subLength,
+            final int stride, final int lengthTwiddleStride) {
+        final int quarter = subLength * stride;
+        for (int position = 0; position < subLength; position++) {
+            final int twiddleIndex1 = position * lengthTwiddleStride;
+            final int twiddleIndex2 = 2 * twiddleIndex1;
+            final int twiddleIndex3 = 3 * twiddleIndex1;
+            for (int interleave = 0; interleave < stride; interleave++) {
+                final int sourceIndex = interleave + stride * position;
+                final double x0Real = sourceReal[sourceIndex];
+                final double x0Imaginary = sourceImaginary[sourceIndex];
+                final double x1Real = sourceReal[sourceIndex + quarter];
+                final double x1Imaginary = sourceImaginary[sourceIndex + quarter];
+                final double x2Real = sourceReal[sourceIndex + 2 * quarter];
+                final double x2Imaginary = sourceImaginary[sourceIndex + 2 * quarter];
+                final double x3Real = sourceReal[sourceIndex + 3 * quarter];
+                final double x3Imaginary = sourceImaginary[sourceIndex + 3 * quarter];
+
+                final double sum02Real = x0Real + x2Real;
+                final double sum02Imaginary = x0Imaginary + x2Imaginary;
+                final double difference02Real = x0Real - x2Real;
+                final double difference02Imaginary = x0Imaginary - x2Imaginary;
+                final double sum13Real = x1Real + x3Real;
+                final double sum13Imaginary = x1Imaginary + x3Imaginary;
+                final double difference13Real = x1Real - x3Real;
+                final double difference13Imaginary = x1Imaginary - x3Imaginary;
+
+                final int destinationIndex = interleave + stride * 4 * position;
+                destinationReal[destinationIndex] = sum02Real + sum13Real;
+                destinationImaginary[destinationIndex] = sum02Imaginary + sum13Imaginary;
+                twiddle(destinationReal, destinationImaginary, destinationIndex + stride,
+                        difference02Real + difference13Imaginary, difference02Imaginary - difference13Real,
+                        cosines[twiddleIndex1], sines[twiddleIndex1]);
+                twiddle(destinationReal, destinationImaginary, destinationIndex + 2 * stride, sum02Real - sum13Real,
+                        sum02Imaginary - sum13Imaginary, cosines[twiddleIndex2], sines[twiddleIndex2]);
+                twiddle(destinationReal, destinationImaginary, destinationIndex + 3 * stride,
+                        difference02Real - difference13Imaginary, difference02Imaginary + difference13Real,
+                        cosines[twiddleIndex3], sines[twiddleIndex3]);
+            }
+        }
+    }
+
+    /**
+     * A pass with p = 3, 5, or 7, doing the small p-point DFT as a sum. The table offsets of the p-th roots of unity are worked
+     * out once per pass, rather than taking (j * r mod p) on every term.
+     */
+    private static void genericPass(final double[] sourceReal, final double[] sourceImaginary, final double[] destinationReal,
+            final double[] destinationImaginary, final double[] cosines, final double[] sines, final int radix,
+            final int subLength, final int stride, final int lengthTwiddleStride) {
+        final int radixTwiddleStride = cosines.length / radix; // omega_p^x lives at x * (N / p) in the table
+        final int[] rootIndices = new int[radix * radix];
+        for (int r = 0; r < radix; r++) {
+            for (int j = 0; j < radix; j++) {
+                rootIndices[r * radix + j] = (j * r % radix) * radixTwiddleStride;
+            }
+        }
+        final double[] butterflyReal = new double[radix];
+        final double[] butterflyImaginary = new double[radix];
+
+        for (int position = 0; position < subLength; position++) {
+            for (int interleave = 0; interleave < stride; interleave++) {
+                for (int j = 0; j < radix; j++) {
+                    final int sourceIndex = interleave + stride * (position + subLength * j);
+                    butterflyReal[j] = sourceReal[sourceIndex];
+                    butterflyImaginary[j] = sourceImaginary[sourceIndex];
+                }
+
+                for (int r = 0; r < radix; r++) {
+                    // The small p-point DFT across the samples we just gathered.
+                    double sumReal = 0;
+                    double sumImaginary = 0;
+                    final int rootRow = r * radix;
+                    for (int j = 0; j < radix; j++) {
+                        final int rootIndex = rootIndices[rootRow + j];
+                        sumReal += butterflyReal[j] * cosines[rootIndex] + butterflyImaginary[j] * sines[rootIndex];
+                        sumImaginary += butterflyImaginary[j] * cosines[rootIndex] - butterflyReal[j] * sines[rootIndex];
+                    }
+
+                    // ...times the twiddle factor for length n.
+                    final int twiddleIndex = position * r * lengthTwiddleStride;
+                    twiddle(destinationReal, destinationImaginary, interleave + stride * (radix * position + r), sumReal,
+                            sumImaginary, cosines[twiddleIndex], sines[twiddleIndex]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Store value times e^(-j theta), given cos theta and sin theta.
+     */
+    private static void twiddle(final double[] destinationReal, final double[] destinationImaginary, final int index,
+            final double valueReal, final double valueImaginary, final double cos, final double sin) {
+        destinationReal[index] = valueReal * cos + valueImaginary * sin;
+        destinationImaginary[index] = valueImaginary * cos - valueReal * sin;
+    }
+
+}
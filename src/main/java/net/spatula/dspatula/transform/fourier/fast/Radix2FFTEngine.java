@@ -0,0 +1,50 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+
+/**
+ * Iterative radix-2 decimation-in-time FFT, for transforms whose length is a power of two.
+ *
+ * Each pass through the outer loop combines pairs of DFTs of length (size / 2) into DFTs of length size using the "butterfly"
+ * from section 4.4 of Understanding DSP, until size reaches the length of the whole transform.
+ *
+ * @author spatula
+ *
+ */
+public class Radix2FFTEngine extends AbstractPowerOfTwoFFTEngine {
+
+    @Override
+    public void transform(final double[] real, final double[] imaginary) {
+        final int points = real.length;
+        final TwiddleTable twiddles = TwiddleTable.forLength(points);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+
+        bitReverse(real, imaginary);
+
+        for (int size = 2; size <= points; size <<= 1) {
+            final int halfSize = size >> 1;
+            // The twiddle factor for index j of a DFT of length size is e^(-j2pi * j / size), which is the same as the entry at
+            // j * (points / size) in our table of length points.
+            final int twiddleStride = points / size;
+            for (int blockStart = 0; blockStart < points; blockStart += size) {
+                for (int offset = 0; offset < halfSize; offset++) {
+                    final int top = blockStart + offset;
+                    final int bottom = top + halfSize;
+                    final int twiddleIndex = offset * twiddleStride;
+
+                    // (bottom) * (cos - j sin)
+                    final double productReal = real[bottom] * cosines[twiddleIndex] + imaginary[bottom] * sines[twiddleIndex];
+                    final double productImaginary = imaginary[bottom] * cosines[twiddleIndex]
+                            - real[bottom] * sines[twiddleIndex];
+
+                    real[bottom] = real[top] - productReal;
+                    imaginary[bottom] = imaginary[top] - productImaginary;
+                    real[top] += productReal;
+                    imaginary[top] += productImaginary;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+
+/**
+ * Iterative radix-4 decimation-in-time FFT, for transforms whose length is a power of two.
+ *
+ * A radix-4 butterfly combines four DFTs of length L into one DFT of length 4L in a single pass over the data. That's the same
+ * work as two radix-2 passes, but with three complex multiplications per butterfly instead of four, and with half as many trips
+ * through the arrays. Multiplication by -j is free; it's just swapping the real and imaginary parts and flipping a sign.
+ *
+ * When the length is an odd power of two (like 8 or 32768), we do one radix-2 pass of length 2 first, which has no twiddle factors
+ * at all, and then carry on with radix-4 passes from there.
+ *
+ * @author spatula
+ *
+ */
+public class Radix4FFTEngine extends AbstractPowerOfTwoFFTEngine {
+
+    @Override
+    public void transform(final double[] real, final double[] imaginary) {
+        final int points = real.length;
+        final TwiddleTable twiddles = TwiddleTable.forLength(points);
+        final double[] cosines = twiddles.getCosines();
+        final double[] sines = twiddles.getSines();
+
+        bitReverse(real, imaginary);
+
+        int length = 1;
+        if (Integer.numberOfTrailingZeros(points) % 2 == 1) {
+            for (int top = 0; top < points; top += 2) {
+                final int bottom = top + 1;
+                final double bottomReal = real[bottom];
+                final double bottomImaginary = imaginary[bottom];
+                real[bottom] = real[top] - bottomReal;
+                imaginary[bottom] = imaginary[top] - bottomImaginary;
+                real[top] += bottomReal;
+                imaginary[top] += bottomImaginary;
+            }
+            length = 2;
+        }
+
+        for (; length < points; length <<= 2) {
+            final int size = length << 2;
+            final int twiddleStride = points / size;
+            for (int blockStart = 0; blockStart < points; blockStart += size) {
+                for (int offset = 0; offset < length; offset++) {
+                    /*
+                     * Thanks to the bit reversal, the four quarters of this block hold the DFTs of the input samples whose
+                     * indices are congruent to 0, 2, 1, and 3 (mod 4), in that order. Note the 2 and 1.
+                     */
+                    final int index0 = blockStart + offset;
+                    final int index2 = index0 + length;
+                    final int index1 = index2 + length;
+                    final int index3 = index1 + length;
+
+                    final int twiddle1 = offset * twiddleStride;
+                    final int twiddle2 = twiddle1 << 1;
+                    final int twiddle3 = twiddle1 + twiddle2;
+
+                    final double real0 = real[index0];
+                    final double imaginary0 = imaginary[index0];
+                    final double real1 = real[index1] * cosines[twiddle1] + imaginary[index1] * sines[twiddle1];
+                    final double imaginary1 = imaginary[index1] * cosines[twiddle1] - real[index1] * sines[twiddle1];
+                    final double real2 = real[index2] * cosines[twiddle2] + imaginary[index2] * sines[twiddle2];
+                    final double imaginary2 = imaginary[index2] * cosines[twiddle2] - real[index2] * sines[twiddle2];
+                    final double real3 = real[index3] * cosines[twiddle3] + imaginary[index3] * sines[twiddle3];
+                    final double imaginary3 = imaginary[index3] * cosines[twiddle3] - real[index3] * sines[twiddle3];
+
+                    final double sum02Real = real0 + real2;
+                    final double sum02Imaginary = imaginary0 + imaginary2;
+                    final double difference02Real = real0 - real2;
+                    final double difference02Imaginary = imaginary0 - imaginary2;
+                    final double sum13Real = real1 + real3;
+                    final double sum13Imaginary = imaginary1 + imaginary3;
+                    final double difference13Real = real1 - real3;
+                    final double difference13Imaginary = imaginary1 - imaginary3;
+
+                    // X[k] = (x0 + x2) + (x1 + x3)
+                    real[index0] = sum02Real + sum13Real;
+                    imaginary[index0] = sum02Imaginary + sum13Imaginary;
+                    // X[k + L] = (x0 - x2) - j(x1 - x3)
+                    real[index2] = difference02Real + difference13Imaginary;
+                    imaginary[index2] = difference02Imaginary - difference13Real;
+                    // X[k + 2L] = (x0 + x2) - (x1 + x3)
+                    real[index1] = sum02Real - sum13Real;
+                    imaginary[index1] = sum02Imaginary - sum13Imaginary;
+                    // X[k + 3L] = (x0 - x2) + j(x1 - x3)
+                    real[index3] = difference02Real - difference13Imaginary;
+                    imaginary[index3] = difference02Imaginary + difference13Real;
+                }
+            }
+        }
+    }
+
+}
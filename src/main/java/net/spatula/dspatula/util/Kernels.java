@@ -0,0 +1,65 @@
+package net.spatula.dspatula.util;
+
+import java.lang.reflect.Constructor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Picks between the scalar and the vector versions of a set of inner loops when they're first needed.
+ *
+ * The vector versions are written with jdk.incubator.vector, which doesn't exist before Java 16 and isn't there at all unless the
+ * JVM is started with --add-modules jdk.incubator.vector, so they live in the Java 17 part of the multi-release jar
+ * (src/main/java17) and are only ever loaded by name. Whatever goes wrong loading one (no such class on an older JVM, no such
+ * module, or a vector implementation which decides the hardware has no useful SIMD and throws from its constructor) leaves us
+ * with the scalar version, which is always there. Setting the system property dspatula.vector to false forces the scalar version
+ * regardless.
+ *
+ * @author spatula
+ *
+ */
+public final class Kernels {
+
+    public static final String VECTOR_PROPERTY = "dspatula.vector";
+
+    private static final Logger LOG = LoggerFactory.getLogger(Kernels.class);
+
+    private Kernels() {
+
+    }
+
+    /**
+     * @param type
+     *            the interface the kernels implement
+     * @param vectorClassName
+     *            the name of the vector implementation, which must have a no-argument constructor (though neither it nor the
+     *            class need be public)
+     * @param scalar
+     *            the scalar implementation
+     * @return an instance of the vector implementation if it can be had, otherwise scalar
+     */
+    public static <K> K select(Class<K> type, String vectorClassName, K scalar) {
+        if (!isVectorEnabled()) {
+            LOG.debug("Vector kernels disabled; using {}", scalar.getClass().getName());
+            return scalar;
+        }
+        try {
+            final Constructor<?> constructor = Class.forName(vectorClassName).getDeclaredConstructor();
+            constructor.setAccessible(true);
+            final K vector = type.cast(constructor.newInstance());
+            LOG.debug("Using {}", vectorClassName);
+            return vector;
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+            LOG.debug("Vector kernels unavailable ({}); using {}", e, scalar.getClass().getName());
+            return scalar;
+        }
+    }
+
+    /**
+     * @return false if the system property dspatula.vector is set to false
+     */
+    public static boolean isVectorEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(VECTOR_PROPERTY));
+    }
+
+}
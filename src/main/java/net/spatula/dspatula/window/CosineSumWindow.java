@@ -0,0 +1,61 @@
+package net.spatula.dspatula.window;
+
+import java.util.Arrays;
+
+import net.spatula.dspatula.util.FastMath;
+
+/**
+ * A window which is a sum of cosines: w(n) = a0 - a1 * cos(2 * pi * n / N) + a2 * cos(4 * pi * n / N) - a3 * cos(6 * pi * n / N)
+ * + ..., which covers the Hanning and Hamming windows from the book, as well as Blackman, Blackman-Harris, and flat-top.
+ *
+ * @author spatula
+ *
+ */
+public class CosineSumWindow extends Window {
+
+    private final double[] coefficients;
+
+    /**
+     * @param coefficients
+     *            the constants a0, a1, a2, ... by which to multiply each cosine term. Signs alternate automatically.
+     */
+    public CosineSumWindow(double... coefficients) {
+        this.coefficients = coefficients.clone();
+    }
+
+    @Override
+    public double coefficient(int sampleNumber, int length) {
+        double value = 0;
+        for (int term = 0; term < coefficients.length; term++) {
+            final double cosine = Math.cos(FastMath.TWO_PI * term * sampleNumber / length);
+            if (term % 2 == 0) {
+                value += coefficients[term] * cosine;
+            } else {
+                value -= coefficients[term] * cosine;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        return Arrays.equals(coefficients, ((CosineSumWindow) other).coefficients);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(coefficients);
+    }
+
+    @Override
+    public String toString() {
+        return "CosineSumWindow" + Arrays.toString(coefficients);
+    }
+
+}
@@ -0,0 +1,74 @@
+package net.spatula.dspatula.window;
+
+/**
+ * The Kaiser window, w(n) = I0(beta * sqrt(1 - (2n / N - 1)^2)) / I0(beta), where I0 is the zeroth-order modified Bessel function
+ * of the first kind. Larger values of beta give lower sidelobes at the cost of a wider main lobe; beta = 0 is a rectangular
+ * window.
+ *
+ * @author spatula
+ *
+ */
+public class KaiserWindow extends Window {
+
+    private final double beta;
+    private final double denominator;
+
+    public KaiserWindow(double beta) {
+        this.beta = beta;
+        this.denominator = besselI0(beta);
+    }
+
+    public double getBeta() {
+        return beta;
+    }
+
+    /**
+     * The zeroth-order modified Bessel function of the first kind, by its power series: the sum over k of ((x / 2)^k / k!)^2. The
+     * terms shrink quickly, so we just keep going until they stop mattering.
+     *
+     * @param x
+     * @return
+     */
+    static double besselI0(double x) {
+        final double halfX = x / 2;
+        double sum = 1;
+        double term = 1;
+        for (int k = 1; k < 500; k++) {
+            term *= halfX / k;
+            final double squared = term * term;
+            sum += squared;
+            if (squared < sum * 1E-16) {
+                break;
+            }
+        }
+        return sum;
+    }
+
+    @Override
+    public double coefficient(int sampleNumber, int length) {
+        final double ratio = 2D * sampleNumber / length - 1D;
+        return besselI0(beta * Math.sqrt(1D - ratio * ratio)) / denominator;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+        return Double.compare(beta, ((KaiserWindow) other).beta) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(beta);
+    }
+
+    @Override
+    public String toString() {
+        return "KaiserWindow[" + beta + "]";
+    }
+
+}
@@ -0,0 +1,45 @@
+package net.spatula.dspatula.window;
+
+/**
+ * A window function, which tapers a Discrete-Time Sequence towards zero at its ends to reduce the leakage discussed in section 3.9
+ * of Understanding DSP.
+ *
+ * Windows are defined here in their "periodic" (or "DFT-even") form, with N in the denominator rather than N - 1, which is the
+ * form used for spectral analysis, and is the form the book uses for equations 3-43 and 3-44.
+ *
+ * Implementations must be immutable, and must implement equals and hashCode, because their coefficients are cached by WindowTable
+ * keyed on the window and its length.
+ *
+ * @author spatula
+ *
+ */
+public abstract class Window {
+
+    /**
+     * Calculate the coefficient of this window for one sample.
+     *
+     * @param sampleNumber
+     *            the sample number, from 0 to length - 1
+     * @param length
+     *            the length of the window
+     * @return the coefficient by which to multiply the sample
+     */
+    public abstract double coefficient(int sampleNumber, int length);
+
+    /**
+     * Fetch the table of coefficients for a window of the given length.
+     *
+     * @param length
+     * @return
+     */
+    public final WindowTable getTable(int length) {
+        return WindowTable.forWindow(this, length);
+    }
+
+    @Override
+    public abstract boolean equals(Object other);
+
+    @Override
+    public abstract int hashCode();
+
+}
@@ -0,0 +1,115 @@
+package net.spatula.dspatula.window;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Table of the coefficients of a Window for a given length.
+ *
+ * Window coefficients depend only on the window and the length of the Sequence, so we calculate them once and share them between
+ * threads and between calls. Tables are immutable once built, and are kept in a small least-recently-used cache keyed by window and
+ * length, just like the TwiddleTable.
+ *
+ * @author spatula
+ *
+ */
+public final class WindowTable {
+
+    private static final int CACHE_SIZE = 32;
+
+    private static final Map<Key, WindowTable> cache = new LinkedHashMap<Key, WindowTable>(CACHE_SIZE, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Entry<Key, WindowTable> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private final Window window;
+    private final double[] coefficients;
+
+    private static final class Key {
+
+        private final Window window;
+        private final int length;
+
+        private Key(Window window, int length) {
+            this.window = window;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) other;
+            return length == key.length && window.equals(key.window);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * window.hashCode() + length;
+        }
+    }
+
+    private WindowTable(Window window, int length) {
+        this.window = window;
+        coefficients = new double[length];
+        for (int sampleNumber = 0; sampleNumber < length; sampleNumber++) {
+            coefficients[sampleNumber] = window.coefficient(sampleNumber, length);
+        }
+    }
+
+    /**
+     * Fetch the table for a window of the given length from the cache, building it if necessary.
+     *
+     * @param window
+     * @param length
+     * @return
+     */
+    public static WindowTable forWindow(Window window, int length) {
+        final Key key = new Key(window, length);
+        synchronized (cache) {
+            final WindowTable table = cache.get(key);
+            if (table != null) {
+                return table;
+            }
+        }
+
+        // Build outside the lock; if two threads race to build the same table, the loser's copy is simply discarded.
+        final WindowTable table = new WindowTable(window, length);
+        synchronized (cache) {
+            final WindowTable existing = cache.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            cache.put(key, table);
+            return table;
+        }
+    }
+
+    public Window getWindow() {
+        return window;
+    }
+
+    public int getLength() {
+        return coefficients.length;
+    }
+
+    /**
+     * Return the window coefficients. This is the underlying array, and it is shared; never modify it.
+     *
+     * @return
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP") // We accept the risk for the sake of performance
+    public double[] getCoefficients() {
+        return coefficients;
+    }
+
+}
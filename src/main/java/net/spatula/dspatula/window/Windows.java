@@ -0,0 +1,41 @@
+package net.spatula.dspatula.window;
+
+/**
+ * The usual windows.
+ *
+ * @author spatula
+ *
+ */
+public final class Windows {
+
+    private Windows() {
+
+    }
+
+    /**
+     * Equation 3-44 of Understanding DSP
+     */
+    public static final Window HAMMING = new CosineSumWindow(0.54D, 0.46D);
+
+    /**
+     * Equation 3-43 of Understanding DSP
+     */
+    public static final Window HANNING = new CosineSumWindow(0.5D, 0.5D);
+
+    public static final Window BLACKMAN = new CosineSumWindow(0.42D, 0.5D, 0.08D);
+
+    public static final Window BLACKMAN_HARRIS = new CosineSumWindow(0.35875D, 0.48829D, 0.14128D, 0.01168D);
+
+    public static final Window FLAT_TOP = new CosineSumWindow(0.21557895D, 0.41663158D, 0.277263158D, 0.083578947D,
+            0.006947368D);
+
+    /**
+     * @param beta
+     *            the shape parameter
+     * @return a Kaiser window with the given shape
+     */
+    public static Window kaiser(double beta) {
+        return new KaiserWindow(beta);
+    }
+
+}
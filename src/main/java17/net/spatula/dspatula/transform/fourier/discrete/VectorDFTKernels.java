@@ -0,0 +1,124 @@
+package net.spatula.dspatula.transform.fourier.discrete;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * DFTKernels spelled out with jdk.incubator.vector. Each lane of the sums takes every Lth sample, for a vector of L doubles.
+ *
+ * The twiddle for sample n is at (n * pointNumber mod N) in the tables, so a vector's worth of twiddles has to be gathered. The
+ * indexes are kept in a vector of ints of their own, which advances by (L * pointNumber mod N) and wraps around just as the scalar
+ * index does, so there's no scalar index arithmetic in the loop either. The twiddles are exactly those the scalar loops use; only
+ * the order in which the products are added up differs.
+ *
+ * @author spatula
+ *
+ */
+final class VectorDFTKernels implements DFTKernels {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INDEXES = VectorSpecies.of(int.class,
+            VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    private final DFTKernels scalar = new ScalarDFTKernels();
+
+    /**
+     * @throws UnsupportedOperationException
+     *             if the preferred vectors are too narrow to be worth using, as when the JIT has no SIMD to offer
+     */
+    VectorDFTKernels() {
+        if (DOUBLES.length() < 4) {
+            throw new UnsupportedOperationException("Preferred vectors hold only " + DOUBLES.length() + " doubles");
+        }
+    }
+
+    /**
+     * @return the twiddle indexes of samples 0 to L - 1
+     */
+    private static IntVector firstIndexes(int samples, int pointNumber) {
+        final int[] indexes = new int[INDEXES.length()];
+        for (int lane = 1; lane < indexes.length; lane++) {
+            indexes[lane] = (int) ((indexes[lane - 1] + (long) pointNumber) % samples);
+        }
+        return IntVector.fromArray(INDEXES, indexes, 0);
+    }
+
+    @Override
+    public void forwardSums(final double[] values, final int samples, final int pointNumber, final double[] cosines,
+            final double[] sines, final double[] sums) {
+        final int bound = DOUBLES.loopBound(samples);
+        if (bound == 0) {
+            scalar.forwardSums(values, samples, pointNumber, cosines, sines, sums);
+            return;
+        }
+
+        final int step = (int) (((long) DOUBLES.length() * pointNumber) % samples);
+        final int[] indexMap = new int[INDEXES.length()];
+        IntVector indexes = firstIndexes(samples, pointNumber);
+        DoubleVector realSums = DoubleVector.zero(DOUBLES);
+        DoubleVector imaginarySums = DoubleVector.zero(DOUBLES);
+        for (int sampleNumber = 0; sampleNumber < bound; sampleNumber += DOUBLES.length()) {
+            indexes.intoArray(indexMap, 0);
+            final DoubleVector sampleValues = DoubleVector.fromArray(DOUBLES, values, sampleNumber);
+            realSums = realSums.add(sampleValues.mul(DoubleVector.fromArray(DOUBLES, cosines, 0, indexMap, 0)));
+            imaginarySums = imaginarySums.sub(sampleValues.mul(DoubleVector.fromArray(DOUBLES, sines, 0, indexMap, 0)));
+            indexes = indexes.add(step);
+            indexes = indexes.sub(samples, indexes.compare(VectorOperators.GE, samples));
+        }
+
+        double realSum = realSums.reduceLanes(VectorOperators.ADD);
+        double imaginarySum = imaginarySums.reduceLanes(VectorOperators.ADD);
+        final int increment = pointNumber % samples;
+        int twiddleIndex = indexes.lane(0);
+        for (int sampleNumber = bound; sampleNumber < samples; sampleNumber++) {
+            realSum += values[sampleNumber] * cosines[twiddleIndex];
+            imaginarySum -= values[sampleNumber] * sines[twiddleIndex];
+            twiddleIndex += increment;
+            if (twiddleIndex >= samples) {
+                twiddleIndex -= samples;
+            }
+        }
+        sums[0] = realSum;
+        sums[1] = imaginarySum;
+    }
+
+    @Override
+    public double inverseSum(final double[] real, final double[] imaginary, final int samples, final int pointNumber,
+            final double[] cosines, final double[] sines) {
+        final int bound = DOUBLES.loopBound(samples);
+        if (bound == 0) {
+            return scalar.inverseSum(real, imaginary, samples, pointNumber, cosines, sines);
+        }
+
+        final int step = (int) (((long) DOUBLES.length() * pointNumber) % samples);
+        final int[] indexMap = new int[INDEXES.length()];
+        IntVector indexes = firstIndexes(samples, pointNumber);
+        DoubleVector realSums = DoubleVector.zero(DOUBLES);
+        for (int sampleNumber = 0; sampleNumber < bound; sampleNumber += DOUBLES.length()) {
+            indexes.intoArray(indexMap, 0);
+            final DoubleVector cosineProducts = DoubleVector.fromArray(DOUBLES, real, sampleNumber)
+                    .mul(DoubleVector.fromArray(DOUBLES, cosines, 0, indexMap, 0));
+            final DoubleVector sineProducts = DoubleVector.fromArray(DOUBLES, imaginary, sampleNumber)
+                    .mul(DoubleVector.fromArray(DOUBLES, sines, 0, indexMap, 0));
+            realSums = realSums.add(cosineProducts.sub(sineProducts));
+            indexes = indexes.add(step);
+            indexes = indexes.sub(samples, indexes.compare(VectorOperators.GE, samples));
+        }
+
+        double realSum = realSums.reduceLanes(VectorOperators.ADD);
+        final int increment = pointNumber % samples;
+        int twiddleIndex = indexes.lane(0);
+        for (int sampleNumber = bound; sampleNumber < samples; sampleNumber++) {
+            realSum += real[sampleNumber] * cosines[twiddleIndex] - imaginary[sampleNumber] * sines[twiddleIndex];
+            twiddleIndex += increment;
+            if (twiddleIndex >= samples) {
+                twiddleIndex -= samples;
+            }
+        }
+        return realSum;
+    }
+
+}
@@ -0,0 +1,113 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class CallerRunsDiscreteSystemParallelExecutorTest {
+
+    @Test
+    public void testGetDefaultInstance() {
+        final DiscreteSystemParallelExecutor callerRuns = DiscreteSystemParallelExecutor
+                .getDefaultInstance(ExecutionMode.CALLER_RUNS);
+        assertTrue(callerRuns instanceof CallerRunsDiscreteSystemParallelExecutor);
+        assertEquals(callerRuns.getExecutionMode(), ExecutionMode.CALLER_RUNS);
+        assertSame(DiscreteSystemParallelExecutor.getDefaultInstance(ExecutionMode.CALLER_RUNS), callerRuns);
+    }
+
+    @Test
+    public void testCallerDoesAShare() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new CallerRunsDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        final int samples = 30000;
+        final RealSequence sequence = new RealSequence(samples);
+        final AtomicInteger pieces = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                final RealSequence sequence = sequences.get(0);
+                final int[] sequenceValues = sequence.getRealValues();
+
+                pieces.incrementAndGet();
+                threads.add(Thread.currentThread());
+                for (int index = sequence.getStart(); index <= sequence.getEnd(); index++) {
+                    sequenceValues[index] += index;
+                }
+            }
+        }, sequence);
+
+        final int[] sequenceValues = sequence.getRealValues();
+        for (int index = 0; index < samples; index++) {
+            assertEquals(sequenceValues[index], index);
+        }
+        // Two pool threads plus the caller
+        assertEquals(pieces.get(), 3);
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testShortSequenceStaysOnCaller() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new CallerRunsDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                threads.add(Thread.currentThread());
+            }
+        }, new RealSequence(50));
+
+        assertEquals(threads.size(), 1);
+        assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testAccumulator() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new CallerRunsDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(3),
+                100);
+        final int samples = 20000;
+        final RealSequence first = new RealSequence(samples);
+        final RealSequence second = new RealSequence(samples);
+        for (int index = 0; index < samples; index++) {
+            first.getRealValues()[index] = index;
+            second.getRealValues()[index] = 2 * index;
+        }
+
+        executor.execute(new Adder(), first, second);
+
+        for (int index = 0; index < samples; index++) {
+            assertEquals(first.getRealValues()[index], 3 * index);
+            assertEquals(second.getRealValues()[index], 2 * index);
+        }
+    }
+
+    @Test(expectedExceptions = ProcessingException.class)
+    public void testExceptionPropagates() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new CallerRunsDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                throw new IllegalStateException("Broken");
+            }
+        }, new RealSequence(10000));
+    }
+
+}
@@ -0,0 +1,86 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class CallerRunsSummationParallelExecutorTest {
+
+    private static final class ThreadRecordingWorker implements SummationWorker<RealSequence, RealSequence> {
+
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void forward(int index, List<RealSequence> inputSequences, RealSequence outputSequence) {
+            threads.add(Thread.currentThread());
+            outputSequence.getRealValues()[index] = inputSequences.get(0).getRealValues()[index] * 2;
+        }
+
+        @Override
+        public void inverse(int index, List<RealSequence> inputSequences, RealSequence outputSequence) {
+            threads.add(Thread.currentThread());
+            outputSequence.getRealValues()[index] = inputSequences.get(0).getRealValues()[index] / 2;
+        }
+    }
+
+    @Test
+    public void testGetDefaultInstance() {
+        final SummationParallelExecutor callerRuns = SummationParallelExecutor.getDefaultInstance(ExecutionMode.CALLER_RUNS);
+        assertTrue(callerRuns instanceof CallerRunsSummationParallelExecutor);
+        assertEquals(callerRuns.getExecutionMode(), ExecutionMode.CALLER_RUNS);
+        assertSame(SummationParallelExecutor.getDefaultInstance(ExecutionMode.CALLER_RUNS), callerRuns);
+        assertSame(SummationParallelExecutor.getDefaultInstance(ExecutionMode.FIXED_CHUNKS),
+                SummationParallelExecutor.getDefaultInstance());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testForkJoinUnsupported() {
+        SummationParallelExecutor.getDefaultInstance(ExecutionMode.FORK_JOIN);
+    }
+
+    @Test
+    public void testCallerDoesAShare() throws ProcessingException {
+        final SummationParallelExecutor executor = new CallerRunsSummationParallelExecutor(new CoreAwareParallelExecutor(2));
+        final int samples = 100000;
+        final RealSequence input = new RealSequence(samples);
+        final RealSequence output = new RealSequence(samples);
+        final RealSequence roundTrip = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            input.getRealValues()[i] = i;
+        }
+
+        final ThreadRecordingWorker worker = new ThreadRecordingWorker();
+        executor.executeForward(worker, Arrays.asList(input), output);
+        executor.executeInverse(worker, Arrays.asList(output), roundTrip);
+
+        for (int i = 0; i < samples; i++) {
+            assertEquals(output.getRealValues()[i], 2 * i);
+            assertEquals(roundTrip.getRealValues()[i], i);
+        }
+        assertTrue(worker.threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testSmallSummationStaysOnCaller() throws ProcessingException {
+        final SummationParallelExecutor executor = new CallerRunsSummationParallelExecutor(new CoreAwareParallelExecutor(2));
+        final RealSequence input = new RealSequence(64);
+        final RealSequence output = new RealSequence(64);
+
+        final ThreadRecordingWorker worker = new ThreadRecordingWorker();
+        executor.executeForward(worker, Arrays.asList(input), output);
+
+        assertEquals(worker.threads.size(), 1);
+        assertTrue(worker.threads.contains(Thread.currentThread()));
+    }
+
+}
@@ -2,16 +2,21 @@ package net.spatula.dspatula.concurrent;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.testng.annotations.Test;
 
 import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.AbstractLongSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
 
 public class DiscreteSystemParallelExecutorTest {
@@ -118,4 +123,110 @@ public class DiscreteSystemParallelExecutorTest {
 
         assertEquals(threadCount.get(), 1);
     }
+
+    private static final class CountingWorker implements DiscreteSystemWorker<RealSequence> {
+
+        private final AtomicInteger threadCount = new AtomicInteger(0);
+
+        @Override
+        public void operate(List<RealSequence> sequences) {
+            threadCount.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void testDivisionSizePerWorkerClass() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(5), 100);
+        final RealSequence sequence = new RealSequence(8000);
+
+        final CountingWorker worker = new CountingWorker();
+        executor.getDivisionSizes().set(CountingWorker.class, 8001);
+        executor.execute(worker, sequence);
+        assertEquals(worker.threadCount.get(), 1);
+
+        executor.getDivisionSizes().set(CountingWorker.class, 1000);
+        executor.execute(worker, sequence);
+        assertEquals(worker.threadCount.get(), 6);
+    }
+
+    private static final class EmptyLongSequence extends AbstractLongSequence<EmptyLongSequence> {
+
+        private EmptyLongSequence(long start, long end) {
+            super(start, end, end - start + 1);
+        }
+
+        @Override
+        public EmptyLongSequence subsequence(long start, long end) {
+            return new EmptyLongSequence(start, end);
+        }
+    }
+
+    @Test
+    public void testLongSequenceChunking() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(3), 100);
+        final long samples = 3L * Integer.MAX_VALUE;
+        final AtomicLong covered = new AtomicLong();
+        final AtomicInteger chunks = new AtomicInteger();
+
+        executor.execute(new DiscreteSystemWorker<EmptyLongSequence>() {
+
+            @Override
+            public void operate(List<EmptyLongSequence> sequences) {
+                chunks.incrementAndGet();
+                covered.addAndGet(sequences.get(0).getLongLength());
+            }
+        }, new EmptyLongSequence(0, samples - 1));
+
+        assertEquals(chunks.get(), 3);
+        assertEquals(covered.get(), samples);
+    }
+
+    @Test
+    public void testExecuteAsync() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(5), 100);
+        final int samples = 10001;
+        final RealSequence sequence = new RealSequence(samples);
+        final CountingWorker counter = new CountingWorker();
+
+        final CompletableFuture<Void> future = executor.executeAsync(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                final RealSequence sequence = sequences.get(0);
+                final int[] sequenceValues = sequence.getRealValues();
+                counter.operate(sequences);
+                for (int index = sequence.getStart(); index <= sequence.getEnd(); index++) {
+                    sequenceValues[index] += index;
+                }
+            }
+        }, sequence);
+        ProcessingFutures.getProcessingResult(future);
+
+        final int[] sequenceValues = sequence.getRealValues();
+        for (int index = 0; index < samples; index++) {
+            assertEquals(sequenceValues[index], index);
+        }
+        assertEquals(counter.threadCount.get(), 5);
+    }
+
+    @Test
+    public void testExecuteAsyncFailure() throws InterruptedException {
+        final DiscreteSystemParallelExecutor executor = new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2), 100);
+
+        final CompletableFuture<Void> future = executor.executeAsync(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                throw new IllegalStateException("Broken");
+            }
+        }, new RealSequence(10000));
+
+        try {
+            future.get();
+            fail("Expected the future to fail");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof ProcessingException);
+            assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
 }
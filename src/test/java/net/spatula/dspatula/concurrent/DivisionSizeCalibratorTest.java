@@ -0,0 +1,72 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.signal.sine.SineWaveWorker;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.Sequence;
+
+public class DivisionSizeCalibratorTest {
+
+    @Test
+    public void testCalibrate() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2), 8820);
+        final DivisionSizeCalibrator calibrator = new DivisionSizeCalibrator(executor, 512, 65536, 3);
+
+        final int adderSize = calibrator.calibrate(new Adder(), 2);
+        final int sineSize = calibrator.calibrate(new SineWaveWorker(44100, 1000, 32767, 0), 1);
+
+        // We can't know what the answers will be on any given machine, only that they're within the range we tried (or
+        // just beyond it, meaning "never"), and that they were recorded for the right classes.
+        assertTrue(adderSize >= 512 && adderSize <= 131072, "Adder size " + adderSize);
+        assertTrue(sineSize >= 512 && sineSize <= 131072, "Sine size " + sineSize);
+        assertEquals(executor.getDivisionSizes().get(Adder.class), adderSize);
+        assertEquals(executor.getDivisionSizes().get(SineWaveWorker.class), sineSize);
+        assertEquals(executor.getDivisionSizes().getDefault(), 8820);
+    }
+
+    /**
+     * A calibrator whose timings come from a script instead of the clock.
+     */
+    private static class ScriptedCalibrator extends DivisionSizeCalibrator {
+
+        private final Deque<Boolean> results;
+
+        ScriptedCalibrator(int smallestSize, int largestSize, Boolean... results) {
+            super(new DiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2), 8820), smallestSize, largestSize, 1);
+            this.results = new ArrayDeque<>(Arrays.asList(results));
+        }
+
+        @Override
+        protected <T extends Sequence<T>> boolean parallelWins(DiscreteSystemWorker<T> worker, T[] sequences) {
+            return results.removeFirst();
+        }
+    }
+
+    @Test
+    public void testOneLuckyWinIsNotEnough() throws ProcessingException {
+        // Wins at 512 but not 1024, then wins at 2048 and 4096.
+        assertEquals(new ScriptedCalibrator(512, 65536, true, false, true, true).calibrate(new Adder(), 2), 2048);
+        // Wins only at the largest size, and then loses the rematch.
+        assertEquals(new ScriptedCalibrator(512, 2048, false, false, true, false).calibrate(new Adder(), 2), 4096);
+        // Wins at the largest size twice over.
+        assertEquals(new ScriptedCalibrator(512, 2048, false, false, true, true).calibrate(new Adder(), 2), 2048);
+    }
+
+    @Test
+    public void testLargestSizeDoesNotOverflow() throws ProcessingException {
+        // The script does the timing, so there's no need to actually allocate a billion samples.
+        final ScriptedCalibrator calibrator = new ScriptedCalibrator(1 << 30, Integer.MAX_VALUE, false);
+        assertEquals(calibrator.calibrate(new Adder(), size -> new RealSequence(1), 2), Integer.MAX_VALUE);
+    }
+
+}
@@ -0,0 +1,51 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.system.Multiplier;
+
+public class DivisionSizesTest {
+
+    @Test
+    public void testDefaults() {
+        final DivisionSizes sizes = new DivisionSizes(1234);
+        assertEquals(sizes.getDefault(), 1234);
+        assertEquals(sizes.get(Adder.class), 1234);
+
+        sizes.set(Adder.class, 99);
+        assertEquals(sizes.get(Adder.class), 99);
+        assertEquals(sizes.get(Multiplier.class), 1234);
+    }
+
+    @Test
+    public void testStoreAndLoad() throws IOException {
+        final DivisionSizes sizes = new DivisionSizes(1234);
+        sizes.set(Adder.class, 99);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        sizes.store(outputStream);
+
+        final DivisionSizes loaded = new DivisionSizes(1);
+        loaded.load(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(loaded.getDefault(), 1234);
+        assertEquals(loaded.get(Adder.class), 99);
+        assertEquals(loaded.get(Multiplier.class), 1234);
+    }
+
+    @Test
+    public void testLoadSkipsGarbage() throws IOException {
+        final DivisionSizes sizes = new DivisionSizes(1234);
+        final String stored = "net.spatula.dspatula.system.Adder=lots\nnet.spatula.dspatula.system.Multiplier=77\n";
+        sizes.load(new ByteArrayInputStream(stored.getBytes(StandardCharsets.ISO_8859_1)));
+        assertEquals(sizes.get(Adder.class), 1234);
+        assertEquals(sizes.get(Multiplier.class), 77);
+    }
+
+}
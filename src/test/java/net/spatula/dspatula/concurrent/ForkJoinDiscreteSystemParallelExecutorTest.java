@@ -0,0 +1,181 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.time.sequence.ChannelLayout;
+import net.spatula.dspatula.time.sequence.MultiChannelSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class ForkJoinDiscreteSystemParallelExecutorTest {
+
+    @Test
+    public void testGetDefaultInstance() {
+        final DiscreteSystemParallelExecutor forkJoin = DiscreteSystemParallelExecutor.getDefaultInstance(ExecutionMode.FORK_JOIN);
+        assertTrue(forkJoin instanceof ForkJoinDiscreteSystemParallelExecutor);
+        assertEquals(forkJoin.getExecutionMode(), ExecutionMode.FORK_JOIN);
+        assertSame(DiscreteSystemParallelExecutor.getDefaultInstance(ExecutionMode.FORK_JOIN), forkJoin);
+        assertSame(DiscreteSystemParallelExecutor.getDefaultInstance(ExecutionMode.FIXED_CHUNKS),
+                DiscreteSystemParallelExecutor.getDefaultInstance());
+    }
+
+    @Test
+    public void testSubmitAndDivideWork() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        final int samples = 100000;
+        final RealSequence sequence = new RealSequence(samples);
+        final AtomicInteger pieces = new AtomicInteger();
+
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                final RealSequence sequence = sequences.get(0);
+                final int[] sequenceValues = sequence.getRealValues();
+
+                pieces.incrementAndGet();
+                for (int index = sequence.getStart(); index <= sequence.getEnd(); index++) {
+                    sequenceValues[index] += index;
+                }
+            }
+        }, sequence);
+
+        final int[] sequenceValues = sequence.getRealValues();
+        for (int index = 0; index < samples; index++) {
+            assertEquals(sequenceValues[index], index);
+        }
+        // More pieces than cores, so there's something to steal.
+        assertTrue(pieces.get() > 2, "Only " + pieces.get() + " pieces");
+    }
+
+    @Test
+    public void testAccumulator() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(3),
+                100);
+        final int samples = 20000;
+        final RealSequence first = new RealSequence(samples);
+        final RealSequence second = new RealSequence(samples);
+        for (int index = 0; index < samples; index++) {
+            first.getRealValues()[index] = index;
+            second.getRealValues()[index] = 2 * index;
+        }
+
+        executor.execute(new Adder(), first, second);
+
+        for (int index = 0; index < samples; index++) {
+            assertEquals(first.getRealValues()[index], 3 * index);
+            assertEquals(second.getRealValues()[index], 2 * index);
+        }
+    }
+
+    @Test
+    public void testReduce() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        final int samples = 100000;
+        final AtomicInteger outsidePool = new AtomicInteger();
+
+        // Each accumulator is a list of the starts of the pieces folded into it, so the result shows the order they were combined in.
+        final List<Integer> starts = executor.reduce(new ReducingWorker<RealSequence, List<Integer>>() {
+
+            @Override
+            public List<Integer> createAccumulator() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public void accumulate(List<Integer> accumulator, List<RealSequence> sequences) {
+                if (!ForkJoinTask.inForkJoinPool()) {
+                    outsidePool.incrementAndGet();
+                }
+                accumulator.add(sequences.get(0).getStart());
+            }
+
+            @Override
+            public void combine(List<Integer> into, List<Integer> from) {
+                into.addAll(from);
+            }
+        }, new RealSequence(samples));
+
+        assertEquals(outsidePool.get(), 0);
+        assertTrue(starts.size() > 2, "Only " + starts.size() + " pieces");
+        assertEquals((int) starts.get(0), 0);
+        for (int piece = 1; piece < starts.size(); piece++) {
+            assertTrue(starts.get(piece) > starts.get(piece - 1), "Pieces out of order: " + starts);
+        }
+    }
+
+    @Test
+    public void testMultiChannel() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        final int channels = 3;
+        final int frames = 20000;
+        final MultiChannelSequence first = new MultiChannelSequence(channels, frames, ChannelLayout.INTERLEAVED);
+        final MultiChannelSequence second = new MultiChannelSequence(channels, frames, ChannelLayout.PLANAR);
+        for (int channel = 0; channel < channels; channel++) {
+            for (int frame = 0; frame < frames; frame++) {
+                first.set(channel, frame, channel * 100000 + frame);
+                second.set(channel, frame, frame);
+            }
+        }
+        final AtomicInteger outsidePool = new AtomicInteger();
+        final Adder adder = new Adder();
+
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                if (!ForkJoinTask.inForkJoinPool()) {
+                    outsidePool.incrementAndGet();
+                }
+                adder.operate(sequences);
+            }
+        }, first, second);
+
+        assertEquals(outsidePool.get(), 0);
+        for (int channel = 0; channel < channels; channel++) {
+            for (int frame = 0; frame < frames; frame++) {
+                assertEquals(first.get(channel, frame), channel * 100000 + 2 * frame, "Wrong sum at " + channel + ", " + frame);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = ProcessingException.class)
+    public void testMultiChannelExceptionPropagates() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                throw new IllegalStateException("Broken");
+            }
+        }, new MultiChannelSequence(2, 10000, ChannelLayout.PLANAR));
+    }
+
+    @Test(expectedExceptions = ProcessingException.class)
+    public void testExceptionPropagates() throws ProcessingException {
+        final DiscreteSystemParallelExecutor executor = new ForkJoinDiscreteSystemParallelExecutor(new CoreAwareParallelExecutor(2),
+                100);
+        executor.execute(new DiscreteSystemWorker<RealSequence>() {
+
+            @Override
+            public void operate(List<RealSequence> sequences) {
+                throw new IllegalStateException("Broken");
+            }
+        }, new RealSequence(10000));
+    }
+
+}
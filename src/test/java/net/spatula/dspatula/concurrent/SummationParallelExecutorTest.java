@@ -0,0 +1,74 @@
+package net.spatula.dspatula.concurrent;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class SummationParallelExecutorTest {
+
+    private static final class CountingWorker implements SummationWorker<RealSequence, RealSequence> {
+
+        private final AtomicInteger ranges = new AtomicInteger();
+
+        @Override
+        public void forward(int index, List<RealSequence> inputSequences, RealSequence outputSequence) {
+            outputSequence.getRealValues()[index] += inputSequences.get(0).getRealValues()[index] + 1;
+        }
+
+        @Override
+        public void inverse(int index, List<RealSequence> inputSequences, RealSequence outputSequence) {
+            outputSequence.getRealValues()[index] -= 1;
+        }
+
+        @Override
+        public void forwardRange(int fromIndex, int toIndex, List<RealSequence> inputSequences, RealSequence outputSequence) {
+            ranges.incrementAndGet();
+            SummationWorker.super.forwardRange(fromIndex, toIndex, inputSequences, outputSequence);
+        }
+    }
+
+    @Test
+    public void testOneRangePerCore() throws ProcessingException {
+        final SummationParallelExecutor executor = new SummationParallelExecutor(new CoreAwareParallelExecutor(5));
+        final int samples = 10001;
+        final RealSequence input = new RealSequence(samples);
+        final RealSequence output = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            input.getRealValues()[i] = i;
+        }
+
+        final CountingWorker worker = new CountingWorker();
+        executor.executeForward(worker, Arrays.asList(input), output);
+
+        // Every point visited exactly once.
+        for (int i = 0; i < samples; i++) {
+            assertEquals(output.getRealValues()[i], i + 1);
+        }
+        assertEquals(worker.ranges.get(), 5);
+    }
+
+    @Test
+    public void testFewerPointsThanCores() throws ProcessingException {
+        final SummationParallelExecutor executor = new SummationParallelExecutor(new CoreAwareParallelExecutor(5));
+        final RealSequence input = new RealSequence(3);
+        final RealSequence output = new RealSequence(3);
+
+        final CountingWorker worker = new CountingWorker();
+        executor.executeForward(worker, Arrays.asList(input), output);
+        executor.executeInverse(worker, Arrays.asList(input), output);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(output.getRealValues()[i], 0);
+        }
+        assertTrue(worker.ranges.get() <= 3);
+    }
+
+}
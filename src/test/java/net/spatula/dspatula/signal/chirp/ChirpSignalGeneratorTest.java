@@ -0,0 +1,66 @@
+package net.spatula.dspatula.signal.chirp;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.signal.sine.SineWaveSignalGenerator;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class ChirpSignalGeneratorTest {
+
+    @Test
+    public void testSteadyChirpIsASineWave() throws ProcessingException {
+        final RealSequence sine = new SineWaveSignalGenerator(44100).generate(1000D, 1D, 32767, 0.25D);
+        for (final ChirpShape shape : ChirpShape.values()) {
+            final RealSequence chirp = new ChirpSignalGenerator(44100).generate(1000D, 1000D, 1D, 32767, 0.25D, shape);
+            assertEquals(chirp.getLength(), sine.getLength());
+            for (int i = 0; i < sine.getLength(); i++) {
+                assertEquals(chirp.getRealValues()[i], sine.getRealValues()[i], 1, shape + " wrong at " + i);
+            }
+        }
+    }
+
+    /**
+     * The instantaneous frequency is the rate of change of the phase; check it against where each shape should be halfway and at
+     * the end of the sweep.
+     */
+    @Test
+    public void testInstantaneousFrequency() {
+        final int sampleRate = 48000;
+        final int samples = 96000;
+        final ChirpWorker linear = new ChirpWorker(sampleRate, 100D, 10100D, samples, 1000, 0D, ChirpShape.LINEAR);
+        final ChirpWorker exponential = new ChirpWorker(sampleRate, 100D, 10000D, samples, 1000, 0D, ChirpShape.EXPONENTIAL);
+
+        assertEquals(frequencyAt(linear, 0, sampleRate), 100D, 0.5D);
+        assertEquals(frequencyAt(linear, samples / 2, sampleRate), 5100D, 0.5D);
+        assertEquals(frequencyAt(linear, samples - 1, sampleRate), 10100D, 0.5D);
+        assertEquals(frequencyAt(exponential, 0, sampleRate), 100D, 0.5D);
+        assertEquals(frequencyAt(exponential, samples / 2, sampleRate), 1000D, 0.5D);
+        assertEquals(frequencyAt(exponential, samples - 1, sampleRate), 10000D, 0.5D);
+    }
+
+    private double frequencyAt(ChirpWorker worker, int sampleNumber, int sampleRate) {
+        return (worker.phaseAt(sampleNumber + 1) - worker.phaseAt(sampleNumber)) * sampleRate / (2 * Math.PI);
+    }
+
+    @Test
+    public void testParallelMatchesSampleBySample() throws ProcessingException {
+        final RealSequence chirp = new ChirpSignalGenerator(44100).generate(20D, 20000D, 2D, 30000, 0D, ChirpShape.EXPONENTIAL);
+        final ChirpWorker worker = new ChirpWorker(44100, 20D, 20000D, 88200, 30000, 0D, ChirpShape.EXPONENTIAL);
+        int peak = 0;
+        for (int i = 0; i < chirp.getLength(); i++) {
+            assertEquals(chirp.getRealValues()[i], worker.valueAt(i), "Wrong value at " + i);
+            peak = Math.max(peak, chirp.getRealValues()[i]);
+        }
+        assertTrue(peak > 29900);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testExponentialFromZero() {
+        new ChirpWorker(44100, 0D, 1000D, 100, 1, 0D, ChirpShape.EXPONENTIAL);
+    }
+
+}
@@ -0,0 +1,84 @@
+package net.spatula.dspatula.signal.noise;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class NoiseSignalGeneratorTest {
+
+    @Test
+    public void testMatchesSplittableRandom() {
+        final CounterRandom counterRandom = new CounterRandom(12345L);
+        final SplittableRandom splittableRandom = new SplittableRandom(12345L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(counterRandom.nextLong(0, i), splittableRandom.nextLong(), "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testReproducibleRegardlessOfChunking() throws ProcessingException {
+        final NoiseSignalGenerator generator = new NoiseSignalGenerator(44100, 42L);
+        for (final NoiseColor color : NoiseColor.values()) {
+            final RealSequence parallel = generator.generate(2D, 10000, color);
+
+            // One chunk, on this thread.
+            final RealSequence serial = new RealSequence(parallel.getLength());
+            new NoiseWorker(42L, 10000, color).operate(Arrays.asList(serial));
+
+            assertEquals(parallel.getRealValues(), serial.getRealValues(), color.toString());
+            assertEquals(generator.generateVirtual(2D, 10000, color).toRealSequence().getRealValues(), serial.getRealValues());
+            assertNotEquals(new NoiseSignalGenerator(44100, 43L).generate(2D, 10000, color).getRealValues(),
+                    parallel.getRealValues());
+        }
+    }
+
+    @Test
+    public void testStatistics() throws ProcessingException {
+        final NoiseSignalGenerator generator = new NoiseSignalGenerator(44100, 7L);
+
+        final int[] white = generator.generate(10D, 10000, NoiseColor.WHITE).getRealValues();
+        final int[] pink = generator.generate(10D, 10000, NoiseColor.PINK).getRealValues();
+        final int[] gaussian = generator.generate(10D, 10000, NoiseColor.GAUSSIAN).getRealValues();
+
+        // Uniform on [-A, A) has a standard deviation of A / sqrt(3).
+        assertEquals(mean(white), 0D, 50D);
+        assertEquals(standardDeviation(white), 10000 / Math.sqrt(3), 50D);
+        assertTrue(Arrays.stream(white).allMatch(value -> value >= -10000 && value <= 10000));
+        assertEquals(mean(gaussian), 0D, 50D);
+        assertEquals(standardDeviation(gaussian), 10000D, 50D);
+
+        // Pink noise stays within its amplitude, and neighbouring samples are strongly correlated where white noise's aren't.
+        assertTrue(Arrays.stream(pink).allMatch(value -> value >= -10000 && value <= 10000));
+        assertEquals(lagOneCorrelation(white), 0D, 0.01D);
+        assertTrue(lagOneCorrelation(pink) > 0.5D);
+    }
+
+    private double mean(int[] values) {
+        return Arrays.stream(values).average().getAsDouble();
+    }
+
+    private double standardDeviation(int[] values) {
+        final double mean = mean(values);
+        return Math.sqrt(Arrays.stream(values).mapToDouble(value -> (value - mean) * (value - mean)).average().getAsDouble());
+    }
+
+    private double lagOneCorrelation(int[] values) {
+        final double mean = mean(values);
+        double product = 0;
+        double square = 0;
+        for (int i = 0; i < values.length - 1; i++) {
+            product += (values[i] - mean) * (values[i + 1] - mean);
+            square += (values[i] - mean) * (values[i] - mean);
+        }
+        return product / square;
+    }
+
+}
@@ -2,10 +2,19 @@ package net.spatula.dspatula.signal.sine;
 
 import static org.testng.Assert.assertEquals;
 
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.concurrent.ProcessingFutures;
 import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.system.Filler;
+import net.spatula.dspatula.system.Multiplier;
 import net.spatula.dspatula.util.FastMath;
 
 public class SineWaveSignalGeneratorTest {
@@ -39,4 +48,97 @@ public class SineWaveSignalGeneratorTest {
         }
     }
 
+    @Test
+    public void testGenerateDoubleAndFloat() throws ProcessingException {
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(44100);
+
+        final DoubleSequence doubles = generator.generateDouble(1000D, 0.5D, 0.75D, 0.25D);
+        final FloatSequence floats = generator.generateFloat(1000D, 0.5D, 0.75D, 0.25D);
+
+        assertEquals(doubles.getLength(), 22050);
+        assertEquals(floats.getLength(), 22050);
+        for (int i = 0; i < 22050; i++) {
+            final double expected = 0.75D * FastMath.sin(2 * Math.PI * 1000D * i / 44100 + 0.25D);
+            assertEquals(doubles.getRealValues()[i], expected, 1e-12, "Found the wrong value at index " + i);
+            assertEquals(floats.getRealValues()[i], expected, 1e-6, "Found the wrong value at index " + i);
+        }
+    }
+
+    @Test
+    public void testGenerateVirtual() throws ProcessingException {
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(44100);
+
+        final RealSequence expected = generator.generate(1000, 1, 1000, 0.5);
+        final GeneratedSequence virtual = generator.generateVirtual(1000, 1, 1000, 0.5);
+        assertEquals(virtual.getLength(), expected.getLength());
+        assertEquals(virtual.toRealSequence().getRealValues(), expected.getRealValues());
+
+        // Mix the virtual carrier into a signal; it should be as if the carrier had been written out first.
+        final RealSequence signal = new RealSequence(expected.getLength());
+        new Filler(3).operate(Arrays.asList(signal));
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Multiplier(), signal, virtual);
+        for (int i = 0; i < expected.getLength(); i++) {
+            assertEquals(signal.getRealValues()[i], 3 * expected.getRealValues()[i], "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testOscillatorMatchesLookup() throws ProcessingException {
+        final SineWaveSignalGenerator lookup = new SineWaveSignalGenerator(44100);
+        final SineWaveSignalGenerator oscillator = new SineWaveSignalGenerator(44100, SineWaveMode.OSCILLATOR);
+        assertEquals(oscillator.getMode(), SineWaveMode.OSCILLATOR);
+
+        // Ten seconds, long enough for an unchecked phasor to drift, and for the chunks to start partway through a reseed interval.
+        final RealSequence expected = lookup.generate(997.3D, 10D, 32767, 0.3D);
+        final RealSequence actual = oscillator.generate(997.3D, 10D, 32767, 0.3D);
+        assertEquals(actual.getLength(), expected.getLength());
+        for (int i = 0; i < expected.getLength(); i++) {
+            assertEquals(actual.getRealValues()[i], expected.getRealValues()[i], 1, "Found the wrong value at index " + i);
+        }
+
+        final DoubleSequence doubles = oscillator.generateDouble(997.3D, 10D, 1D, 0.3D);
+        final FloatSequence floats = oscillator.generateFloat(997.3D, 10D, 1D, 0.3D);
+        for (int i = 0; i < doubles.getLength(); i++) {
+            final double exact = Math.sin(2 * Math.PI * 997.3D * i / 44100 + 0.3D);
+            assertEquals(doubles.getRealValues()[i], exact, 1e-9, "Found the wrong value at index " + i);
+            assertEquals(floats.getRealValues()[i], exact, 1e-6, "Found the wrong value at index " + i);
+        }
+    }
+
+    @Test
+    public void testMultiTone() throws ProcessingException {
+        final double[] frequencies = { 100D, 1000D, 5000D, 12345D };
+        final int[] amplitudes = { 8000, 4000, 2000, 1000 };
+        final double[] phaseOffsets = { 0D, 0.5D, 1D, 1.5D };
+
+        final RealSequence lookup = new SineWaveSignalGenerator(44100).generateMultiTone(frequencies, amplitudes, phaseOffsets, 1D);
+        final RealSequence oscillator = new SineWaveSignalGenerator(44100, SineWaveMode.OSCILLATOR).generateMultiTone(frequencies,
+                amplitudes, phaseOffsets, 1D);
+        assertEquals(lookup.getLength(), 44100);
+        for (int i = 0; i < 44100; i++) {
+            double expected = 0;
+            for (int tone = 0; tone < frequencies.length; tone++) {
+                expected += amplitudes[tone] * FastMath.sin(2 * Math.PI * frequencies[tone] * i / 44100 + phaseOffsets[tone]);
+            }
+            assertEquals(lookup.getRealValues()[i], (int) expected, "Found the wrong value at index " + i);
+            assertEquals(oscillator.getRealValues()[i], (int) expected, 1, "Found the wrong value at index " + i);
+        }
+    }
+
+    @Test
+    public void testGenerateAsync() throws ProcessingException {
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(44100);
+
+        final RealSequence generated = ProcessingFutures.getProcessingResult(generator.generateAsync(1000D, 1D, 32767, 0D));
+        final int[] buffer = new int[44100];
+        sineWave(44100, 1000D, 32767, 0D, buffer);
+
+        final int[] generatedValues = generated.getRealValues();
+
+        assertEquals(generatedValues.length, buffer.length);
+        for (int i = 0; i < buffer.length; i++) {
+            assertEquals(generatedValues[i], buffer[i], "Found the wrong value at index " + i);
+        }
+    }
+
 }
@@ -1,11 +1,15 @@
 package net.spatula.dspatula.system;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 
 import java.util.Arrays;
 
 import org.testng.annotations.Test;
 
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
 
 public class AdderTest {
@@ -25,4 +29,70 @@ public class AdderTest {
             assertEquals(ones.getRealValues()[i], 3);
         }
     }
+
+    @Test
+    public void testAddGenerated() throws ProcessingException {
+        final int samples = 50000;
+        final RealSequence sequence = new RealSequence(samples);
+        new Filler(7).operate(Arrays.asList(sequence));
+
+        // Only the middle of the sequence gets the ramp added.
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(), sequence.subsequence(10000, 39999),
+                GeneratedSequence.ramp(0, 3, samples).subsequence(10000, 39999));
+
+        for (int i = 0; i < samples; i++) {
+            final int expected = (i >= 10000 && i < 40000) ? 7 + 3 * i : 7;
+            assertEquals(sequence.getRealValues()[i], expected, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testGeneratedDestination() {
+        final GeneratedSequence destination = GeneratedSequence.ramp(0, 1, 10);
+        final RealSequence operand = new RealSequence(10);
+        new Filler(5).operate(Arrays.asList(operand));
+
+        new Adder().operate(Arrays.asList(destination, operand));
+
+        assertTrue(destination.isMaterialized());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(destination.getRealValues()[i], i + 5, "Wrong value at " + i);
+            assertEquals(destination.valueAt(i), i + 5, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testMaterializedOperand() throws ProcessingException {
+        final int samples = 50000;
+        final GeneratedSequence operand = GeneratedSequence.ramp(0, 1, samples);
+        operand.getRealValues()[7] = -1;
+        final RealSequence sequence = new RealSequence(samples);
+
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(), sequence, operand);
+
+        for (int i = 0; i < samples; i++) {
+            assertEquals(sequence.getRealValues()[i], (i == 7) ? -1 : i, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testDefaultGeneratedOperate() {
+        // A system which only knows about arrays still takes a GeneratedSequence operand, by way of the default operate.
+        final AbstractCongruentSystem maximum = new AbstractCongruentSystem() {
+            @Override
+            protected void operate(int start, int end, int[] destinationValues, int[] operandValues) {
+                for (int index = start; index <= end; index++) {
+                    destinationValues[index] = Math.max(destinationValues[index], operandValues[index]);
+                }
+            }
+        };
+        final RealSequence sequence = new RealSequence(20);
+        new Filler(10).operate(Arrays.asList(sequence));
+
+        maximum.operate(Arrays.asList(sequence.subsequence(5, 19), GeneratedSequence.ramp(0, 1, 20).subsequence(5, 19)));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(sequence.getRealValues()[i], (i < 5) ? 10 : Math.max(10, i), "Wrong value at " + i);
+        }
+    }
 }
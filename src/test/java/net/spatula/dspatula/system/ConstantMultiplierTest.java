@@ -23,4 +23,19 @@ public class ConstantMultiplierTest {
             assertEquals(twos.getRealValues()[i], 1);
         }
     }
+
+    @Test
+    public void testWholeMultipleMatchesFloatingPoint() {
+        final int[] samples = { 0, 1, -1, 12345, -12345, 1 << 20, Integer.MAX_VALUE, Integer.MIN_VALUE };
+        for (final double multiple : new double[] { 3, -3, 0, 1, -1, 4096, 2.5, -0.25 }) {
+            final RealSequence sequence = new RealSequence(samples.length);
+            System.arraycopy(samples, 0, sequence.getRealValues(), 0, samples.length);
+
+            new ConstantMultiplier(multiple).operate(Arrays.asList(sequence));
+
+            for (int i = 0; i < samples.length; i++) {
+                assertEquals(sequence.getRealValues()[i], (int) (samples[i] * multiple), samples[i] + " * " + multiple);
+            }
+        }
+    }
 }
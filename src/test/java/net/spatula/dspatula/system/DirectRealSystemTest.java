@@ -0,0 +1,71 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.DirectComplexSequence;
+import net.spatula.dspatula.time.sequence.DirectRealSequence;
+
+public class DirectRealSystemTest {
+
+    @Test
+    public void testParallelAdd() throws ProcessingException {
+        final int samples = 100003;
+        try (DirectRealSequence first = new DirectRealSequence(samples); DirectRealSequence second = new DirectRealSequence(samples)) {
+            for (long i = 0; i < samples; i++) {
+                first.set(i, (int) i);
+                second.set(i, (int) (2 * i));
+            }
+
+            // A block size which doesn't divide the chunks evenly, to exercise the short last block.
+            DiscreteSystemParallelExecutor.getDefaultInstance().execute(new DirectRealSystem(new Adder(), 1000), first, second);
+
+            for (long i = 0; i < samples; i++) {
+                assertEquals(first.get(i), 3 * i);
+                assertEquals(second.get(i), 2 * i);
+            }
+        }
+    }
+
+    @Test
+    public void testSubsequence() throws ProcessingException {
+        try (DirectRealSequence sequence = new DirectRealSequence(30000)) {
+            DiscreteSystemParallelExecutor.getDefaultInstance().execute(new DirectRealSystem(new Filler(7), 1024),
+                    sequence.subsequence(10000L, 19999L));
+
+            for (long i = 0; i < 30000; i++) {
+                assertEquals(sequence.get(i), (i >= 10000 && i < 20000) ? 7 : 0, "Wrong value at " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testComplex() throws ProcessingException {
+        final int samples = 20000;
+        final ComplexSequence first = new ComplexSequence(samples);
+        final ComplexSequence second = new ComplexSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            first.getRealValues()[i] = i % 100;
+            first.getImaginaryValues()[i] = i % 7;
+            second.getRealValues()[i] = 3;
+            second.getImaginaryValues()[i] = -2;
+        }
+
+        try (DirectComplexSequence directFirst = DirectComplexSequence.from(first);
+                DirectComplexSequence directSecond = DirectComplexSequence.from(second)) {
+            final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+            executor.execute(new DirectComplexSystem(new ComplexMultiplier(), 512), directFirst, directSecond);
+            executor.execute(new ComplexMultiplier(), first, second);
+
+            final ComplexSequence actual = directFirst.toComplexSequence();
+            for (int i = 0; i < samples; i++) {
+                assertEquals(actual.getRealValues()[i], first.getRealValues()[i]);
+                assertEquals(actual.getImaginaryValues()[i], first.getImaginaryValues()[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+public class ElementwiseSystemsTest {
+
+    private static final int[] EDGES = { 0, 1, -1, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1 };
+
+    private int[] apply(SystemFactory factory) {
+        final RealSequence sequence = new RealSequence(EDGES.length);
+        System.arraycopy(EDGES, 0, sequence.getRealValues(), 0, EDGES.length);
+        factory.create().operate(Arrays.asList(sequence));
+        return sequence.getRealValues();
+    }
+
+    private interface SystemFactory {
+        AbstractElementwiseSystem create();
+    }
+
+    @Test
+    public void testEdges() {
+        final int max = Integer.MAX_VALUE;
+        final int min = Integer.MIN_VALUE;
+        assertEquals(apply(() -> new ConstantAdder(10)), new int[] { 10, 11, 9, 1010, -990, max, min + 10, min + 11 });
+        assertEquals(apply(() -> new ConstantAdder(-1L << 33)), new int[] { min, min, min, min, min, min, min, min });
+        assertEquals(apply(() -> new ConstantAdder(Long.MAX_VALUE)), new int[] { max, max, max, max, max, max, max, max });
+        assertEquals(apply(() -> new ConstantAdder(Long.MIN_VALUE)), new int[] { min, min, min, min, min, min, min, min });
+        assertEquals(apply(() -> new ScaleAndOffset(0.5, 2)), new int[] { 2, 2, 1, 502, -498, 1073741825, -1073741822,
+                -1073741821 });
+        assertEquals(apply(() -> new Clamper(-5, 100)), new int[] { 0, 1, -1, 100, -5, 100, -5, -5 });
+        assertEquals(apply(Absolute::new), new int[] { 0, 1, 1, 1000, 1000, max, max, max });
+        assertEquals(apply(Negator::new), new int[] { 0, -1, 1, -1000, 1000, -max, max, max });
+        assertEquals(apply(() -> new Shifter(3)), new int[] { 0, 8, -8, 8000, -8000, max, min, min });
+        assertEquals(apply(() -> new Shifter(40)), new int[] { 0, max, min, max, min, max, min, min });
+        assertEquals(apply(() -> new Shifter(-3)), new int[] { 0, 0, -1, 125, -125, max >> 3, min >> 3, (min + 1) >> 3 });
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testBackwardsClamp() {
+        new Clamper(1, 0);
+    }
+
+    @Test
+    public void testParallelAndStrided() throws ProcessingException {
+        final int samples = 100000;
+        final RealSequence sequence = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            sequence.getRealValues()[i] = i - samples / 2;
+        }
+
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new Absolute(), sequence);
+        executor.execute(new ScaleAndOffset(2, -1), StridedRealSequence.channel(sequence, 1, 2));
+
+        for (int i = 0; i < samples; i++) {
+            final int magnitude = Math.abs(i - samples / 2);
+            assertEquals(sequence.getRealValues()[i], (i % 2 == 1) ? magnitude * 2 - 1 : magnitude, "Wrong value at " + i);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.GeneratedSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+import net.spatula.dspatula.window.Windows;
+
+public class FusedPipelineTest {
+
+    private static RealSequence random(int samples, long seed, int bound) {
+        final Random random = new Random(seed);
+        final RealSequence sequence = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            sequence.getRealValues()[i] = random.nextInt(bound * 2 + 1) - bound;
+        }
+        return sequence;
+    }
+
+    @Test
+    public void testMatchesSequential() throws ProcessingException {
+        final int samples = 100003;
+        final RealSequence signal = random(samples, 1, 30000);
+        final RealSequence window = random(samples, 2, 100);
+
+        final RealSequence expected = new RealSequence(samples);
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new Filler(7), expected);
+        executor.execute(new Adder(), expected, signal);
+        executor.execute(new Multiplier(), expected, window);
+        executor.execute(new ConstantMultiplier(0.37), expected);
+        executor.execute(new Windower(Windows.HANNING, expected), expected);
+
+        final FusedPipeline pipeline = FusedPipeline.builder()
+                .then(new Filler(7))
+                .then(new Adder(), signal)
+                .then(new Multiplier(), window)
+                .then(new ConstantMultiplier(0.37))
+                .then(new Windower(Windows.HANNING, 0, samples))
+                .blockSize(1000)
+                .build();
+        final RealSequence actual = pipeline.execute(new RealSequence(samples));
+
+        assertEquals(pipeline.getStageCount(), 5);
+        assertEquals(actual.getRealValues(), expected.getRealValues());
+    }
+
+    @Test
+    public void testStridedAndGeneratedOperands() throws ProcessingException {
+        final int frames = 50000;
+        final RealSequence interleaved = random(frames * 2, 3, 1000);
+
+        final RealSequence expected = new RealSequence(frames);
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new Adder(), expected, StridedRealSequence.channel(interleaved, 1, 2));
+        executor.execute(new Subtracter(), expected, GeneratedSequence.ramp(0, 3, frames));
+        executor.execute(new Clamper(-2000, 2000), expected);
+
+        final RealSequence actual = FusedPipeline.builder()
+                .then(new Adder(), StridedRealSequence.channel(interleaved, 1, 2))
+                .then(new Subtracter(), GeneratedSequence.ramp(0, 3, frames))
+                .then(new Clamper(-2000, 2000))
+                .build()
+                .execute(new RealSequence(frames));
+
+        assertEquals(actual.getRealValues(), expected.getRealValues());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testShortOperand() throws ProcessingException {
+        FusedPipeline.builder().then(new Adder(), new RealSequence(10)).build().execute(new RealSequence(20));
+    }
+
+}
@@ -0,0 +1,63 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+
+public class InterleavedComplexMultiplierTest {
+
+    @Test
+    public void testMultiply() {
+        final ComplexSequence first = new ComplexSequence(1);
+        final ComplexSequence second = new ComplexSequence(1);
+        first.getRealValues()[0] = 3;
+        first.getImaginaryValues()[0] = 2;
+        second.getRealValues()[0] = 1;
+        second.getImaginaryValues()[0] = 4;
+        final InterleavedComplexSequence interleavedFirst = InterleavedComplexSequence.from(first);
+        final InterleavedComplexSequence interleavedSecond = InterleavedComplexSequence.from(second);
+
+        new ComplexMultiplier().operate(Arrays.asList(first, second));
+        new InterleavedComplexMultiplier().operate(Arrays.asList(interleavedFirst, interleavedSecond));
+
+        // (3 + 2i)(1 + 4i) = 3 + 12i + 2i - 8 = -5 + 14i
+        assertEquals(first.getRealValues()[0], -5);
+        assertEquals(first.getImaginaryValues()[0], 14);
+        assertEquals(interleavedFirst.getValues()[0], -5);
+        assertEquals(interleavedFirst.getValues()[1], 14);
+    }
+
+    @Test
+    public void testParallelMatchesSplit() throws ProcessingException {
+        final int samples = 40000;
+        final ComplexSequence first = new ComplexSequence(samples);
+        final ComplexSequence second = new ComplexSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            first.getRealValues()[i] = i % 1000;
+            first.getImaginaryValues()[i] = -(i % 777);
+            second.getRealValues()[i] = i % 333;
+            second.getImaginaryValues()[i] = i % 100;
+        }
+        final InterleavedComplexSequence interleavedFirst = InterleavedComplexSequence.from(first);
+        final InterleavedComplexSequence interleavedSecond = InterleavedComplexSequence.from(second);
+
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new ComplexMultiplier(), first, second);
+        executor.execute(new InterleavedComplexMultiplier(), interleavedFirst, interleavedSecond);
+        executor.execute(new Magnitude(), first);
+        executor.execute(new InterleavedMagnitude(), interleavedFirst);
+
+        final ComplexSequence expected = interleavedFirst.toComplexSequence();
+        for (int i = 0; i < samples; i++) {
+            assertEquals(expected.getRealValues()[i], first.getRealValues()[i], "Wrong value at " + i);
+            assertEquals(expected.getImaginaryValues()[i], 0);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+
+public class MagnitudeTest {
+
+    @Test
+    public void testMagnitude() {
+        final ComplexSequence sequence = new ComplexSequence(3);
+        sequence.getRealValues()[0] = 3;
+        sequence.getImaginaryValues()[0] = 4;
+        sequence.getRealValues()[1] = -5;
+        sequence.getImaginaryValues()[1] = 12;
+        sequence.getRealValues()[2] = 46341;
+        sequence.getImaginaryValues()[2] = 46341;
+
+        new Magnitude().operate(Arrays.asList(sequence));
+
+        assertEquals(sequence.getRealValues()[0], 5);
+        assertEquals(sequence.getRealValues()[1], 13);
+        // Squares that would overflow an int don't.
+        assertEquals(sequence.getRealValues()[2], 65536);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(sequence.getImaginaryValues()[i], 0);
+        }
+    }
+
+    @Test
+    public void testCorners() {
+        final ComplexSequence sequence = new ComplexSequence(2);
+        final InterleavedComplexSequence interleaved = new InterleavedComplexSequence(2);
+        for (final int[] values : new int[][] { sequence.getRealValues(), sequence.getImaginaryValues(), interleaved.getValues() }) {
+            Arrays.fill(values, Integer.MIN_VALUE);
+        }
+        sequence.getRealValues()[1] = Integer.MAX_VALUE;
+        sequence.getImaginaryValues()[1] = 0;
+        interleaved.getValues()[2] = Integer.MAX_VALUE;
+        interleaved.getValues()[3] = 0;
+
+        new Magnitude().operate(Arrays.asList(sequence));
+        new InterleavedMagnitude().operate(Arrays.asList(interleaved));
+
+        // The sum of squares overflows a long, and the magnitude is too big for an int, so it's clamped rather than being NaN or 0.
+        assertEquals(sequence.getRealValues()[0], Integer.MAX_VALUE);
+        assertEquals(sequence.getRealValues()[1], Integer.MAX_VALUE);
+        assertEquals(interleaved.getValues()[0], Integer.MAX_VALUE);
+        assertEquals(interleaved.getValues()[2], Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testComplexMultiplierClamps() {
+        final ComplexSequence first = new ComplexSequence(3);
+        final ComplexSequence second = new ComplexSequence(3);
+        for (final int[] values : new int[][] { first.getRealValues(), first.getImaginaryValues(), second.getRealValues(),
+                second.getImaginaryValues() }) {
+            Arrays.fill(values, Integer.MIN_VALUE);
+        }
+        // (2 + 3j)(4 - 5j) = 23 + 2j, nowhere near the edges.
+        first.getRealValues()[1] = 2;
+        first.getImaginaryValues()[1] = 3;
+        second.getRealValues()[1] = 4;
+        second.getImaginaryValues()[1] = -5;
+        // (MAX + 0j)(MAX + 0j) is positive and far too big.
+        first.getRealValues()[2] = Integer.MAX_VALUE;
+        first.getImaginaryValues()[2] = 0;
+        second.getRealValues()[2] = Integer.MAX_VALUE;
+        second.getImaginaryValues()[2] = 0;
+
+        new ComplexMultiplier().operate(Arrays.asList(first, second));
+
+        // (MIN + MIN j)^2 = 0 + 2 MIN^2 j, and 2 MIN^2 is 2^63, which even a long can't hold.
+        assertEquals(first.getRealValues()[0], 0);
+        assertEquals(first.getImaginaryValues()[0], Integer.MAX_VALUE);
+        assertEquals(first.getRealValues()[1], 23);
+        assertEquals(first.getImaginaryValues()[1], 2);
+        assertEquals(first.getRealValues()[2], Integer.MAX_VALUE);
+        assertEquals(first.getImaginaryValues()[2], 0);
+    }
+}
@@ -0,0 +1,44 @@
+package net.spatula.dspatula.system;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.window.Windows;
+
+public class WindowerTest {
+
+    @Test
+    public void testHanning() {
+        final RealSequence sequence = new RealSequence(8);
+        new Filler(1000).operate(Arrays.asList(sequence));
+
+        new Windower(Windows.HANNING, sequence).operate(Arrays.asList(sequence));
+
+        final int[] expected = { 0, 146, 500, 853, 1000, 853, 500, 146 };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(sequence.getRealValues()[i], expected[i], 1, "Wrong value at " + i); // values are truncated
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSerial() throws ProcessingException {
+        final int samples = 50000;
+        final RealSequence parallel = new RealSequence(samples);
+        final RealSequence serial = new RealSequence(samples);
+        new Filler(32767).operate(Arrays.asList(parallel));
+        new Filler(32767).operate(Arrays.asList(serial));
+
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Windower(Windows.BLACKMAN, parallel), parallel);
+        new Windower(Windows.BLACKMAN, serial).operate(Arrays.asList(serial));
+
+        for (int i = 0; i < samples; i++) {
+            assertEquals(parallel.getRealValues()[i], serial.getRealValues()[i]);
+        }
+    }
+}
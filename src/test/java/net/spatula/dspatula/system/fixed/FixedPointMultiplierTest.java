@@ -0,0 +1,120 @@
+package net.spatula.dspatula.system.fixed;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class FixedPointMultiplierTest {
+
+    @Test
+    public void testQ15() {
+        final RealSequence first = new RealSequence(4);
+        final RealSequence second = new RealSequence(4);
+        final QFormat q15 = QFormat.Q15;
+        first.getRealValues()[0] = q15.fromDouble(0.5);
+        second.getRealValues()[0] = q15.fromDouble(0.5);
+        // 3 × 3 / 2^15 is well under a half, so it rounds to 0; 128 × 128 / 2^15 is exactly a half, so it rounds up.
+        first.getRealValues()[1] = 3;
+        second.getRealValues()[1] = 3;
+        first.getRealValues()[2] = 128;
+        second.getRealValues()[2] = 128;
+        // -1 × -1 is the one product that doesn't fit.
+        first.getRealValues()[3] = q15.getMinimum();
+        second.getRealValues()[3] = q15.getMinimum();
+
+        new FixedPointMultiplier(q15).operate(Arrays.asList(first, second));
+
+        assertEquals(q15.toDouble(first.getRealValues()[0]), 0.25);
+        assertEquals(first.getRealValues()[1], 0);
+        assertEquals(first.getRealValues()[2], 1);
+        assertEquals(first.getRealValues()[3], 32767);
+    }
+
+    @Test
+    public void testQ31InParallel() throws ProcessingException {
+        final int samples = 50000;
+        final QFormat q31 = QFormat.Q31;
+        final RealSequence first = new RealSequence(samples);
+        final RealSequence second = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            first.getRealValues()[i] = Integer.MIN_VALUE + i * 40000;
+            second.getRealValues()[i] = q31.fromDouble(-0.75);
+        }
+
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new FixedPointMultiplier(q31), first, second);
+
+        for (int i = 0; i < samples; i++) {
+            final long product = (long) (Integer.MIN_VALUE + i * 40000) * q31.fromDouble(-0.75);
+            final long expected = (product + (1L << 30)) >> 31;
+            assertEquals(first.getRealValues()[i], expected, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testScaler() {
+        final RealSequence sequence = new RealSequence(3);
+        sequence.getRealValues()[0] = 20000;
+        sequence.getRealValues()[1] = -20000;
+        sequence.getRealValues()[2] = QFormat.Q15.getMinimum();
+
+        new FixedPointScaler(QFormat.Q15, -0.5).operate(Arrays.asList(sequence));
+
+        assertEquals(sequence.getRealValues()[0], -10000);
+        assertEquals(sequence.getRealValues()[1], 10000);
+        assertEquals(sequence.getRealValues()[2], 16384);
+    }
+
+    @Test
+    public void testComplex() {
+        final QFormat q15 = QFormat.Q15;
+        final ComplexSequence first = new ComplexSequence(2);
+        final ComplexSequence second = new ComplexSequence(2);
+        // (0.5 + 0.25i)(0.5 - 0.5i) = 0.375 - 0.125i
+        first.getRealValues()[0] = q15.fromDouble(0.5);
+        first.getImaginaryValues()[0] = q15.fromDouble(0.25);
+        second.getRealValues()[0] = q15.fromDouble(0.5);
+        second.getImaginaryValues()[0] = q15.fromDouble(-0.5);
+        // (-1 - i)(-1 + i) = 2, which saturates
+        first.getRealValues()[1] = q15.getMinimum();
+        first.getImaginaryValues()[1] = q15.getMinimum();
+        second.getRealValues()[1] = q15.getMinimum();
+        second.getImaginaryValues()[1] = q15.getMaximum();
+
+        new FixedPointComplexMultiplier(q15).operate(Arrays.asList(first, second));
+
+        assertEquals(q15.toDouble(first.getRealValues()[0]), 0.375);
+        assertEquals(q15.toDouble(first.getImaginaryValues()[0]), -0.125);
+        assertEquals(first.getRealValues()[1], q15.getMaximum());
+    }
+
+    @Test
+    public void testComplexQ31Corners() {
+        final QFormat q31 = QFormat.Q31;
+        final ComplexSequence first = new ComplexSequence(3);
+        final ComplexSequence second = new ComplexSequence(3);
+        // (-1 - i)(-1 - i) = 2i, whose imaginary part is the one sum of products that overflows a long
+        Arrays.fill(first.getRealValues(), q31.getMinimum());
+        Arrays.fill(first.getImaginaryValues(), q31.getMinimum());
+        Arrays.fill(second.getRealValues(), q31.getMinimum());
+        Arrays.fill(second.getImaginaryValues(), q31.getMinimum());
+        // (-1 - i)(-1 + max i) = about 2, and (-1 - i)(max - i) = about -2, both of which saturate
+        second.getImaginaryValues()[1] = q31.getMaximum();
+        second.getRealValues()[2] = q31.getMaximum();
+
+        new FixedPointComplexMultiplier(q31).operate(Arrays.asList(first, second));
+
+        assertEquals(first.getRealValues()[0], 0);
+        assertEquals(first.getImaginaryValues()[0], q31.getMaximum());
+        assertEquals(first.getRealValues()[1], q31.getMaximum());
+        assertEquals(first.getImaginaryValues()[1], 1);
+        assertEquals(first.getRealValues()[2], q31.getMinimum());
+        assertEquals(first.getImaginaryValues()[2], 1);
+    }
+}
@@ -0,0 +1,32 @@
+package net.spatula.dspatula.system.fixed;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.RealSequence;
+
+public class SaturatingAdderTest {
+
+    private RealSequence of(int... values) {
+        final RealSequence sequence = new RealSequence(values.length);
+        System.arraycopy(values, 0, sequence.getRealValues(), 0, values.length);
+        return sequence;
+    }
+
+    @Test
+    public void testQ31() {
+        final RealSequence first = of(1, Integer.MAX_VALUE, Integer.MIN_VALUE);
+        new SaturatingAdder(QFormat.Q31).operate(Arrays.asList(first, of(2, 1, -1)));
+        assertEquals(first.getRealValues(), new int[] { 3, Integer.MAX_VALUE, Integer.MIN_VALUE });
+    }
+
+    @Test
+    public void testQ15() {
+        final RealSequence first = of(1, 30000, -30000);
+        new SaturatingSubtracter(QFormat.Q15).operate(Arrays.asList(first, of(2, -30000, 30000)));
+        assertEquals(first.getRealValues(), new int[] { -1, 32767, -32768 });
+    }
+}
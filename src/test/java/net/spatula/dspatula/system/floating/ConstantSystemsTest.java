@@ -0,0 +1,44 @@
+package net.spatula.dspatula.system.floating;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+
+public class ConstantSystemsTest {
+
+    @Test
+    public void testDouble() throws ProcessingException {
+        final DoubleSequence sequence = new DoubleSequence(100000);
+        Arrays.fill(sequence.getRealValues(), 1.5D);
+
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new DoubleConstantMultiplier(0.25D), sequence);
+        executor.execute(new DoubleConstantAdder(-0.125D), sequence.subsequence(10, 99999));
+
+        for (int i = 0; i < 100000; i++) {
+            assertEquals(sequence.getRealValues()[i], (i < 10) ? 0.375D : 0.25D, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testFloat() {
+        final FloatSequence sequence = new FloatSequence(10);
+        Arrays.fill(sequence.getRealValues(), 3F);
+
+        new FloatConstantMultiplier(1e10F).operate(Arrays.asList(sequence));
+        new FloatConstantAdder(1F).operate(Arrays.asList(sequence.subsequence(0, 4)));
+
+        // No clamping, and no rounding beyond what a float does anyway.
+        for (int i = 0; i < 10; i++) {
+            assertEquals(sequence.getRealValues()[i], 3e10F + ((i < 5) ? 1F : 0F));
+        }
+    }
+
+}
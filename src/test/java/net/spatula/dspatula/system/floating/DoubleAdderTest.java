@@ -0,0 +1,49 @@
+package net.spatula.dspatula.system.floating;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+
+public class DoubleAdderTest {
+
+    @Test
+    public void testAdd() {
+        final DoubleSequence first = new DoubleSequence(10);
+        final DoubleSequence second = new DoubleSequence(10);
+        Arrays.fill(first.getRealValues(), 0.25);
+        Arrays.fill(second.getRealValues(), 0.5);
+
+        new DoubleAdder().operate(Arrays.asList(first, second));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.getRealValues()[i], 0.75);
+            assertEquals(second.getRealValues()[i], 0.5);
+        }
+    }
+
+    @Test
+    public void testParallelSubsequence() throws ProcessingException {
+        final int samples = 50000;
+        final DoubleSequence first = new DoubleSequence(samples);
+        final DoubleSequence second = new DoubleSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            first.getRealValues()[i] = i / 4D;
+            second.getRealValues()[i] = i / 2D;
+        }
+
+        // Only the middle of the sequences is added.
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new DoubleAdder(), first.subsequence(10000, 39999),
+                second.subsequence(10000, 39999));
+
+        for (int i = 0; i < samples; i++) {
+            final double expected = (i >= 10000 && i < 40000) ? i * 0.75 : i / 4D;
+            assertEquals(first.getRealValues()[i], expected, "Wrong value at " + i);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package net.spatula.dspatula.system.floating;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.DoubleComplexSequence;
+
+public class DoubleMagnitudeTest {
+
+    @Test
+    public void testMagnitude() {
+        final DoubleComplexSequence sequence = new DoubleComplexSequence(2);
+        sequence.getRealValues()[0] = 0.3;
+        sequence.getImaginaryValues()[0] = -0.4;
+        sequence.getRealValues()[1] = 1;
+        sequence.getImaginaryValues()[1] = 1;
+
+        new DoubleMagnitude().operate(Arrays.asList(sequence));
+
+        assertEquals(sequence.getRealValues()[0], 0.5, 1e-12);
+        assertEquals(sequence.getRealValues()[1], Math.sqrt(2), 1e-12);
+        assertEquals(sequence.getImaginaryValues()[0], 0D);
+        assertEquals(sequence.getImaginaryValues()[1], 0D);
+    }
+}
@@ -0,0 +1,32 @@
+package net.spatula.dspatula.system.floating;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.window.Windows;
+
+public class DoubleWindowerTest {
+
+    @Test
+    public void testHanning() {
+        final DoubleSequence sequence = new DoubleSequence(8);
+        Arrays.fill(sequence.getRealValues(), 1000D);
+        final FloatSequence floatSequence = new FloatSequence(8);
+        Arrays.fill(floatSequence.getRealValues(), 1000F);
+
+        new DoubleWindower(Windows.HANNING, sequence).operate(Arrays.asList(sequence));
+        new FloatWindower(Windows.HANNING, floatSequence).operate(Arrays.asList(floatSequence));
+
+        // Nothing is truncated, unlike with the Windower.
+        final double[] expected = { 0, 146.4466, 500, 853.5534, 1000, 853.5534, 500, 146.4466 };
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(sequence.getRealValues()[i], expected[i], 0.0001, "Wrong value at " + i);
+            assertEquals(floatSequence.getRealValues()[i], expected[i], 0.0001, "Wrong value at " + i);
+        }
+    }
+}
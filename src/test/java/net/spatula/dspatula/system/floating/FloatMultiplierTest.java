@@ -0,0 +1,27 @@
+package net.spatula.dspatula.system.floating;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.FloatSequence;
+
+public class FloatMultiplierTest {
+
+    @Test
+    public void testMultiply() {
+        final FloatSequence first = new FloatSequence(10);
+        final FloatSequence second = new FloatSequence(10);
+        Arrays.fill(first.getRealValues(), 3F);
+        Arrays.fill(second.getRealValues(), 0.5F);
+
+        new FloatMultiplier().operate(Arrays.asList(first, second));
+        new FloatSubtracter().operate(Arrays.asList(first, second));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.getRealValues()[i], 1F);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package net.spatula.dspatula.system.pcm;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.time.sequence.ByteSequence;
+
+public class ByteMultiplierTest {
+
+    @Test
+    public void testMultiplySaturates() {
+        final ByteSequence first = new ByteSequence(4);
+        final ByteSequence second = new ByteSequence(4);
+        first.getRealValues()[0] = 5;
+        second.getRealValues()[0] = -7;
+        first.getRealValues()[1] = 100;
+        second.getRealValues()[1] = 2;
+        first.getRealValues()[2] = -100;
+        second.getRealValues()[2] = 2;
+        first.getRealValues()[3] = Byte.MIN_VALUE;
+        second.getRealValues()[3] = -1;
+
+        new ByteMultiplier().operate(Arrays.asList(first, second));
+
+        assertEquals(first.getRealValues()[0], -35);
+        assertEquals(first.getRealValues()[1], Byte.MAX_VALUE);
+        assertEquals(first.getRealValues()[2], Byte.MIN_VALUE);
+        assertEquals(first.getRealValues()[3], Byte.MAX_VALUE);
+    }
+}
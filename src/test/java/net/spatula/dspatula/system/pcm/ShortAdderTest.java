@@ -0,0 +1,55 @@
+package net.spatula.dspatula.system.pcm;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ShortSequence;
+
+public class ShortAdderTest {
+
+    @Test
+    public void testAddSaturates() {
+        final ShortSequence first = new ShortSequence(4);
+        final ShortSequence second = new ShortSequence(4);
+        first.getRealValues()[0] = 1000;
+        second.getRealValues()[0] = 234;
+        first.getRealValues()[1] = 30000;
+        second.getRealValues()[1] = 30000;
+        first.getRealValues()[2] = -30000;
+        second.getRealValues()[2] = -30000;
+        first.getRealValues()[3] = Short.MAX_VALUE;
+        second.getRealValues()[3] = Short.MIN_VALUE;
+
+        new ShortAdder().operate(Arrays.asList(first, second));
+
+        assertEquals(first.getRealValues()[0], 1234);
+        assertEquals(first.getRealValues()[1], Short.MAX_VALUE);
+        assertEquals(first.getRealValues()[2], Short.MIN_VALUE);
+        assertEquals(first.getRealValues()[3], -1);
+    }
+
+    @Test
+    public void testParallelSubsequence() throws ProcessingException {
+        final int samples = 50000;
+        final ShortSequence first = new ShortSequence(samples);
+        final ShortSequence second = new ShortSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            first.getRealValues()[i] = (short) (i % 1000);
+            second.getRealValues()[i] = (short) (i % 3000);
+        }
+
+        // Only the middle of the sequences is added.
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new ShortAdder(), first.subsequence(10000, 39999),
+                second.subsequence(10000, 39999));
+
+        for (int i = 0; i < samples; i++) {
+            final int expected = (i >= 10000 && i < 40000) ? (i % 1000) + (i % 3000) : i % 1000;
+            assertEquals(first.getRealValues()[i], expected, "Wrong value at " + i);
+        }
+    }
+}
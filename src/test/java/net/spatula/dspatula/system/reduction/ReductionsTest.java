@@ -0,0 +1,95 @@
+package net.spatula.dspatula.system.reduction;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.concurrent.ExecutionMode;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.StridedRealSequence;
+
+public class ReductionsTest {
+
+    private RealSequence wobbly(int samples) {
+        final RealSequence sequence = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            sequence.getRealValues()[i] = (i * 7919) % 20001 - 9000;
+        }
+        return sequence;
+    }
+
+    @Test
+    public void testRealMetrics() throws ProcessingException {
+        final int samples = 100003;
+        final RealSequence sequence = wobbly(samples);
+
+        long sum = 0;
+        double energy = 0;
+        int minimum = Integer.MAX_VALUE;
+        int maximum = Integer.MIN_VALUE;
+        for (final int value : sequence.getRealValues()) {
+            sum += value;
+            energy += (double) value * value;
+            minimum = Math.min(minimum, value);
+            maximum = Math.max(maximum, value);
+        }
+
+        assertEquals(Reductions.sum(sequence), sum);
+        assertEquals(Reductions.mean(sequence), (double) sum / samples, 1e-9);
+        assertEquals(Reductions.energy(sequence), energy, energy * 1e-12);
+        assertEquals(Reductions.rms(sequence), Math.sqrt(energy / samples), 1e-6);
+        assertEquals(Reductions.extremes(sequence).getMinimum(), minimum);
+        assertEquals(Reductions.extremes(sequence).getMaximum(), maximum);
+        assertEquals(Reductions.peak(sequence), Math.max(-minimum, maximum));
+    }
+
+    @Test
+    public void testEveryExecutionMode() throws ProcessingException {
+        final RealSequence sequence = wobbly(100003);
+        final long expected = Reductions.sum(sequence.subsequence(5, 99999));
+        for (final ExecutionMode mode : ExecutionMode.values()) {
+            final Total total = DiscreteSystemParallelExecutor.getDefaultInstance(mode).reduce(new Sum(),
+                    sequence.subsequence(5, 99999));
+            assertEquals(total.getSum(), expected, mode.name());
+            assertEquals(total.getCount(), 99995, mode.name());
+        }
+    }
+
+    @Test
+    public void testViewsAndEdgeCases() throws ProcessingException {
+        final RealSequence sequence = new RealSequence(4);
+        sequence.getRealValues()[0] = Integer.MIN_VALUE;
+        sequence.getRealValues()[1] = 5;
+        sequence.getRealValues()[2] = Integer.MAX_VALUE;
+        sequence.getRealValues()[3] = 6;
+
+        assertEquals(Reductions.peak(sequence), 1L << 31);
+        assertEquals(Reductions.sum(StridedRealSequence.channel(sequence, 1, 2)), 11);
+        assertEquals(Reductions.peak(new RealSequence(1).subsequence(0, -1)), 0);
+    }
+
+    @Test
+    public void testComplexMetrics() throws ProcessingException {
+        final int samples = 60000;
+        final ComplexSequence sequence = new ComplexSequence(samples);
+        double energy = 0;
+        for (int i = 0; i < samples; i++) {
+            sequence.getRealValues()[i] = i % 300;
+            sequence.getImaginaryValues()[i] = -(i % 400);
+            energy += (double) (i % 300) * (i % 300) + (double) (i % 400) * (i % 400);
+        }
+        sequence.getRealValues()[41234] = 3000;
+        sequence.getImaginaryValues()[41234] = 4000;
+
+        energy += 3000 * 3000 + 4000 * 4000 - (41234 % 300) * (41234 % 300) - (41234 % 400) * (41234 % 400);
+        assertEquals(Reductions.energy(sequence), energy, energy * 1e-12);
+        assertEquals(Reductions.rms(sequence), Math.sqrt(energy / samples), 1e-6);
+
+        final PeakMagnitude peak = Reductions.peak(sequence);
+        assertEquals(peak.getPeak(), 5000.0);
+        assertEquals(peak.getPeakIndex(), 41234);
+    }
+}
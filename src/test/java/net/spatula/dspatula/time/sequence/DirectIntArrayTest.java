@@ -0,0 +1,70 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+public class DirectIntArrayTest {
+
+    @Test
+    public void testCopiesAcrossSegments() {
+        // 16 ints per segment, so 100 ints need 7 segments, the last one short.
+        final DirectIntArray array = new DirectIntArray(100, 4);
+        final int[] values = new int[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+
+        array.copyFrom(values, 0, 0, 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(array.get(i), i * 3);
+        }
+
+        final int[] copy = new int[40];
+        array.copyTo(10, copy, 5, 30);
+        for (int i = 0; i < 30; i++) {
+            assertEquals(copy[i + 5], (i + 10) * 3);
+        }
+
+        array.set(99, -1);
+        assertEquals(array.get(99), -1);
+    }
+
+    @Test
+    public void testRelease() {
+        final DirectRealSequence sequence = new DirectRealSequence(1000);
+        final DirectRealSequence subsequence = sequence.subsequence(100L, 199L);
+        subsequence.set(150, 42);
+        assertEquals(sequence.get(150), 42);
+        assertFalse(sequence.getRealValues().isReleased());
+
+        subsequence.release();
+        assertTrue(sequence.getRealValues().isReleased());
+        sequence.release(); // harmless
+        try {
+            sequence.get(0);
+        } catch (final IllegalStateException e) {
+            return;
+        }
+        throw new AssertionError("Expected an IllegalStateException");
+    }
+
+    @Test
+    public void testConversions() {
+        final RealSequence real = new RealSequence(50);
+        for (int i = 0; i < 50; i++) {
+            real.getRealValues()[i] = i;
+        }
+
+        try (DirectRealSequence direct = DirectRealSequence.from(real.subsequence(10, 39))) {
+            assertEquals(direct.getLongLength(), 30L);
+            final RealSequence back = direct.subsequence(5, 9).toRealSequence();
+            assertEquals(back.getLength(), 5);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(back.getRealValues()[i], i + 15);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+public class InterleavedComplexSequenceTest {
+
+    @Test
+    public void testConversions() {
+        final ComplexSequence split = new ComplexSequence(10);
+        for (int i = 0; i < 10; i++) {
+            split.getRealValues()[i] = i;
+            split.getImaginaryValues()[i] = -10 * i;
+        }
+
+        final InterleavedComplexSequence interleaved = InterleavedComplexSequence.from(split.subsequence(2, 7));
+        assertEquals(interleaved.getLength(), 6);
+        assertEquals(interleaved.getValues().length, 12);
+        for (int i = 0; i < 6; i++) {
+            assertEquals(interleaved.getValues()[2 * i], i + 2);
+            assertEquals(interleaved.getValues()[2 * i + 1], -10 * (i + 2));
+        }
+
+        final ComplexSequence back = interleaved.subsequence(1, 3).toComplexSequence();
+        assertEquals(back.getLength(), 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(back.getRealValues()[i], i + 3);
+            assertEquals(back.getImaginaryValues()[i], -10 * (i + 3));
+        }
+    }
+
+    @Test
+    public void testSubsequenceSharesValues() {
+        final InterleavedComplexSequence sequence = new InterleavedComplexSequence(4);
+        final InterleavedComplexSequence subsequence = sequence.subsequence(2, 3);
+
+        assertEquals(subsequence.getStart(), 2);
+        assertEquals(subsequence.getEnd(), 3);
+        assertEquals(subsequence.getLength(), 2);
+        subsequence.getValues()[2 * subsequence.getStart() + 1] = 42;
+        assertEquals(sequence.getValues()[5], 42);
+    }
+}
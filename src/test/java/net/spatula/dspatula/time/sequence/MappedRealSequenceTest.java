@@ -0,0 +1,114 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.system.ConstantMultiplier;
+import net.spatula.dspatula.system.DirectRealSystem;
+import net.spatula.dspatula.transform.fourier.discrete.DiscreteFourierTransformer;
+
+public class MappedRealSequenceTest {
+
+    private static Path writePcm16(int samples, int header) throws IOException {
+        final Path path = Files.createTempFile("dspatula", ".pcm");
+        final ByteBuffer buffer = ByteBuffer.allocate(header + samples * 2).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(header);
+        for (int i = 0; i < samples; i++) {
+            buffer.putShort((short) (i % 2000 - 1000));
+        }
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    @Test
+    public void testReadOnly() throws IOException {
+        final Path path = writePcm16(1000, 44);
+        try (MappedRealSequence sequence = MappedRealSequence.open(path, PcmEncoding.SIGNED_16_LITTLE_ENDIAN, 44, false)) {
+            assertEquals(sequence.getLongLength(), 1000L);
+            final RealSequence copy = sequence.subsequence(100L, 199L).toRealSequence();
+            for (int i = 0; i < 100; i++) {
+                assertEquals(copy.getRealValues()[i], i + 100 - 1000);
+            }
+            try {
+                sequence.set(0, 1);
+                throw new AssertionError("Expected a ReadOnlyBufferException");
+            } catch (final ReadOnlyBufferException e) {
+                // expected
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testWindowsAndSaturation() throws IOException {
+        final Path path = Files.createTempFile("dspatula", ".pcm");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 8 samples per window
+            final MappedIntArray array = new MappedIntArray(channel, MapMode.READ_WRITE, PcmEncoding.SIGNED_16_BIG_ENDIAN, 0, 30, 3);
+            final int[] values = new int[30];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = (i - 15) * 3000;
+            }
+            array.copyFrom(values, 0, 0, 30);
+
+            final int[] copy = new int[30];
+            array.copyTo(0, copy, 0, 30);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(copy[i], Math.max(-32768, Math.min(32767, values[i])), "Wrong value at " + i);
+            }
+            array.release();
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testSystemsAndTransformInPlace() throws IOException, ProcessingException {
+        final int samples = 50000;
+        final Path first = writePcm16(samples, 0);
+        final Path second = Files.createTempFile("dspatula", ".pcm");
+        try (MappedRealSequence firstSequence = MappedRealSequence.open(first, PcmEncoding.SIGNED_16_LITTLE_ENDIAN, 0, true);
+                MappedRealSequence secondSequence = MappedRealSequence.create(second, PcmEncoding.SIGNED_32_BIG_ENDIAN, samples)) {
+            for (long i = 0; i < samples; i++) {
+                secondSequence.set(i, 10);
+            }
+
+            final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+            executor.execute(new DirectRealSystem(new Adder()), firstSequence, secondSequence);
+            executor.execute(new DirectRealSystem(new ConstantMultiplier(2)), firstSequence);
+
+            for (long i = 0; i < samples; i++) {
+                assertEquals(firstSequence.get(i), (i % 2000 - 1000 + 10) * 2);
+            }
+
+            final DirectRealSequence frame = firstSequence.subsequence(1000L, 1511L);
+            final ComplexSequence expected = new DiscreteFourierTransformer().forward(frame.toRealSequence());
+            final ComplexSequence actual = new DiscreteFourierTransformer().forward(frame);
+            for (int i = 0; i < 512; i++) {
+                assertEquals(actual.getRealValues()[i], expected.getRealValues()[i]);
+                assertEquals(actual.getImaginaryValues()[i], expected.getImaginaryValues()[i]);
+            }
+        }
+
+        // The changes went to the file.
+        final ByteBuffer written = ByteBuffer.wrap(Files.readAllBytes(first)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(written.getShort(2 * 1234), (short) ((1234 - 1000 + 10) * 2));
+        Files.delete(first);
+        Files.delete(second);
+    }
+}
@@ -0,0 +1,72 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.system.ConstantMultiplier;
+
+public class MultiChannelSequenceTest {
+
+    private MultiChannelSequence numbered(int channels, int frames, ChannelLayout layout) {
+        final MultiChannelSequence sequence = new MultiChannelSequence(channels, frames, layout);
+        for (int channel = 0; channel < channels; channel++) {
+            for (int frame = 0; frame < frames; frame++) {
+                sequence.set(channel, frame, channel * 100000 + frame);
+            }
+        }
+        return sequence;
+    }
+
+    @Test
+    public void testLayouts() {
+        final MultiChannelSequence interleaved = numbered(2, 3, ChannelLayout.INTERLEAVED);
+        assertEquals(interleaved.getValues(), new int[] { 0, 100000, 1, 100001, 2, 100002 });
+
+        final MultiChannelSequence planar = interleaved.toLayout(ChannelLayout.PLANAR);
+        assertEquals(planar.getValues(), new int[] { 0, 1, 2, 100000, 100001, 100002 });
+        assertEquals(planar.getChannel(1).toRealSequence().getRealValues(), new int[] { 100000, 100001, 100002 });
+        assertEquals(planar.toLayout(ChannelLayout.INTERLEAVED).getValues(), interleaved.getValues());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testTooFewSamples() {
+        new MultiChannelSequence(new int[5], 2, 3, ChannelLayout.PLANAR);
+    }
+
+    @Test
+    public void testManyShortChannels() throws ProcessingException {
+        checkAddition(64, 1000);
+    }
+
+    @Test
+    public void testFewLongChannels() throws ProcessingException {
+        checkAddition(3, 50000);
+    }
+
+    private void checkAddition(int channels, int frames) throws ProcessingException {
+        final MultiChannelSequence interleaved = numbered(channels, frames, ChannelLayout.INTERLEAVED);
+        final MultiChannelSequence planar = numbered(channels, frames, ChannelLayout.PLANAR);
+
+        // Mixed layouts line up channel for channel.
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(), interleaved, planar);
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new ConstantMultiplier(0.5), planar);
+
+        for (int channel = 0; channel < channels; channel++) {
+            for (int frame = 0; frame < frames; frame++) {
+                final int value = channel * 100000 + frame;
+                assertEquals(interleaved.get(channel, frame), 2 * value, "Wrong sum at " + channel + ", " + frame);
+                assertEquals(planar.get(channel, frame), value / 2, "Wrong product at " + channel + ", " + frame);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testMismatchedChannels() throws ProcessingException {
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(),
+                new MultiChannelSequence(2, 10, ChannelLayout.PLANAR), new MultiChannelSequence(3, 10, ChannelLayout.PLANAR));
+    }
+}
@@ -0,0 +1,56 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+public class SequencePoolTest {
+
+    @Test
+    public void testBorrowAndReturn() {
+        final SequencePool pool = new SequencePool(2);
+
+        final RealSequence first = pool.borrowRealSequence(1000);
+        assertEquals(first.getStart(), 0);
+        assertEquals(first.getLength(), 1000);
+        assertEquals(first.getRealValues().length, 1024);
+        pool.returnSequence(first);
+
+        // Same size class, same arrays
+        final RealSequence second = pool.borrowRealSequence(600);
+        assertSame(second.getRealValues(), first.getRealValues());
+        assertEquals(second.getLength(), 600);
+
+        // Nothing left on the shelf
+        assertNotSame(pool.borrowRealSequence(1000).getRealValues(), first.getRealValues());
+
+        final ComplexSequence complex = pool.borrowComplexSequence(1024);
+        assertEquals(complex.getRealValues().length, 1024);
+        pool.returnSequence(complex.subsequence(0, 99));
+        final ComplexSequence again = pool.borrowComplexSequence(513);
+        assertSame(again.getRealValues(), complex.getRealValues());
+        assertSame(again.getImaginaryValues(), complex.getImaginaryValues());
+        assertEquals(again.getLength(), 513);
+    }
+
+    @Test
+    public void testShelfLimit() {
+        final SequencePool pool = new SequencePool(1);
+        final RealSequence first = pool.borrowRealSequence(16);
+        final RealSequence second = pool.borrowRealSequence(16);
+        pool.returnSequence(first);
+        pool.returnSequence(second); // no room; dropped
+
+        assertSame(pool.borrowRealSequence(16).getRealValues(), first.getRealValues());
+        final RealSequence fresh = pool.borrowRealSequence(16);
+        assertNotSame(fresh.getRealValues(), first.getRealValues());
+        assertNotSame(fresh.getRealValues(), second.getRealValues());
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testEmpty() {
+        new SequencePool().borrowRealSequence(0);
+    }
+}
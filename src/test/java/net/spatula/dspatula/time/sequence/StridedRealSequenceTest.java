@@ -0,0 +1,161 @@
+package net.spatula.dspatula.time.sequence;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.exception.ProcessingException;
+import net.spatula.dspatula.system.AbstractCongruentSystem;
+import net.spatula.dspatula.system.AbstractElementwiseSystem;
+import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.system.ConstantMultiplier;
+import net.spatula.dspatula.system.Filler;
+import net.spatula.dspatula.system.Subtracter;
+import net.spatula.dspatula.system.Windower;
+import net.spatula.dspatula.transform.fourier.discrete.DiscreteFourierTransformer;
+import net.spatula.dspatula.window.Windows;
+
+public class StridedRealSequenceTest {
+
+    private RealSequence counting(int samples) {
+        final RealSequence sequence = new RealSequence(samples);
+        for (int i = 0; i < samples; i++) {
+            sequence.getRealValues()[i] = i;
+        }
+        return sequence;
+    }
+
+    @Test
+    public void testViews() {
+        final RealSequence sequence = counting(10).subsequence(2, 8);
+
+        assertEquals(StridedRealSequence.decimate(sequence, 3).toRealSequence().getRealValues(), new int[] { 2, 5, 8 });
+        assertEquals(StridedRealSequence.channel(sequence, 1, 2).toRealSequence().getRealValues(), new int[] { 3, 5, 7 });
+        assertEquals(StridedRealSequence.reverse(sequence).toRealSequence().getRealValues(), new int[] { 8, 7, 6, 5, 4, 3, 2 });
+
+        final StridedRealSequence shifted = StridedRealSequence.shift(sequence, 100);
+        assertEquals(shifted.getStart(), 100);
+        assertEquals(shifted.getEnd(), 106);
+        assertEquals(shifted.get(100), 2);
+
+        // Views of views compose.
+        final StridedRealSequence backwardsOdds = StridedRealSequence.decimate(StridedRealSequence.reverse(counting(10)), 2);
+        assertEquals(backwardsOdds.toRealSequence().getRealValues(), new int[] { 9, 7, 5, 3, 1 });
+    }
+
+    @Test
+    public void testDeinterleaveInParallel() throws ProcessingException {
+        final int frames = 50000;
+        final RealSequence stereo = new RealSequence(frames * 2);
+        for (int i = 0; i < frames; i++) {
+            stereo.getRealValues()[2 * i] = i;
+            stereo.getRealValues()[2 * i + 1] = -i;
+        }
+
+        final StridedRealSequence left = StridedRealSequence.channel(stereo, 0, 2);
+        final StridedRealSequence right = StridedRealSequence.channel(stereo, 1, 2);
+        final RealSequence mono = new RealSequence(frames);
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+        executor.execute(new Adder(), mono, left);
+        executor.execute(new Subtracter(), mono, right);
+        executor.execute(new ConstantMultiplier(0.5), left);
+        executor.execute(new Filler(7), right);
+
+        for (int i = 0; i < frames; i++) {
+            assertEquals(mono.getRealValues()[i], 2 * i, "Wrong mono value at " + i);
+            assertEquals(stereo.getRealValues()[2 * i], i / 2, "Wrong left value at " + i);
+            assertEquals(stereo.getRealValues()[2 * i + 1], 7, "Wrong right value at " + i);
+        }
+    }
+
+    @Test
+    public void testReverseIntoItself() throws ProcessingException {
+        final int samples = 50000;
+        final RealSequence sequence = counting(samples);
+        final RealSequence firstHalf = sequence.subsequence(0, samples / 2 - 1);
+        final StridedRealSequence secondHalfBackwards = StridedRealSequence
+                .reverse(sequence.subsequence(samples / 2, samples - 1));
+
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(), firstHalf, secondHalfBackwards);
+
+        for (int i = 0; i < samples / 2; i++) {
+            assertEquals(sequence.getRealValues()[i], samples - 1, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testCopiedValues() {
+        final RealSequence sequence = counting(10);
+        final StridedRealSequence view = StridedRealSequence.reverse(sequence).subsequence(2, 5);
+
+        final int[] values = view.getRealValues();
+        for (int i = 2; i <= 5; i++) {
+            assertEquals(values[i], 9 - i, "Wrong value at " + i);
+        }
+
+        // It's a copy, so writing into it leaves the view alone.
+        values[2] = -1;
+        assertEquals(view.get(2), 7);
+        assertEquals(sequence.getRealValues()[7], 7);
+    }
+
+    @Test
+    public void testWindowView() {
+        final RealSequence sequence = counting(64);
+        final StridedRealSequence view = StridedRealSequence.reverse(sequence);
+        final RealSequence copy = view.toRealSequence();
+
+        new Windower(Windows.HANNING, copy).operate(Arrays.asList(copy));
+        new Windower(Windows.HANNING, view).operate(Arrays.asList(view));
+
+        for (int i = 0; i < 64; i++) {
+            assertEquals(view.get(i), copy.getRealValues()[i], "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testTransformView() throws ProcessingException {
+        final MultiChannelSequence stereo = new MultiChannelSequence(counting(256).getRealValues(), 2, 128,
+                ChannelLayout.INTERLEAVED);
+        final StridedRealSequence right = stereo.getChannel(1);
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer();
+
+        final ComplexSequence expected = transformer.forward(right.toRealSequence());
+        final ComplexSequence actual = transformer.forward(right);
+
+        assertEquals(actual.getRealValues(), expected.getRealValues());
+        assertEquals(actual.getImaginaryValues(), expected.getImaginaryValues());
+    }
+
+    @Test
+    public void testDefaultStridedOperate() {
+        // Systems which only know about arrays still take views, by way of the default operate methods.
+        final AbstractCongruentSystem maximum = new AbstractCongruentSystem() {
+            @Override
+            protected void operate(int start, int end, int[] destinationValues, int[] operandValues) {
+                for (int index = start; index <= end; index++) {
+                    destinationValues[index] = Math.max(destinationValues[index], operandValues[index]);
+                }
+            }
+        };
+        final AbstractElementwiseSystem square = new AbstractElementwiseSystem() {
+            @Override
+            protected void operate(int start, int end, int[] values) {
+                for (int index = start; index <= end; index++) {
+                    values[index] *= values[index];
+                }
+            }
+        };
+        final RealSequence sequence = counting(10);
+        final RealSequence evens = StridedRealSequence.decimate(sequence, 2);
+
+        maximum.operate(Arrays.asList(evens, StridedRealSequence.reverse(counting(5))));
+        square.operate(Arrays.asList(evens.subsequence(1, 3)));
+
+        final int[] expected = { 4, 1, 9, 3, 16, 5, 36, 7, 8, 9 };
+        assertEquals(sequence.getRealValues(), expected);
+    }
+}
@@ -0,0 +1,39 @@
+package net.spatula.dspatula.transform.fourier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+public class ScratchArraysTest {
+
+    @Test
+    public void testReusedUpToTheLimit() {
+        final ScratchArrays scratch = new ScratchArrays(1024);
+
+        final double[][] small = scratch.get(1024);
+        assertEquals(small[0].length, 1024);
+        assertEquals(small[1].length, 1024);
+        assertSame(scratch.get(1024), small);
+
+        // Too long to keep: each call gets new arrays, and the small ones are let go rather than kept alongside.
+        final double[][] large = scratch.get(1025);
+        assertEquals(large[0].length, 1025);
+        assertNotSame(scratch.get(1025), large);
+        assertNotSame(scratch.get(1024), small);
+    }
+
+    @Test
+    public void testPerThread() throws InterruptedException {
+        final ScratchArrays scratch = new ScratchArrays();
+        final double[][] mine = scratch.get(16);
+        final double[][][] theirs = new double[1][][];
+        final Thread thread = new Thread(() -> theirs[0] = scratch.get(16));
+        thread.start();
+        thread.join();
+        assertNotSame(theirs[0], mine);
+        assertEquals(scratch.getMaximumRetainedLength(), ScratchArrays.DEFAULT_MAXIMUM_RETAINED_LENGTH);
+    }
+
+}
@@ -0,0 +1,48 @@
+package net.spatula.dspatula.transform.fourier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+public class TwiddleTableTest {
+
+    @Test
+    public void testValues() {
+        final TwiddleTable table = TwiddleTable.forLength(360);
+        assertEquals(table.getLength(), 360);
+        assertEquals(table.getCosines().length, 360);
+        assertEquals(table.getSines().length, 360);
+        for (int k = 0; k < 360; k++) {
+            assertEquals(table.getCosines()[k], Math.cos(Math.toRadians(k)), 0.0000000001);
+            assertEquals(table.getSines()[k], Math.sin(Math.toRadians(k)), 0.0000000001);
+        }
+    }
+
+    @Test
+    public void testFastValues() {
+        final TwiddleTable table = TwiddleTable.fastForLength(360);
+        for (int k = 0; k < 360; k++) {
+            assertEquals(table.getCosines()[k], Math.cos(Math.toRadians(k)), 0.000001);
+            assertEquals(table.getSines()[k], Math.sin(Math.toRadians(k)), 0.000001);
+        }
+    }
+
+    @Test
+    public void testCached() {
+        assertSame(TwiddleTable.forLength(1024), TwiddleTable.forLength(1024));
+        assertSame(TwiddleTable.fastForLength(1024), TwiddleTable.fastForLength(1024));
+        assertNotSame(TwiddleTable.fastForLength(1024), TwiddleTable.forLength(1024));
+    }
+
+    @Test
+    public void testBounded() {
+        final TwiddleTable first = TwiddleTable.forLength(7919);
+        for (int length = 1; length <= 100; length++) {
+            TwiddleTable.forLength(length);
+        }
+        assertNotSame(TwiddleTable.forLength(7919), first);
+    }
+
+}
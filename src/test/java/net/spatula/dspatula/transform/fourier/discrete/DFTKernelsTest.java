@@ -0,0 +1,54 @@
+package net.spatula.dspatula.transform.fourier.discrete;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import net.spatula.dspatula.transform.fourier.TwiddleTable;
+import net.spatula.dspatula.util.KernelsTest;
+
+public class DFTKernelsTest {
+
+    private final DFTKernels scalar = new ScalarDFTKernels();
+
+    @Test
+    public void testSelected() {
+        if (KernelsTest.isJava17()) {
+            assertEquals(DFTKernels.SELECTED.getClass().getSimpleName(), "VectorDFTKernels");
+        }
+    }
+
+    @Test
+    public void testMatchesScalar() {
+        final Random random = new Random(1);
+        // Short enough to be all leftovers, and long with leftovers
+        for (final int samples : new int[] { 3, 1001 }) {
+            final double[] real = new double[samples];
+            final double[] imaginary = new double[samples];
+            for (int i = 0; i < samples; i++) {
+                real[i] = random.nextInt(65536) - 32768;
+                imaginary[i] = random.nextInt(65536) - 32768;
+            }
+            final TwiddleTable twiddles = TwiddleTable.fastForLength(samples);
+            final double[] cosines = twiddles.getCosines();
+            final double[] sines = twiddles.getSines();
+
+            final double[] expected = new double[2];
+            final double[] actual = new double[2];
+            for (int pointNumber = 0; pointNumber < samples; pointNumber++) {
+                scalar.forwardSums(real, samples, pointNumber, cosines, sines, expected);
+                DFTKernels.SELECTED.forwardSums(real, samples, pointNumber, cosines, sines, actual);
+                // Only the order of the additions differs.
+                assertEquals(actual[0], expected[0], 1e-6, "Wrong real sum for point " + pointNumber);
+                assertEquals(actual[1], expected[1], 1e-6, "Wrong imaginary sum for point " + pointNumber);
+
+                assertEquals(DFTKernels.SELECTED.inverseSum(real, imaginary, samples, pointNumber, cosines, sines),
+                        scalar.inverseSum(real, imaginary, samples, pointNumber, cosines, sines), 1e-6,
+                        "Wrong inverse sum for point " + pointNumber);
+            }
+        }
+    }
+
+}
@@ -1,17 +1,38 @@
 package net.spatula.dspatula.transform.fourier.discrete;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import net.spatula.dspatula.concurrent.DiscreteSystemParallelExecutor;
+import net.spatula.dspatula.concurrent.ProcessingFutures;
 import net.spatula.dspatula.exception.ProcessingException;
 import net.spatula.dspatula.signal.sine.SineWaveSignalGenerator;
 import net.spatula.dspatula.system.Adder;
+import net.spatula.dspatula.system.Magnitude;
+import net.spatula.dspatula.system.Windower;
+import net.spatula.dspatula.time.sequence.ByteSequence;
+import net.spatula.dspatula.time.sequence.ChannelLayout;
 import net.spatula.dspatula.time.sequence.ComplexSequence;
+import net.spatula.dspatula.time.sequence.DoubleComplexSequence;
+import net.spatula.dspatula.time.sequence.DoubleSequence;
+import net.spatula.dspatula.time.sequence.FloatComplexSequence;
+import net.spatula.dspatula.time.sequence.FloatSequence;
+import net.spatula.dspatula.time.sequence.InterleavedComplexSequence;
+import net.spatula.dspatula.time.sequence.MultiChannelSequence;
 import net.spatula.dspatula.time.sequence.RealSequence;
+import net.spatula.dspatula.time.sequence.SequencePool;
+import net.spatula.dspatula.time.sequence.ShortSequence;
+import net.spatula.dspatula.transform.fourier.fast.AutomaticFFTEngine;
+import net.spatula.dspatula.transform.fourier.fast.Radix2FFTEngine;
+import net.spatula.dspatula.transform.fourier.fast.Radix4FFTEngine;
 import net.spatula.dspatula.util.FastMath;
+import net.spatula.dspatula.window.Windows;
 
 public class DiscreteFourierTransformerTest {
 
@@ -98,6 +119,330 @@ public class DiscreteFourierTransformerTest {
         assertEquals(imaginaryValues[2], -1 * imaginaryValues[7]);
     }
 
+    private RealSequence twoSineWaves(int sampleRate, int samples) throws ProcessingException {
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(sampleRate);
+        final RealSequence first = generator.generate(1000, samples / (double) sampleRate, 10000, 0);
+        final RealSequence second = generator.generate(2500, samples / (double) sampleRate, 5000, (3 * FastMath.PI / 4D));
+        DiscreteSystemParallelExecutor.getDefaultInstance().execute(new Adder(), first, second);
+        return first;
+    }
+
+    private void assertClose(int[] actual, int[] expected, int tolerance) {
+        assertEquals(actual.length, expected.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertTrue(Math.abs(actual[i] - expected[i]) <= tolerance,
+                    "Mismatch at " + i + ": expected " + expected[i] + " but found " + actual[i]);
+        }
+    }
+
+    @Test
+    public void testFastForwardMatchesSummation() throws ProcessingException {
+        final RealSequence sequence = twoSineWaves(8192, 1024);
+
+        final ComplexSequence expected = new DiscreteFourierTransformer(new DFTSummationWorker()).forward(sequence);
+        final ComplexSequence radix2 = new DiscreteFourierTransformer(new Radix2FFTEngine()).forward(sequence);
+        final ComplexSequence radix4 = new DiscreteFourierTransformer(new Radix4FFTEngine()).forward(sequence);
+
+        assertClose(radix2.getRealValues(), expected.getRealValues(), 1);
+        assertClose(radix2.getImaginaryValues(), expected.getImaginaryValues(), 1);
+        assertClose(radix4.getRealValues(), expected.getRealValues(), 1);
+        assertClose(radix4.getImaginaryValues(), expected.getImaginaryValues(), 1);
+    }
+
+    @Test
+    public void testFastInverseMatchesSummation() throws ProcessingException {
+        final RealSequence sequence = twoSineWaves(8192, 512);
+        final DiscreteFourierTransformer summation = new DiscreteFourierTransformer(new DFTSummationWorker());
+        final DiscreteFourierTransformer fast = new DiscreteFourierTransformer(new Radix4FFTEngine());
+
+        final ComplexSequence frequencyDomainSequence = summation.forward(sequence);
+        final RealSequence expected = summation.inverse(frequencyDomainSequence);
+        final RealSequence actual = fast.inverse(frequencyDomainSequence);
+
+        assertClose(actual.getRealValues(), expected.getRealValues(), 1);
+    }
+
+    @Test
+    public void testAnyLengthMatchesSummation() throws ProcessingException {
+        final DiscreteFourierTransformer summation = new DiscreteFourierTransformer(new DFTSummationWorker());
+        final DiscreteFourierTransformer fast = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+
+        // 441 is 3^2 * 7^2, and 401 is prime.
+        for (final int samples : new int[] { 441, 401 }) {
+            final RealSequence sequence = twoSineWaves(44100, samples);
+            final ComplexSequence expected = summation.forward(sequence);
+            final ComplexSequence actual = fast.forward(sequence);
+            assertClose(actual.getRealValues(), expected.getRealValues(), 1);
+            assertClose(actual.getImaginaryValues(), expected.getImaginaryValues(), 1);
+            assertClose(fast.inverse(actual).getRealValues(), summation.inverse(actual).getRealValues(), 1);
+        }
+    }
+
+    @Test
+    public void testWindowedRangeMatchesPointByPoint() throws ProcessingException {
+        final RealSequence sequence = twoSineWaves(8000, 200);
+        final DFTHammingSummationWorker worker = new DFTHammingSummationWorker();
+
+        final ComplexSequence expected = new ComplexSequence(200);
+        for (int point = 0; point < 200; point++) {
+            worker.forward(point, Arrays.asList(sequence), expected);
+        }
+        final ComplexSequence actual = new ComplexSequence(200);
+        worker.forwardRange(0, 199, Arrays.asList(sequence), actual);
+
+        assertClose(actual.getRealValues(), expected.getRealValues(), 0);
+        assertClose(actual.getImaginaryValues(), expected.getImaginaryValues(), 0);
+    }
+
+    @Test
+    public void testDefaultUsesAutomaticEngine() throws ProcessingException {
+        // 44100 is 2^2 * 3^2 * 5^2 * 7^2; the summation would take a good long while over this.
+        final RealSequence sequence = twoSineWaves(44100, 44100);
+
+        final ComplexSequence expected = new DiscreteFourierTransformer(new AutomaticFFTEngine()).forward(sequence);
+        final ComplexSequence actual = new DiscreteFourierTransformer().forward(sequence);
+
+        assertClose(actual.getRealValues(), expected.getRealValues(), 0);
+        assertClose(actual.getImaginaryValues(), expected.getImaginaryValues(), 0);
+        assertEquals(actual.getImaginaryValues()[1000], -10000, 1);
+    }
+
+    @Test
+    public void testFastFallsBackToSummation() throws ProcessingException {
+        final RealSequence sequence = twoSineWaves(9000, 9);
+
+        final ComplexSequence expected = new DiscreteFourierTransformer(new DFTSummationWorker()).forward(sequence);
+        final ComplexSequence actual = new DiscreteFourierTransformer(new Radix2FFTEngine()).forward(sequence);
+
+        assertClose(actual.getRealValues(), expected.getRealValues(), 0);
+        assertClose(actual.getImaginaryValues(), expected.getImaginaryValues(), 0);
+    }
+
+    @Test
+    public void testDoubleMatchesSummation() throws ProcessingException {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer();
+
+        // 441 has no FFT of its own in the default transformer, so this also covers the automatic engine.
+        for (final int samples : new int[] { 1024, 441 }) {
+            final RealSequence sequence = twoSineWaves(44100, samples);
+            final ComplexSequence expected = transformer.forward(sequence);
+            final DoubleComplexSequence actual = transformer.forward(DoubleSequence.from(sequence));
+
+            for (int i = 0; i < samples; i++) {
+                // The integer version truncates, so it can be up to one off (plus its FastMath error).
+                assertEquals(actual.getRealValues()[i], expected.getRealValues()[i], 1.5, "Wrong real value at " + i);
+                assertEquals(actual.getImaginaryValues()[i], expected.getImaginaryValues()[i], 1.5,
+                        "Wrong imaginary value at " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleRoundTrip() {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer();
+        final int samples = 1000;
+        final DoubleSequence sequence = new DoubleSequence(samples + 10);
+        for (int i = 0; i < sequence.getLength(); i++) {
+            sequence.getRealValues()[i] = Math.sin(i * 0.0123) + 0.5 * Math.cos(i * 0.456);
+        }
+
+        // Transform a subsequence so that the start offset is exercised too.
+        final DoubleSequence window = sequence.subsequence(10, samples + 9);
+        final DoubleSequence roundTrip = transformer.inverse(transformer.forward(window));
+
+        // Forward divides by N/2 and inverse by 2, which between them account for the N of an unscaled round trip.
+        for (int i = 0; i < samples; i++) {
+            assertEquals(roundTrip.getRealValues()[i], sequence.getRealValues()[i + 10], 1e-9, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testFloatMatchesDouble() {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer();
+        final int samples = 4410;
+        final DoubleSequence doubles = new DoubleSequence(samples + 10);
+        final FloatSequence floats = new FloatSequence(samples + 10);
+        for (int i = 0; i < doubles.getLength(); i++) {
+            doubles.getRealValues()[i] = (float) (Math.sin(i * 0.0123) + 0.5 * Math.cos(i * 0.456));
+            floats.getRealValues()[i] = (float) doubles.getRealValues()[i];
+        }
+
+        final DoubleComplexSequence expected = transformer.forward(doubles.subsequence(10, samples + 9));
+        final FloatComplexSequence actual = transformer.forward(floats.subsequence(10, samples + 9));
+        assertEquals(actual.getLength(), samples);
+        for (int i = 0; i < samples; i++) {
+            assertEquals(actual.getRealValues()[i], expected.getRealValues()[i], 1e-6, "Wrong real value at " + i);
+            assertEquals(actual.getImaginaryValues()[i], expected.getImaginaryValues()[i], 1e-6, "Wrong imaginary value at " + i);
+        }
+
+        final FloatSequence roundTrip = transformer.inverse(actual);
+        for (int i = 0; i < samples; i++) {
+            assertEquals(roundTrip.getRealValues()[i], floats.getRealValues()[i + 10], 1e-5, "Wrong value at " + i);
+        }
+    }
+
+    @Test
+    public void testInterleavedMatchesSplit() throws ProcessingException {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+
+        for (final int samples : new int[] { 1024, 441 }) {
+            final RealSequence sequence = twoSineWaves(44100, samples);
+            final ComplexSequence expected = transformer.forward(sequence);
+            final InterleavedComplexSequence actual = transformer.forwardInterleaved(sequence);
+
+            final ComplexSequence split = actual.toComplexSequence();
+            assertClose(split.getRealValues(), expected.getRealValues(), 0);
+            assertClose(split.getImaginaryValues(), expected.getImaginaryValues(), 0);
+            assertClose(transformer.inverse(actual).getRealValues(), transformer.inverse(expected).getRealValues(), 0);
+        }
+    }
+
+    @Test
+    public void testInterleavedIntoOutput() throws ProcessingException {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+        final int samples = 441;
+        final InterleavedComplexSequence frequencies = new InterleavedComplexSequence(samples);
+        final RealSequence time = new RealSequence(samples);
+
+        // The same outputs, frame after frame, come back with each frame's own results.
+        for (final int sampleRate : new int[] { 44100, 22050 }) {
+            final RealSequence sequence = twoSineWaves(sampleRate, samples + 10).subsequence(10, samples + 9);
+            final InterleavedComplexSequence expected = transformer.forwardInterleaved(sequence);
+
+            assertSame(transformer.forwardInterleaved(sequence, frequencies), frequencies);
+            assertClose(frequencies.getValues(), expected.getValues(), 0);
+            assertSame(transformer.inverse(frequencies, time), time);
+            assertClose(time.getRealValues(), transformer.inverse(expected).getRealValues(), 0);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInterleavedOutputWrongLength() {
+        new DiscreteFourierTransformer().forwardInterleaved(new RealSequence(64), new InterleavedComplexSequence(32));
+    }
+
+    @Test
+    public void testCompactSequencesMatchWidened() throws ProcessingException {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+
+        for (final int samples : new int[] { 1024, 441 }) {
+            final RealSequence sequence = twoSineWaves(44100, samples + 100).subsequence(100, samples + 99);
+
+            final ShortSequence shorts = ShortSequence.from(sequence);
+            final ComplexSequence expectedShorts = transformer.forward(shorts.toRealSequence());
+            final ComplexSequence actualShorts = transformer.forward(shorts);
+            assertClose(actualShorts.getRealValues(), expectedShorts.getRealValues(), 0);
+            assertClose(actualShorts.getImaginaryValues(), expectedShorts.getImaginaryValues(), 0);
+
+            final ByteSequence bytes = ByteSequence.from(sequence);
+            final ComplexSequence expectedBytes = transformer.forward(bytes.toRealSequence());
+            final ComplexSequence actualBytes = transformer.forward(bytes);
+            assertClose(actualBytes.getRealValues(), expectedBytes.getRealValues(), 0);
+            assertClose(actualBytes.getImaginaryValues(), expectedBytes.getImaginaryValues(), 0);
+        }
+    }
+
+    @Test
+    public void testMultiChannel() throws ProcessingException {
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(8000);
+
+        final RealSequence[] channels = new RealSequence[6];
+        for (int channel = 0; channel < channels.length; channel++) {
+            channels[channel] = generator.generate(250 * (channel + 1), 0.064, 1000, channel);
+        }
+
+        for (final ChannelLayout layout : ChannelLayout.values()) {
+            final List<ComplexSequence> spectra = transformer.forward(MultiChannelSequence.from(layout, channels));
+            assertEquals(spectra.size(), channels.length);
+            for (int channel = 0; channel < channels.length; channel++) {
+                final ComplexSequence expected = transformer.forward(channels[channel]);
+                assertClose(spectra.get(channel).getRealValues(), expected.getRealValues(), 0);
+                assertClose(spectra.get(channel).getImaginaryValues(), expected.getImaginaryValues(), 0);
+            }
+
+            final MultiChannelSequence inverse = transformer.inverse(spectra, layout);
+            assertEquals(inverse.getLayout(), layout);
+            for (int channel = 0; channel < channels.length; channel++) {
+                final RealSequence expected = transformer.inverse(transformer.forward(channels[channel]));
+                assertClose(inverse.getChannel(channel).toRealSequence().getRealValues(), expected.getRealValues(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testPooledOutputs() throws ProcessingException {
+        final SequencePool pool = new SequencePool();
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(8000);
+
+        for (final DiscreteFourierTransformer transformer : new DiscreteFourierTransformer[] {
+                new DiscreteFourierTransformer(new DFTSummationWorker()),
+                new DiscreteFourierTransformer(new Radix4FFTEngine()) }) {
+            final RealSequence expectedWave = generator.generate(1000, 0.064, 1000, 0);
+            final ComplexSequence expected = transformer.forward(expectedWave);
+            final RealSequence expectedInverse = transformer.inverse(expected);
+
+            // Run a few frames through the same pooled buffers, dirtying them as we go.
+            for (int frame = 0; frame < 3; frame++) {
+                final RealSequence wave = generator.generate(1000, 1000, 0, pool.borrowRealSequence(512));
+                final ComplexSequence spectrum = transformer.forward(wave, pool.borrowComplexSequence(512));
+                final RealSequence inverse = transformer.inverse(spectrum, pool.borrowRealSequence(512));
+
+                assertClose(wave.getRealValues(), expectedWave.getRealValues(), 0);
+                assertClose(Arrays.copyOf(spectrum.getRealValues(), 512), expected.getRealValues(), 0);
+                assertClose(Arrays.copyOf(spectrum.getImaginaryValues(), 512), expected.getImaginaryValues(), 0);
+                assertClose(Arrays.copyOf(inverse.getRealValues(), 512), expectedInverse.getRealValues(), 0);
+
+                pool.returnSequence(wave);
+                pool.returnSequence(spectrum);
+                pool.returnSequence(inverse);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testWrongOutputLength() throws ProcessingException {
+        new DiscreteFourierTransformer().forward(new RealSequence(16), new ComplexSequence(15));
+    }
+
+    @Test
+    public void testAsyncMatchesBlocking() throws ProcessingException {
+        final RealSequence sequence = twoSineWaves(8000, 400);
+
+        for (final DiscreteFourierTransformer transformer : new DiscreteFourierTransformer[] {
+                new DiscreteFourierTransformer(new DFTSummationWorker()),
+                new DiscreteFourierTransformer(new AutomaticFFTEngine()) }) {
+            final ComplexSequence expected = transformer.forward(sequence);
+            final ComplexSequence actual = ProcessingFutures.getProcessingResult(transformer.forwardAsync(sequence));
+            assertClose(actual.getRealValues(), expected.getRealValues(), 0);
+            assertClose(actual.getImaginaryValues(), expected.getImaginaryValues(), 0);
+
+            final RealSequence inverse = ProcessingFutures.getProcessingResult(transformer.inverseAsync(actual));
+            assertClose(inverse.getRealValues(), transformer.inverse(expected).getRealValues(), 0);
+        }
+    }
+
+    @Test
+    public void testAsyncChain() throws ProcessingException {
+        final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(8000);
+        final DiscreteFourierTransformer transformer = new DiscreteFourierTransformer(new AutomaticFFTEngine());
+        final DiscreteSystemParallelExecutor executor = DiscreteSystemParallelExecutor.getDefaultInstance();
+
+        final ComplexSequence spectrum = ProcessingFutures.getProcessingResult(generator.generateAsync(1000, 0.128, 1000, 0)
+                .thenCompose(wave -> executor.executeAsync(new Windower(Windows.HANNING, wave), wave).thenApply(ignored -> wave))
+                .thenCompose(transformer::forwardAsync)
+                .thenCompose(frequencies -> executor.executeAsync(new Magnitude(), frequencies).thenApply(ignored -> frequencies)));
+
+        final RealSequence wave = generator.generate(1000, 0.128, 1000, 0);
+        executor.execute(new Windower(Windows.HANNING, wave), wave);
+        final ComplexSequence expected = transformer.forward(wave);
+        executor.execute(new Magnitude(), expected);
+
+        assertClose(spectrum.getRealValues(), expected.getRealValues(), 0);
+        // 1 kHz at 8 kHz over 1024 points lands in bucket 128, at half amplitude thanks to the Hanning window.
+        assertEquals(spectrum.getRealValues()[128], 500, 2);
+    }
+
     @Test(enabled = false)
     public void testBigDft() throws ProcessingException {
         final SineWaveSignalGenerator generator = new SineWaveSignalGenerator(22050);
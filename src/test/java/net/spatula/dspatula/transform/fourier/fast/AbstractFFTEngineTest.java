@@ -0,0 +1,125 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+public abstract class AbstractFFTEngineTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    protected abstract FFTEngine getEngine();
+
+    protected int[] getSupportedLengths() {
+        return new int[] { 1, 2, 4, 8, 16, 32, 64, 128, 1024, 2048 };
+    }
+
+    protected int[] getUnsupportedLengths() {
+        return new int[] { 0, 3, 6, 100, 1000 };
+    }
+
+    // The definition of the DFT, calculated the slow way with Java's own trig functions.
+    private void naiveDft(double[] real, double[] imaginary, double[] resultReal, double[] resultImaginary) {
+        final int points = real.length;
+        for (int k = 0; k < points; k++) {
+            double realSum = 0;
+            double imaginarySum = 0;
+            for (int n = 0; n < points; n++) {
+                final double angle = 2 * Math.PI * ((long) n * k % points) / points;
+                realSum += real[n] * Math.cos(angle) + imaginary[n] * Math.sin(angle);
+                imaginarySum += imaginary[n] * Math.cos(angle) - real[n] * Math.sin(angle);
+            }
+            resultReal[k] = realSum;
+            resultImaginary[k] = imaginarySum;
+        }
+    }
+
+    @Test
+    public void testSupports() {
+        final FFTEngine engine = getEngine();
+        for (final int length : getSupportedLengths()) {
+            assertTrue(engine.supports(length), "Should support " + length);
+        }
+        for (final int length : getUnsupportedLengths()) {
+            assertFalse(engine.supports(length), "Should not support " + length);
+        }
+    }
+
+    @Test
+    public void testMatchesDefinition() {
+        final FFTEngine engine = getEngine();
+        final Random random = new Random(8675309L);
+        for (final int points : getSupportedLengths()) {
+            final double[] real = new double[points];
+            final double[] imaginary = new double[points];
+            for (int i = 0; i < points; i++) {
+                real[i] = random.nextDouble() * 2 - 1;
+                imaginary[i] = random.nextDouble() * 2 - 1;
+            }
+            final double[] expectedReal = new double[points];
+            final double[] expectedImaginary = new double[points];
+            naiveDft(real, imaginary, expectedReal, expectedImaginary);
+
+            engine.transform(real, imaginary);
+
+            for (int i = 0; i < points; i++) {
+                assertEquals(real[i], expectedReal[i], TOLERANCE * points, "Real mismatch at " + i + " of " + points);
+                assertEquals(imaginary[i], expectedImaginary[i], TOLERANCE * points,
+                        "Imaginary mismatch at " + i + " of " + points);
+            }
+        }
+    }
+
+    /**
+     * Engines keep plans and working arrays from one call to the next; make sure nothing left over from a previous transform, of the
+     * same length or another, leaks into the next one.
+     */
+    @Test
+    public void testRepeatedTransforms() {
+        final FFTEngine engine = getEngine();
+        final Random random = new Random(5551212L);
+        for (int pass = 0; pass < 2; pass++) {
+            for (final int points : getSupportedLengths()) {
+                final double[] real = new double[points];
+                final double[] imaginary = new double[points];
+                for (int i = 0; i < points; i++) {
+                    real[i] = random.nextDouble() * 2 - 1;
+                    imaginary[i] = random.nextDouble() * 2 - 1;
+                }
+                final double[] expectedReal = new double[points];
+                final double[] expectedImaginary = new double[points];
+                naiveDft(real, imaginary, expectedReal, expectedImaginary);
+
+                engine.transform(real, imaginary);
+
+                for (int i = 0; i < points; i++) {
+                    assertEquals(real[i], expectedReal[i], TOLERANCE * points, "Real mismatch at " + i + " of " + points);
+                    assertEquals(imaginary[i], expectedImaginary[i], TOLERANCE * points,
+                            "Imaginary mismatch at " + i + " of " + points);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testImpulse() {
+        final FFTEngine engine = getEngine();
+        final int points = getSupportedLengths()[getSupportedLengths().length - 1];
+        final double[] real = new double[points];
+        final double[] imaginary = new double[points];
+        real[0] = 1;
+
+        engine.transform(real, imaginary);
+
+        // A unit impulse contains every frequency in equal measure.
+        for (int i = 0; i < points; i++) {
+            assertEquals(real[i], 1, TOLERANCE);
+            assertEquals(imaginary[i], 0, TOLERANCE);
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import static org.testng.Assert.assertTrue;
+
+import org.testng.annotations.Test;
+
+public class AutomaticFFTEngineTest extends AbstractFFTEngineTest {
+
+    @Override
+    protected FFTEngine getEngine() {
+        return new AutomaticFFTEngine();
+    }
+
+    @Override
+    protected int[] getSupportedLengths() {
+        return new int[] { 1, 8, 12, 17, 256, 441, 1009, 2048 };
+    }
+
+    @Override
+    protected int[] getUnsupportedLengths() {
+        return new int[] { 0 };
+    }
+
+    @Test
+    public void testSelect() {
+        final AutomaticFFTEngine engine = new AutomaticFFTEngine();
+        assertTrue(engine.select(65536) instanceof Radix4FFTEngine);
+        assertTrue(engine.select(44100) instanceof MixedRadixFFTEngine);
+        assertTrue(engine.select(44101) instanceof BluesteinFFTEngine);
+    }
+
+}
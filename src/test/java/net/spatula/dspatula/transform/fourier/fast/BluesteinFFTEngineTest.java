@@ -0,0 +1,20 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+public class BluesteinFFTEngineTest extends AbstractFFTEngineTest {
+
+    @Override
+    protected FFTEngine getEngine() {
+        return new BluesteinFFTEngine();
+    }
+
+    @Override
+    protected int[] getSupportedLengths() {
+        return new int[] { 1, 2, 3, 7, 11, 13, 16, 97, 100, 1009 };
+    }
+
+    @Override
+    protected int[] getUnsupportedLengths() {
+        return new int[] { 0, -1 };
+    }
+
+}
@@ -0,0 +1,31 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+public class MixedRadixFFTEngineTest extends AbstractFFTEngineTest {
+
+    @Override
+    protected FFTEngine getEngine() {
+        return new MixedRadixFFTEngine();
+    }
+
+    @Override
+    protected int[] getSupportedLengths() {
+        return new int[] { 1, 2, 3, 5, 6, 7, 9, 12, 30, 49, 64, 210, 441, 1000, 2205 };
+    }
+
+    @Override
+    protected int[] getUnsupportedLengths() {
+        return new int[] { 0, 11, 13, 22, 1009 };
+    }
+
+    @Test
+    public void testFactor() {
+        assertEquals(MixedRadixFFTEngine.factor(44100), new int[] { 4, 3, 3, 5, 5, 7, 7 });
+        assertEquals(MixedRadixFFTEngine.factor(32), new int[] { 4, 4, 2 });
+        assertEquals(MixedRadixFFTEngine.factor(1), new int[] {});
+    }
+
+}
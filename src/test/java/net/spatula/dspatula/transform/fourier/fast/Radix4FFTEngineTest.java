@@ -0,0 +1,10 @@
+package net.spatula.dspatula.transform.fourier.fast;
+
+public class Radix4FFTEngineTest extends AbstractFFTEngineTest {
+
+    @Override
+    protected FFTEngine getEngine() {
+        return new Radix4FFTEngine();
+    }
+
+}
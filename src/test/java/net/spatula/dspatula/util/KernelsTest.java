@@ -0,0 +1,58 @@
+package net.spatula.dspatula.util;
+
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+public class KernelsTest {
+
+    public static final class Broken extends ArrayList<Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        public Broken() {
+            throw new UnsupportedOperationException("No SIMD here");
+        }
+    }
+
+    @Test
+    public void testSelect() {
+        final List<Object> scalar = new ArrayList<>();
+        assertTrue(Kernels.select(List.class, "java.util.LinkedList", scalar) instanceof java.util.LinkedList);
+    }
+
+    @Test
+    public void testFallBack() {
+        final List<Object> scalar = new ArrayList<>();
+        // Not there at all, as on a JVM older than the vector classes
+        assertSame(Kernels.select(List.class, "net.spatula.dspatula.NoSuchKernels", scalar), scalar);
+        // There, but not interested
+        assertSame(Kernels.select(List.class, Broken.class.getName(), scalar), scalar);
+        // There, but the wrong thing altogether
+        assertSame(Kernels.select(List.class, "java.lang.Object", scalar), scalar);
+    }
+
+    @Test
+    public void testDisabled() {
+        final List<Object> scalar = new ArrayList<>();
+        System.setProperty(Kernels.VECTOR_PROPERTY, "false");
+        try {
+            assertSame(Kernels.select(List.class, "java.util.LinkedList", scalar), scalar);
+        } finally {
+            System.clearProperty(Kernels.VECTOR_PROPERTY);
+        }
+    }
+
+    /**
+     * @return true if this JVM is new enough for the Java 17 part of the jar
+     */
+    public static boolean isJava17() {
+        final String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 17;
+    }
+
+}
@@ -0,0 +1,77 @@
+package net.spatula.dspatula.window;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+
+import org.testng.annotations.Test;
+
+public class WindowTest {
+
+    private static final double TOLERANCE = 0.0000001;
+
+    @Test
+    public void testHamming() {
+        final double[] coefficients = Windows.HAMMING.getTable(64).getCoefficients();
+        assertEquals(coefficients[0], 0.08, TOLERANCE);
+        assertEquals(coefficients[32], 1.0, TOLERANCE);
+        assertEquals(coefficients[16], 0.54, TOLERANCE);
+    }
+
+    @Test
+    public void testHanning() {
+        final double[] coefficients = Windows.HANNING.getTable(64).getCoefficients();
+        assertEquals(coefficients[0], 0.0, TOLERANCE);
+        assertEquals(coefficients[32], 1.0, TOLERANCE);
+        assertEquals(coefficients[16], 0.5, TOLERANCE);
+    }
+
+    @Test
+    public void testBlackman() {
+        final double[] coefficients = Windows.BLACKMAN.getTable(64).getCoefficients();
+        assertEquals(coefficients[0], 0.0, TOLERANCE);
+        assertEquals(coefficients[32], 1.0, TOLERANCE);
+    }
+
+    @Test
+    public void testBlackmanHarris() {
+        final double[] coefficients = Windows.BLACKMAN_HARRIS.getTable(64).getCoefficients();
+        assertEquals(coefficients[0], 0.00006, TOLERANCE);
+        assertEquals(coefficients[32], 1.0, TOLERANCE);
+    }
+
+    @Test
+    public void testFlatTop() {
+        final double[] coefficients = Windows.FLAT_TOP.getTable(64).getCoefficients();
+        assertEquals(coefficients[32], 1.0, 0.00001);
+        assertEquals(coefficients[0], -0.000421, 0.000001); // flat-top dips just below zero at the ends
+    }
+
+    @Test
+    public void testKaiser() {
+        final double[] rectangular = Windows.kaiser(0).getTable(16).getCoefficients();
+        for (final double coefficient : rectangular) {
+            assertEquals(coefficient, 1.0, TOLERANCE);
+        }
+
+        final double[] coefficients = Windows.kaiser(8.6).getTable(64).getCoefficients();
+        assertEquals(coefficients[32], 1.0, TOLERANCE);
+        assertEquals(coefficients[0], 1 / KaiserWindow.besselI0(8.6), TOLERANCE);
+    }
+
+    @Test
+    public void testBesselI0() {
+        assertEquals(KaiserWindow.besselI0(0), 1.0, TOLERANCE);
+        assertEquals(KaiserWindow.besselI0(1), 1.2660658777520082, TOLERANCE);
+        assertEquals(KaiserWindow.besselI0(5), 27.239871823604442, TOLERANCE);
+    }
+
+    @Test
+    public void testTablesShared() {
+        assertSame(Windows.HAMMING.getTable(1024), new CosineSumWindow(0.54D, 0.46D).getTable(1024));
+        assertSame(Windows.kaiser(3).getTable(1024), Windows.kaiser(3).getTable(1024));
+        assertNotEquals(Windows.kaiser(3), Windows.kaiser(4));
+        assertNotEquals(Windows.HAMMING, Windows.HANNING);
+    }
+
+}